@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing;
+
+/**
+ * Listener of a call participants changes, it is notified once per call event instead of notifying each
+ * participant user (as {@link UserCallListener} does). This listener used when
+ * {@link WebConferencingService#isCallChannelBroadcast()} is enabled and an implementation is expected to
+ * publish the event to all clients of the call at once (e.g. in its CometD channel).
+ */
+public abstract class CallChannelListener {
+
+  /**
+   * On participant joined.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the caller id
+   * @param ownerType the caller type
+   * @param partId the participant user id
+   */
+  public abstract void onPartJoined(String callId, String providerType, String ownerId, String ownerType, String partId);
+
+  /**
+   * On participant leaved.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the caller id
+   * @param ownerType the caller type
+   * @param partId the participant user id
+   */
+  public abstract void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId);
+}
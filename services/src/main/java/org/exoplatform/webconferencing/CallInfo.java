@@ -21,7 +21,10 @@ package org.exoplatform.webconferencing;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.exoplatform.services.log.ExoLogger;
@@ -111,8 +114,20 @@ public class CallInfo {
   /** The title. */
   protected final String        title;
 
-  /** The participants. */
-  protected final Set<UserInfo> participants = new LinkedHashSet<>();
+  /** The participants (mapped to themselves to let find an actual instance of equal participant). */
+  protected final Map<UserInfo, UserInfo> participants = new LinkedHashMap<>();
+
+  /** The eXo users and guests participants by their IDs. */
+  protected final Map<String, UserInfo>   participantsById = new HashMap<>();
+
+  /** The number of participants not leaved the call. */
+  protected int                           joinedNum;
+
+  /** The number of guests not leaved the call. */
+  protected int                           joinedGuestsNum;
+
+  /** The number of eXo users and guests leaved the call (or not yet joined). */
+  protected int                           leavedNum;
   
   /** The origins. */
   protected final Set<OriginInfo> origins = new LinkedHashSet<>();
@@ -173,12 +188,94 @@ public class CallInfo {
   }
 
   /**
-   * Gets the participants (actual users for the call).
+   * Gets the participants (actual users for the call). Returned set is a snapshot of the participants at the
+   * moment of the call, as the call info may be shared between concurrent requests for active calls.
    *
    * @return the participants
    */
   public Set<UserInfo> getParticipants() {
-    return Collections.unmodifiableSet(participants);
+    synchronized (participants) {
+      return Collections.unmodifiableSet(new LinkedHashSet<>(participants.keySet()));
+    }
+  }
+
+  /**
+   * Gets the participant (eXo user or guest) by its ID.
+   *
+   * @param id the participant id
+   * @return the participant or <code>null</code> if not found
+   */
+  public UserInfo getParticipant(String id) {
+    synchronized (participants) {
+      return participantsById.get(id);
+    }
+  }
+
+  /**
+   * Gets the number of participants.
+   *
+   * @return the participants number
+   */
+  public int getParticipantsCount() {
+    synchronized (participants) {
+      return participants.size();
+    }
+  }
+
+  /**
+   * Gets the number of participants joined the call (including guests).
+   *
+   * @return the joined participants number
+   */
+  public int getJoinedCount() {
+    synchronized (participants) {
+      return joinedNum;
+    }
+  }
+
+  /**
+   * Gets the number of guests joined the call.
+   *
+   * @return the joined guests number
+   */
+  public int getJoinedGuestsCount() {
+    synchronized (participants) {
+      return joinedGuestsNum;
+    }
+  }
+
+  /**
+   * Gets the number of eXo users and guests leaved the call or not yet joined it.
+   *
+   * @return the leaved participants number
+   */
+  public int getLeavedCount() {
+    synchronized (participants) {
+      return leavedNum;
+    }
+  }
+
+  /**
+   * Sets the participant state and client ID. If participant belongs to this call, the call counters of joined
+   * and leaved participants will be updated accordingly. Participant states of a call should be changed via
+   * this method.
+   *
+   * @param part the participant
+   * @param state the state
+   * @param clientId the client id
+   */
+  public void setParticipantState(UserInfo part, String state, String clientId) {
+    synchronized (participants) {
+      boolean counted = participants.get(part) == part;
+      if (counted) {
+        count(part, -1);
+      }
+      part.setState(state);
+      part.setClientId(clientId);
+      if (counted) {
+        count(part, 1);
+      }
+    }
   }
   
   /**
@@ -245,7 +342,14 @@ public class CallInfo {
    * @param part the part
    */
   public void addParticipant(UserInfo part) {
-    participants.add(part);
+    synchronized (participants) {
+      if (participants.putIfAbsent(part, part) == null) {
+        if (isUserOrGuest(part)) {
+          participantsById.putIfAbsent(part.getId(), part);
+        }
+        count(part, 1);
+      }
+    }
   }
 
   /**
@@ -265,7 +369,51 @@ public class CallInfo {
    * @param part the part
    */
   public void removeParticipant(UserInfo part) {
-    participants.remove(part);
+    synchronized (participants) {
+      UserInfo existing = participants.remove(part);
+      if (existing != null) {
+        if (participantsById.remove(existing.getId(), existing)) {
+          // Find another participant with the same ID (of another type), if any
+          for (UserInfo p : participants.keySet()) {
+            if (isUserOrGuest(p) && p.getId().equals(existing.getId())) {
+              participantsById.put(p.getId(), p);
+              break;
+            }
+          }
+        }
+        count(existing, -1);
+      }
+    }
+  }
+
+  /**
+   * Update the participants counters with given participant.
+   *
+   * @param part the participant
+   * @param delta the delta: 1 to count the participant, -1 to discount it
+   */
+  private void count(UserInfo part, int delta) {
+    boolean leaved = part.getState() == null || UserState.LEAVED.equals(part.getState());
+    if (leaved) {
+      if (isUserOrGuest(part)) {
+        leavedNum += delta;
+      }
+    } else {
+      joinedNum += delta;
+      if (GuestInfo.TYPE_NAME.equals(part.getType())) {
+        joinedGuestsNum += delta;
+      }
+    }
+  }
+
+  /**
+   * Checks if participant is an eXo user or a guest.
+   *
+   * @param part the participant
+   * @return <code>true</code>, if it's user or guest
+   */
+  private static boolean isUserOrGuest(UserInfo part) {
+    return UserInfo.TYPE_NAME.equals(part.getType()) || GuestInfo.TYPE_NAME.equals(part.getType());
   }
   
   /**
@@ -358,6 +506,28 @@ public class CallInfo {
     this.endDate = endDate;
   }
   
+  /**
+   * Copy the call info with its actual state and participants states. A copy will not be affected by further
+   * changes of this call, it is useful to return a call shared between requests to external code.
+   *
+   * @return the call info copy
+   */
+  public CallInfo copy() {
+    CallInfo copy = new CallInfo(id, title, owner, providerType);
+    synchronized (participants) {
+      for (UserInfo part : participants.keySet()) {
+        copy.addParticipant(part.copy());
+      }
+    }
+    copy.addOrigins(origins);
+    copy.setState(state);
+    copy.setLastDate(lastDate);
+    copy.setStartDate(startDate);
+    copy.setEndDate(endDate);
+    copy.setInviteId(inviteId);
+    return copy;
+  }
+
   /**
    * Return JSON representation of this call.
    *
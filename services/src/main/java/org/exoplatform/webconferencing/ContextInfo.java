@@ -51,6 +51,9 @@ public class ContextInfo {
   /** The providers config. */
   private final Set<CallProviderConfiguration> providersConfig;
 
+  /** The call channel events: participants changes published in call channel instead of user channel. */
+  private boolean                              callChannelEvents;
+
   /** The locale resources. */
   private final Map<String, String>                  messages = new HashMap<String, String>();
 
@@ -145,6 +148,25 @@ public class ContextInfo {
     return providersConfig;
   }
 
+  /**
+   * Checks if participants changes (joined, leaved) of other users will be published in a call channel
+   * instead of user channel.
+   *
+   * @return true, if call channel events
+   */
+  public boolean isCallChannelEvents() {
+    return callChannelEvents;
+  }
+
+  /**
+   * Sets the call channel events.
+   *
+   * @param callChannelEvents the new call channel events
+   */
+  public void setCallChannelEvents(boolean callChannelEvents) {
+    this.callChannelEvents = callChannelEvents;
+  }
+
   /**
    * Gets the localized messages.
    *
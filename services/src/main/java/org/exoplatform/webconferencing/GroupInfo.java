@@ -19,9 +19,11 @@
  */
 package org.exoplatform.webconferencing;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -35,12 +37,34 @@ import java.util.Map;
  */
 public abstract class GroupInfo extends IdentityInfo {
 
+  /**
+   * Resolver of group member IDs to users. It lets a group to materialize its members lazily, only when they
+   * are actually requested.
+   */
+  @FunctionalInterface
+  public interface MemberResolver {
+
+    /**
+     * Resolve members by their IDs.
+     *
+     * @param ids the member IDs
+     * @return the map of found members by their IDs, members that cannot be found should not be in the map
+     */
+    Map<String, UserInfo> resolve(Collection<String> ids);
+  }
+
   /** The group call id. */
   protected String                      callId;
 
-  /** The members. */
+  /** The members (mapped by ID, a value is <code>null</code> for not yet resolved member). */
   protected final Map<String, UserInfo> members = new LinkedHashMap<>();
 
+  /** The member resolver for lazily added members. */
+  protected MemberResolver              memberResolver;
+
+  /** The number of not yet resolved members. */
+  protected int                         unresolvedNum;
+
   /**
    * Instantiates a new group info.
    *
@@ -77,12 +101,86 @@ public abstract class GroupInfo extends IdentityInfo {
   }
 
   /**
-   * Gets the members.
+   * Gets the members. Members added lazily will be resolved by this method, thus if only a membership check
+   * or some members required, use {@link #isMember(String)} or {@link #getMembers(Collection)}.
    *
    * @return the members
    */
   public Map<String, UserInfo> getMembers() {
-    return Collections.unmodifiableMap(members);
+    synchronized (members) {
+      if (unresolvedNum > 0) {
+        resolveMembers(new ArrayList<>(members.keySet()));
+      }
+      return Collections.unmodifiableMap(members);
+    }
+  }
+
+  /**
+   * Gets a page of the members. Only members of the page will be resolved if they were added lazily. Members
+   * that cannot be resolved will be skipped, thus the page can contain less than the limit of members.
+   *
+   * @param offset the offset of the first member
+   * @param limit the max number of members
+   * @return the members
+   */
+  public Map<String, UserInfo> getMembers(int offset, int limit) {
+    synchronized (members) {
+      List<String> ids = new ArrayList<>(members.keySet());
+      int from = Math.min(Math.max(offset, 0), ids.size());
+      int to = Math.min(from + Math.max(limit, 0), ids.size());
+      return getMembers(ids.subList(from, to));
+    }
+  }
+
+  /**
+   * Gets the members with given IDs. Only these members will be resolved if they were added lazily. IDs not
+   * of this group members and members that cannot be resolved will be skipped.
+   *
+   * @param ids the member IDs
+   * @return the members, in order of given IDs
+   */
+  public Map<String, UserInfo> getMembers(Collection<String> ids) {
+    synchronized (members) {
+      if (unresolvedNum > 0) {
+        resolveMembers(ids);
+      }
+      Map<String, UserInfo> found = new LinkedHashMap<>();
+      for (String id : ids) {
+        UserInfo user = members.get(id);
+        if (user != null) {
+          found.put(id, user);
+        }
+      }
+      return Collections.unmodifiableMap(found);
+    }
+  }
+
+  /**
+   * Gets the member IDs. This method will not resolve lazily added members, thus some IDs may be of members
+   * that cannot be resolved (and will be skipped by {@link #getMembers()}).
+   *
+   * @return the member IDs
+   */
+  public List<String> getMemberIds() {
+    synchronized (members) {
+      return Collections.unmodifiableList(new ArrayList<>(members.keySet()));
+    }
+  }
+
+  /**
+   * Checks if given ID is of a member of this group. If the member was added lazily, only it will be
+   * resolved, and a member that cannot be resolved is not a member (as for {@link #getMembers()}).
+   *
+   * @param id the member ID
+   * @return <code>true</code>, if it is a member
+   */
+  public boolean isMember(String id) {
+    synchronized (members) {
+      if (members.containsKey(id) && members.get(id) == null) {
+        resolveMembers(Collections.singletonList(id));
+      }
+      return members.get(id) != null;
+    }
   }
 
   /**
@@ -91,7 +189,36 @@ public abstract class GroupInfo extends IdentityInfo {
    * @param user the user
    */
   protected void addMember(UserInfo user) {
-    members.put(user.getId(), user);
+    synchronized (members) {
+      if (members.containsKey(user.getId()) && members.get(user.getId()) == null) {
+        unresolvedNum--;
+      }
+      members.put(user.getId(), user);
+    }
+  }
+
+  /**
+   * Adds the member by its ID, it will be resolved by the group's {@link MemberResolver} when requested. If
+   * such member already exists, nothing will be changed.
+   *
+   * @param id the member ID
+   */
+  protected void addMemberId(String id) {
+    synchronized (members) {
+      if (!members.containsKey(id)) {
+        members.put(id, null);
+        unresolvedNum++;
+      }
+    }
+  }
+
+  /**
+   * Sets the member resolver for lazily added members.
+   *
+   * @param memberResolver the member resolver
+   */
+  protected void setMemberResolver(MemberResolver memberResolver) {
+    this.memberResolver = memberResolver;
   }
 
   /**
@@ -111,9 +238,39 @@ public abstract class GroupInfo extends IdentityInfo {
    * @param users the users
    */
   protected void setMembers(Collection<UserInfo> users) {
-    members.clear();
-    for (UserInfo u : users) {
-      addMember(u);
+    synchronized (members) {
+      members.clear();
+      unresolvedNum = 0;
+      for (UserInfo u : users) {
+        addMember(u);
+      }
+    }
+  }
+
+  /**
+   * Resolve not yet resolved members with given IDs. Members that cannot be resolved will be removed. Should be
+   * called under the members lock.
+   *
+   * @param ids the member IDs
+   */
+  private void resolveMembers(Collection<String> ids) {
+    List<String> unresolved = new ArrayList<>();
+    for (String id : ids) {
+      if (members.containsKey(id) && members.get(id) == null) {
+        unresolved.add(id);
+      }
+    }
+    if (unresolved.size() > 0) {
+      Map<String, UserInfo> resolved = memberResolver != null ? memberResolver.resolve(unresolved) : Collections.emptyMap();
+      for (String id : unresolved) {
+        UserInfo user = resolved.get(id);
+        if (user != null) {
+          members.put(id, user);
+        } else {
+          members.remove(id);
+        }
+        unresolvedNum--;
+      }
     }
   }
 
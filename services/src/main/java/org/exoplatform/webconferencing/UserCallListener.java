@@ -18,6 +18,8 @@
  */
 package org.exoplatform.webconferencing;
 
+import java.util.Collection;
+
 /**
  * Created by The eXo Platform SAS.
  *
@@ -131,4 +133,29 @@ public abstract class UserCallListener {
    */
   public abstract void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId);
 
+  /**
+   * On participants changed: several participants joined or leaved the call during a short time. By default
+   * this method will invoke {@link #onPartJoined(String, String, String, String, String)} for each joined
+   * participant, and then {@link #onPartLeaved(String, String, String, String, String)} for each leaved one.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the caller id
+   * @param ownerType the caller type
+   * @param joined the joined participants user ids
+   * @param leaved the leaved participants user ids
+   */
+  public void onPartsChanged(String callId,
+                             String providerType,
+                             String ownerId,
+                             String ownerType,
+                             Collection<String> joined,
+                             Collection<String> leaved) {
+    for (String partId : joined) {
+      onPartJoined(callId, providerType, ownerId, ownerType, partId);
+    }
+    for (String partId : leaved) {
+      onPartLeaved(callId, providerType, ownerId, ownerType, partId);
+    }
+  }
 }
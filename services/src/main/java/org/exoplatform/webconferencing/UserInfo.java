@@ -37,7 +37,7 @@ import org.exoplatform.services.log.Log;
  * @author <a href="mailto:pnedonosko@exoplatform.com">Peter Nedonosko</a>
  * @version $Id: UserInfo.java 00000 Feb 23, 2017 pnedonosko $
  */
-public class UserInfo extends IdentityInfo {
+public class UserInfo extends IdentityInfo implements Cloneable {
 
   /** The Constant TYPE_NAME. */
   public static final String TYPE_NAME = "user".intern();
@@ -212,11 +212,12 @@ public class UserInfo extends IdentityInfo {
   }
 
   /**
-   * Sets the state.
+   * Sets the state. Participant states of a call should be changed via
+   * {@link CallInfo#setParticipantState(UserInfo, String, String)} which keeps the call counters.
    *
    * @param state the new state
    */
-  public void setState(String state) {
+  void setState(String state) {
     this.state = state;
   }
 
@@ -248,4 +249,17 @@ public class UserInfo extends IdentityInfo {
     return this.clientId != null && this.clientId.equals(clientId);
   }
 
+  /**
+   * Copy the user info with its actual state and client ID. Other data is shared with the copy.
+   *
+   * @return the user info copy
+   */
+  public UserInfo copy() {
+    try {
+      return (UserInfo) super.clone();
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException("Cannot copy user info: " + getId(), e);
+    }
+  }
+
 }
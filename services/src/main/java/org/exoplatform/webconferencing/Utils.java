@@ -160,6 +160,7 @@ public class Utils {
                                 cometdService.getCometdServerPath(),
                                 cometdService.getUserToken(userId),
                                 webConferencing.getProviderConfigurations());
+      context.setCallChannelEvents(webConferencing.isCallChannelBroadcast());
     } else {
       context = new ContextInfo(exo.getContext().getName(),
                                 spacePrettyName,
@@ -20,6 +20,7 @@ package org.exoplatform.webconferencing;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.sql.SQLException;
@@ -37,12 +38,28 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -65,6 +82,7 @@ import org.exoplatform.commons.api.settings.data.Context;
 import org.exoplatform.commons.api.settings.data.Scope;
 import org.exoplatform.commons.utils.CommonsUtils;
 import org.exoplatform.commons.utils.ListAccess;
+import org.exoplatform.container.ExoContainer;
 import org.exoplatform.container.ExoContainerContext;
 import org.exoplatform.container.PortalContainer;
 import org.exoplatform.container.component.ComponentPlugin;
@@ -72,6 +90,10 @@ import org.exoplatform.container.component.RequestLifeCycle;
 import org.exoplatform.container.xml.InitParams;
 import org.exoplatform.container.xml.PropertiesParam;
 import org.exoplatform.ecm.utils.permission.PermissionUtil;
+import org.exoplatform.services.cache.CacheListener;
+import org.exoplatform.services.cache.CacheListenerContext;
+import org.exoplatform.services.cache.CacheService;
+import org.exoplatform.services.cache.ExoCache;
 import org.exoplatform.services.cms.documents.DocumentService;
 import org.exoplatform.services.cms.link.LinkManager;
 import org.exoplatform.services.jcr.RepositoryService;
@@ -119,6 +141,12 @@ import org.exoplatform.webconferencing.domain.InviteEntity;
 import org.exoplatform.webconferencing.domain.OriginEntity;
 import org.exoplatform.webconferencing.domain.ParticipantEntity;
 import org.exoplatform.webconferencing.domain.ParticipantId;
+import org.exoplatform.webconferencing.domain.UserCallState;
+import org.exoplatform.webconferencing.metrics.Counter;
+import org.exoplatform.webconferencing.metrics.Gauge;
+import org.exoplatform.webconferencing.metrics.LatencyHistogram;
+import org.exoplatform.webconferencing.metrics.MetricFamily;
+import org.exoplatform.webconferencing.metrics.MetricsRegistry;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -201,6 +229,60 @@ public class WebConferencingService implements Startable {
   /** The Constant PROVIDER_SCOPE_NAME. */
   protected static final String PROVIDER_SCOPE_NAME          = "webconferencing.provider".intern();
 
+  /** The Constant CALL_VERSIONS_CACHE_NAME. */
+  public static final String    CALL_VERSIONS_CACHE_NAME     = "webconferencing.calls.Cache".intern();
+
+  /** The Constant OWNER_CALLS_CACHE_NAME. */
+  public static final String    OWNER_CALLS_CACHE_NAME       = "webconferencing.owners.Cache".intern();
+
+  /** The value of owner calls cache marking an invalidated owner, it isn't a call ID. */
+  protected static final String OWNER_CALL_INVALIDATED       = "";
+
+  /** The Constant USERS_CACHE_NAME. */
+  public static final String    USERS_CACHE_NAME             = "webconferencing.users.Cache".intern();
+
+  /** The Constant SPACES_CACHE_NAME. */
+  public static final String    SPACES_CACHE_NAME            = "webconferencing.spaces.Cache".intern();
+
+  /** The max number of users resolved by a single bulk lookup in Social. */
+  protected static final int    USERS_BATCH_SIZE             = 100;
+
+  /**
+   * The max number of user events waiting for dispatching, when reached new participants events will be dropped
+   * (call state events are never dropped).
+   */
+  public static final int       EVENTS_QUEUE_MAX_SIZE        = 10000;
+
+  /** The Constant EVENTS_THREAD_PREFIX. */
+  public static final String    EVENTS_THREAD_PREFIX         = "webconferencing-events-thread-";
+
+  /** The number of locks striped by call ID to serialize call state transitions. */
+  protected static final int    CALL_LOCK_STRIPES            = 256;
+
+  /** The Constant EVENTS_CONFIGURATION_PROPERTIES. */
+  protected static final String EVENTS_CONFIGURATION_PROPERTIES = "events-configuration";
+
+  /** The Constant PARTICIPANTS_WINDOW. */
+  protected static final String PARTICIPANTS_WINDOW          = "participants-window";
+
+  /**
+   * The default time window in milliseconds to coalesce participants changes for an user. Zero by default,
+   * thus each change notified as joined or leaved event: coalesced events require clients that understand them.
+   */
+  public static final long      PARTICIPANTS_WINDOW_DEFAULT  = 0;
+
+  /** The Constant CALL_CHANNEL_BROADCAST. */
+  protected static final String CALL_CHANNEL_BROADCAST       = "call-channel-broadcast";
+
+  /** The Constant CALL_EVENTS_KEY_PREFIX used to dispatch call channel events in order per call. */
+  protected static final String CALL_EVENTS_KEY_PREFIX       = "/call/";
+
+  /** The Constant METRICS_CONFIGURATION_PROPERTIES. */
+  protected static final String METRICS_CONFIGURATION_PROPERTIES = "metrics-configuration";
+
+  /** The Constant METRICS_LOG. */
+  protected static final String METRICS_LOG                  = "log";
+
   /** The Constant JWT_CONFIGURATION_PROPERTIES. */
   protected static final String JWT_CONFIGURATION_PROPERTIES = "jwt-configuration";
 
@@ -309,6 +391,413 @@ public class WebConferencingService implements Startable {
     }
   }
 
+  /**
+   * Active call registered on this node with a version of its state in the cluster.
+   */
+  protected static class ActiveCall {
+
+    /** The call. */
+    protected final CallInfo call;
+
+    /** The version of the call state, can be <code>null</code> if call not yet versioned in the cluster. */
+    protected volatile Long  version;
+
+    /**
+     * Instantiates a new active call.
+     *
+     * @param call the call
+     * @param version the version
+     */
+    protected ActiveCall(CallInfo call, Long version) {
+      this.call = call;
+      this.version = version;
+    }
+
+    /**
+     * Checks if this active call reflects given version of the call state.
+     *
+     * @param actualVersion the actual version
+     * @return <code>true</code>, if this call is actual
+     */
+    protected boolean isActual(Long actualVersion) {
+      Long version = this.version;
+      return version == null ? actualVersion == null : version.equals(actualVersion);
+    }
+  }
+
+  /**
+   * Live state of an active call counted in the concurrency gauges of this node.
+   */
+  protected static class LiveCall {
+
+    /** The active calls gauge of the call provider and owner type. */
+    protected final Gauge calls;
+
+    /** The joined participants gauge of the call provider and owner type. */
+    protected final Gauge participants;
+
+    /** The joined participants counted for the call. */
+    protected int         joined;
+
+    /** The released flag, a released call doesn't count anymore. */
+    protected boolean     released;
+
+    /**
+     * Instantiates a new live call.
+     *
+     * @param calls the calls gauge
+     * @param participants the participants gauge
+     */
+    protected LiveCall(Gauge calls, Gauge participants) {
+      this.calls = calls;
+      this.participants = participants;
+    }
+
+    /**
+     * Count the call with given number of joined participants.
+     *
+     * @param joined the joined participants number
+     * @return <code>false</code> if the call already released and cannot be counted
+     */
+    protected synchronized boolean update(int joined) {
+      if (!released) {
+        participants.add(joined - this.joined);
+        this.joined = joined;
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Release the call from the gauges.
+     */
+    protected synchronized void release() {
+      if (!released) {
+        released = true;
+        calls.dec();
+        participants.add(-joined);
+        joined = 0;
+      }
+    }
+  }
+
+  /**
+   * Cached data of eXo user resolved from Organization and Social services. IM accounts saved as they are in
+   * the user profile and will be resolved by providers when building {@link UserInfo}.
+   */
+  protected static class UserData implements Serializable {
+
+    /** The Constant serialVersionUID. */
+    private static final long serialVersionUID = -4617292883614652457L;
+
+    /** The user name, <code>null</code> if user not found (or not enabled). */
+    protected final String    userName;
+
+    /** The first name. */
+    protected final String    firstName;
+
+    /** The last name. */
+    protected final String    lastName;
+
+    /** The avatar link. */
+    protected final String    avatarLink;
+
+    /** The profile link. */
+    protected final String    profileLink;
+
+    /** The IM accounts, each element is an array of the IM type and ID. */
+    protected final String[][] ims;
+
+    /**
+     * Instantiates a new user data.
+     *
+     * @param userName the user name
+     * @param firstName the first name
+     * @param lastName the last name
+     * @param avatarLink the avatar link
+     * @param profileLink the profile link
+     * @param ims the IM accounts
+     */
+    protected UserData(String userName, String firstName, String lastName, String avatarLink, String profileLink, String[][] ims) {
+      this.userName = userName;
+      this.firstName = firstName;
+      this.lastName = lastName;
+      this.avatarLink = avatarLink;
+      this.profileLink = profileLink;
+      this.ims = ims;
+    }
+
+    /**
+     * Instantiates a data of not found user.
+     */
+    protected UserData() {
+      this(null, null, null, null, null, new String[0][]);
+    }
+
+    /**
+     * Checks if user exists.
+     *
+     * @return <code>true</code>, if user exists
+     */
+    protected boolean exists() {
+      return userName != null;
+    }
+  }
+
+  /**
+   * Events of an user dispatched to its listeners in the firing order. Only one thread at a time dispatches
+   * the events of an user.
+   */
+  protected class UserEvents implements Runnable {
+
+    /** The user id. */
+    protected final String          userId;
+
+    /** The events. */
+    protected final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+
+    /** The dispatching flag, changed only within the user events map computation. */
+    protected volatile boolean      dispatching;
+
+    /**
+     * Instantiates a new user events.
+     *
+     * @param userId the user id
+     */
+    protected UserEvents(String userId) {
+      this.userId = userId;
+    }
+
+    /**
+     * Dispatch the events until the queue is empty.
+     */
+    @Override
+    public void run() {
+      while (true) {
+        Runnable event = events.poll();
+        if (event != null) {
+          eventsQueueDepth.decrementAndGet();
+          try {
+            event.run();
+          } catch (Throwable e) {
+            LOG.error("Error dispatching event to user " + userId, e);
+          }
+        } else {
+          // Stop the dispatching atomically with events adding
+          userEvents.computeIfPresent(userId, (id, ue) -> {
+            if (ue == this && events.isEmpty()) {
+              dispatching = false;
+              return null;
+            }
+            return ue;
+          });
+          if (!dispatching) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Participants of a call joined and leaved during the coalescing window, to be notified to an user.
+   */
+  protected static class PartsChange {
+
+    /** The user id. */
+    protected final String               userId;
+
+    /** The call id. */
+    protected final String               callId;
+
+    /** The provider type. */
+    protected final String               providerType;
+
+    /** The owner id. */
+    protected final String               ownerId;
+
+    /** The owner type. */
+    protected final String               ownerType;
+
+    /** The participants: <code>true</code> for joined, <code>false</code> for leaved, last change wins. */
+    protected final Map<String, Boolean> parts = new LinkedHashMap<>();
+
+    /**
+     * Instantiates a new participants change.
+     *
+     * @param userId the user id
+     * @param callId the call id
+     * @param providerType the provider type
+     * @param ownerId the owner id
+     * @param ownerType the owner type
+     */
+    protected PartsChange(String userId, String callId, String providerType, String ownerId, String ownerType) {
+      this.userId = userId;
+      this.callId = callId;
+      this.providerType = providerType;
+      this.ownerId = ownerId;
+      this.ownerType = ownerType;
+    }
+  }
+
+  /**
+   * Snapshot of space members: an immutable sorted array of interned user names. Members are listed in
+   * alphabetical order, not in the order of the space.
+   */
+  protected static class SpaceMembers implements Serializable {
+
+    /** The Constant serialVersionUID. */
+    private static final long serialVersionUID = 2358617764912080139L;
+
+    /** The member names, sorted. */
+    private final String[]    ids;
+
+    /**
+     * Instantiates a new space members snapshot.
+     *
+     * @param members the members
+     */
+    protected SpaceMembers(String[] members) {
+      String[] ids = new String[members.length];
+      for (int i = 0; i < members.length; i++) {
+        ids[i] = members[i].intern();
+      }
+      Arrays.sort(ids);
+      this.ids = ids;
+    }
+
+    /**
+     * Checks if given user is a member.
+     *
+     * @param userName the user name
+     * @return <code>true</code>, if it's a member
+     */
+    protected boolean contains(String userName) {
+      return userName != null && Arrays.binarySearch(ids, userName) >= 0;
+    }
+
+    /**
+     * Gets the members as a list.
+     *
+     * @return the unmodifiable list of member names
+     */
+    protected List<String> asList() {
+      return Collections.unmodifiableList(Arrays.asList(ids));
+    }
+  }
+
+  /**
+   * The listener of call versions cache, it evicts active calls changed on other cluster nodes.
+   */
+  protected class CallVersionsListener implements CacheListener<String, Long> {
+
+    /**
+     * Evict active call if its version differs of given one.
+     *
+     * @param callId the call id
+     * @param version the version
+     */
+    protected void evict(String callId, Long version) {
+      ActiveCall active = activeCalls.get(callId);
+      if (active != null && !active.isActual(version)) {
+        activeCalls.remove(callId, active);
+        // The call will be counted by the node that changed it
+        releaseLiveCall(callId);
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("< Evicted active call changed in the cluster: " + callId);
+        }
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onExpire(CacheListenerContext context, String key, Long obj) throws Exception {
+      evict(key, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRemove(CacheListenerContext context, String key, Long obj) throws Exception {
+      evict(key, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPut(CacheListenerContext context, String key, Long obj) throws Exception {
+      evict(key, obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGet(CacheListenerContext context, String key, Long obj) throws Exception {
+      // Nothing
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onClearCache(CacheListenerContext context) throws Exception {
+      activeCalls.clear();
+    }
+  }
+
+  /**
+   * The listener of owner calls cache, it counts owner invalidations made on this or other cluster nodes.
+   */
+  protected class OwnerCallsListener implements CacheListener<String, String> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onExpire(CacheListenerContext context, String key, String obj) throws Exception {
+      // Nothing
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRemove(CacheListenerContext context, String key, String obj) throws Exception {
+      ownerCallsEpoch.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPut(CacheListenerContext context, String key, String obj) throws Exception {
+      if (OWNER_CALL_INVALIDATED.equals(obj)) {
+        ownerCallsEpoch.incrementAndGet();
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGet(CacheListenerContext context, String key, String obj) throws Exception {
+      // Nothing
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onClearCache(CacheListenerContext context) throws Exception {
+      ownerCallsEpoch.incrementAndGet();
+    }
+  }
+
   /** The Constant ALL_USERS. */
   public static final String                         ALL_USERS              = "*";
 
@@ -402,6 +891,84 @@ public class WebConferencingService implements Startable {
   /** The user listeners. */
   protected final Map<String, Set<UserCallListener>> userListeners          = new ConcurrentHashMap<>();
 
+  /** The user events waiting for dispatching to the user listeners. */
+  protected final Map<String, UserEvents>            userEvents             = new ConcurrentHashMap<>();
+
+  /** The number of user events waiting for dispatching. */
+  protected final AtomicInteger                      eventsQueueDepth       = new AtomicInteger();
+
+  /** The number of user events dropped due to the queue overflow. */
+  protected final LongAdder                          eventsOverflowCount    = new LongAdder();
+
+  /** The user events dispatcher. */
+  protected final ExecutorService                    eventsDispatcher;
+
+  /** The participants changes waiting for the end of coalescing window, by call and user. */
+  protected final Map<String, PartsChange>           partsChanges           = new ConcurrentHashMap<>();
+
+  /** The participants changes flushing timer. */
+  protected final ScheduledExecutorService           partsChangesTimer;
+
+  /** The participants changes coalescing window in milliseconds, zero or negative to notify each change. */
+  protected final long                               participantsWindow;
+
+  /** The call channel broadcast mode: participants changes notified once per call, not to each participant. */
+  protected final boolean                            callChannelBroadcast;
+
+  /** The call channel listeners. */
+  protected final Set<CallChannelListener>           callListeners          = new CopyOnWriteArraySet<>();
+
+  /** The metrics registry. */
+  protected final MetricsRegistry                    metrics;
+
+  /** The operations count by operation, status, provider and owner type. */
+  protected final MetricFamily<Counter>              operationsCount;
+
+  /** The operations duration by operation, provider and owner type. */
+  protected final MetricFamily<LatencyHistogram>     operationsDuration;
+
+  /** The recorded files size by status, provider and owner type. */
+  protected final MetricFamily<Counter>              recordedSize;
+
+  /** The active calls of this node by provider and owner type. */
+  protected final MetricFamily<Gauge>                activeCallsGauge;
+
+  /** The joined participants of active calls of this node by provider and owner type. */
+  protected final MetricFamily<Gauge>                joinedParticipantsGauge;
+
+  /** The active calls counted in the concurrency gauges. */
+  protected final Map<String, LiveCall>              liveCalls              = new ConcurrentHashMap<>();
+
+  /** If operations metrics also should be logged in the stats logger format (see {@link #metricMessage}), true by default. */
+  protected final boolean                            metricsLog;
+
+  /** The active (started or paused) calls registry of this node. */
+  protected final Map<String, ActiveCall>            activeCalls            = new ConcurrentHashMap<>();
+
+  /** The call versions shared in the cluster, it's <code>null</code> if not running in cluster. */
+  protected final ExoCache<String, Long>             callVersions;
+
+  /** The group call IDs by their owner type and ID. */
+  protected final ExoCache<String, String>           ownerCallIds;
+
+  /** The number of owner call IDs invalidations seen by this node, it orders lookups against the invalidations. */
+  protected final AtomicLong                         ownerCallsEpoch        = new AtomicLong();
+
+  /** The users resolved from Organization and Social services by their names. */
+  protected final ExoCache<String, UserData>         usersCache;
+
+  /** The space members snapshots by space pretty names. */
+  protected final ExoCache<String, SpaceMembers>     spacesCache;
+
+  /** The users cache hits. */
+  protected final LongAdder                          usersCacheHits         = new LongAdder();
+
+  /** The users cache misses. */
+  protected final LongAdder                          usersCacheMisses       = new LongAdder();
+
+  /** The call locks striped by call ID. */
+  protected final Lock[]                             callLocks              = new Lock[CALL_LOCK_STRIPES];
+
   /** The upload service. */
   protected final UploadService                      uploadService;
 
@@ -497,6 +1064,9 @@ public class WebConferencingService implements Startable {
    * @param shareService the share service
    * @param initParams the initParams
    * @param linkManager the link manager
+   * @param codecInitializer the codec initializer
+   * @param cacheService the cache service
+   * @param metrics the metrics registry
    */
   public WebConferencingService(OrganizationService organization,
                                 IdentityManager socialIdentityManager,
@@ -515,7 +1085,9 @@ public class WebConferencingService implements Startable {
                                 ShareDocumentService shareService,
                                 InitParams initParams,
                                 LinkManager linkManager,
-                                CodecInitializer codecInitializer) {
+                                CodecInitializer codecInitializer,
+                                CacheService cacheService,
+                                MetricsRegistry metrics) {
     this.organization = organization;
     this.socialIdentityManager = socialIdentityManager;
     this.listenerService = listenerService;
@@ -532,8 +1104,77 @@ public class WebConferencingService implements Startable {
     this.authenticator = authenticator;
     PropertiesParam jwtSecretParam = initParams.getPropertiesParam(JWT_CONFIGURATION_PROPERTIES);
     this.secretKey = jwtSecretParam.getProperty(SECRET_KEY);
+    PropertiesParam eventsParam = initParams.getPropertiesParam(EVENTS_CONFIGURATION_PROPERTIES);
+    long participantsWindow = PARTICIPANTS_WINDOW_DEFAULT;
+    boolean callChannelBroadcast = false;
+    if (eventsParam != null) {
+      String windowValue = eventsParam.getProperty(PARTICIPANTS_WINDOW);
+      if (windowValue != null && windowValue.trim().length() > 0) {
+        try {
+          participantsWindow = Long.parseLong(windowValue.trim());
+        } catch (NumberFormatException e) {
+          LOG.warn("Wrong participants events window: " + windowValue + ". Will use default " + PARTICIPANTS_WINDOW_DEFAULT
+              + "ms.");
+        }
+      }
+      String broadcastValue = eventsParam.getProperty(CALL_CHANNEL_BROADCAST);
+      if (broadcastValue != null && broadcastValue.trim().length() > 0) {
+        callChannelBroadcast = Boolean.parseBoolean(broadcastValue.trim());
+      }
+    }
+    this.participantsWindow = participantsWindow;
+    this.callChannelBroadcast = callChannelBroadcast;
+    PropertiesParam metricsParam = initParams.getPropertiesParam(METRICS_CONFIGURATION_PROPERTIES);
+    String metricsLogValue = metricsParam != null ? metricsParam.getProperty(METRICS_LOG) : null;
+    // Logged by default, as it was before the metrics registry
+    this.metricsLog = metricsLogValue == null || metricsLogValue.trim().length() == 0
+        || Boolean.parseBoolean(metricsLogValue.trim());
+    this.metrics = metrics;
+    this.operationsCount = metrics.counter("webconferencing_operations_total",
+                                           "Call operations count",
+                                           "operation",
+                                           "status",
+                                           "provider",
+                                           "owner_type");
+    this.operationsDuration = metrics.summary("webconferencing_operation_duration_seconds",
+                                              "Call operations duration",
+                                              "operation",
+                                              "provider",
+                                              "owner_type");
+    this.recordedSize = metrics.counter("webconferencing_recorded_bytes_total",
+                                        "Size of call recordings uploaded",
+                                        "status",
+                                        "provider",
+                                        "owner_type");
+    this.activeCallsGauge = metrics.peakGauge("webconferencing_active_calls",
+                                              "Calls running now",
+                                              "provider",
+                                              "owner_type");
+    this.joinedParticipantsGauge = metrics.peakGauge("webconferencing_joined_participants",
+                                                     "Participants joined to running calls now",
+                                                     "provider",
+                                                     "owner_type");
     this.shareService = shareService;
     this.linkManager = linkManager;
+    if (ExoContainer.hasProfile("cluster")) {
+      this.callVersions = cacheService.getCacheInstance(CALL_VERSIONS_CACHE_NAME);
+      this.callVersions.addCacheListener(new CallVersionsListener());
+    } else {
+      this.callVersions = null;
+    }
+    this.ownerCallIds = cacheService.getCacheInstance(OWNER_CALLS_CACHE_NAME);
+    this.ownerCallIds.addCacheListener(new OwnerCallsListener());
+    this.usersCache = cacheService.getCacheInstance(USERS_CACHE_NAME);
+    this.spacesCache = cacheService.getCacheInstance(SPACES_CACHE_NAME);
+    for (int i = 0; i < callLocks.length; i++) {
+      callLocks[i] = new ReentrantLock();
+    }
+    this.eventsDispatcher = createEventsDispatcher();
+    this.partsChangesTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, EVENTS_THREAD_PREFIX + "timer");
+      t.setDaemon(true);
+      return t;
+    });
     try {
       this.codec = codecInitializer.getCodec();
     } catch (Exception e) {
@@ -541,7 +1182,156 @@ public class WebConferencingService implements Startable {
     }
   }
 
+  /**
+   * Get the user info. User data will be cached and invalidated by Organization and Social listeners, see
+   * {@link #invalidateUserInfo(String)}.
+   *
+   * @param id the user name
+   * @return the user info or <code>null</code> if user not found or not enabled
+   * @throws IdentityStateException if error happened during searching the user in Organization Service
+   */
   protected UserInfo userInfo(String id) throws IdentityStateException {
+    UserData data = usersCache.get(id);
+    if (data != null) {
+      usersCacheHits.increment();
+    } else {
+      usersCacheMisses.increment();
+      data = readUserData(id);
+      usersCache.put(id, data);
+    }
+    return userInfo(data);
+  }
+
+  /**
+   * Get the users info by their names. Users not yet cached will be read by bulk lookups in Social, then
+   * only the ones not found this way will be read one by one (see {@link #userInfo(String)}).
+   *
+   * @param ids the user names
+   * @return the map of found users by their names, in order of given names
+   * @throws IdentityStateException if error happened during searching an user in Organization Service
+   */
+  protected Map<String, UserInfo> userInfos(Collection<String> ids) throws IdentityStateException {
+    Map<String, UserData> datas = new HashMap<>();
+    Set<String> notCached = new LinkedHashSet<>();
+    for (String id : ids) {
+      if (!datas.containsKey(id) && !notCached.contains(id)) {
+        UserData data = usersCache.get(id);
+        if (data != null) {
+          usersCacheHits.increment();
+          datas.put(id, data);
+        } else {
+          notCached.add(id);
+        }
+      }
+    }
+    if (notCached.size() > 0) {
+      usersCacheMisses.add(notCached.size());
+      for (UserData data : readUsersData(new ArrayList<>(notCached))) {
+        usersCache.put(data.userName, data);
+        datas.put(data.userName, data);
+      }
+    }
+    Map<String, UserInfo> users = new LinkedHashMap<>();
+    for (String id : ids) {
+      UserData data = datas.get(id);
+      if (data == null) {
+        // not found by bulk lookup: disabled, deleted or not eXo user
+        data = readUserData(id);
+        usersCache.put(id, data);
+        datas.put(id, data);
+      }
+      UserInfo info = userInfo(data);
+      if (info != null) {
+        users.put(id, info);
+      }
+    }
+    return users;
+  }
+
+  /**
+   * Build the user info from its data.
+   *
+   * @param data the user data
+   * @return the user info or <code>null</code> if user not found
+   */
+  protected UserInfo userInfo(UserData data) {
+    if (data.exists()) {
+      UserInfo info = new UserInfo(data.userName, data.firstName, data.lastName);
+      // Add IMs accounts
+      getUserIMs(data.ims).forEach(im -> info.addImAccount(im));
+      info.setAvatarLink(data.avatarLink);
+      info.setProfileLink(data.profileLink);
+      return info;
+    }
+    return null;
+  }
+
+  /**
+   * Read enabled users data from Social by bulk lookups of up to {@link #USERS_BATCH_SIZE} users. Users not
+   * found or not enabled will not be returned.
+   *
+   * @param ids the user names
+   * @return the list of found users data
+   */
+  protected List<UserData> readUsersData(List<String> ids) {
+    List<UserData> users = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i += USERS_BATCH_SIZE) {
+      ProfileFilter filter = new ProfileFilter();
+      filter.setRemoteIds(ids.subList(i, Math.min(i + USERS_BATCH_SIZE, ids.size())));
+      try {
+        ListAccess<Identity> identities = socialIdentityManager.getIdentitiesByProfileFilter(OrganizationIdentityProvider.NAME,
+                                                                                            filter,
+                                                                                            true);
+        int offset = 0;
+        Identity[] page;
+        do {
+          page = loadIdentities(identities, offset, USERS_BATCH_SIZE);
+          for (Identity identity : page) {
+            if (identity.isEnable() && !identity.isDeleted()) {
+              Profile profile = identity.getProfile();
+              users.add(new UserData(identity.getRemoteId(),
+                                     (String) profile.getProperty(Profile.FIRST_NAME),
+                                     (String) profile.getProperty(Profile.LAST_NAME),
+                                     profile.getAvatarUrl(),
+                                     LinkProvider.getUserProfileUri(identity.getRemoteId()),
+                                     getProfileIMs(profile)));
+            }
+          }
+          offset += page.length;
+        } while (page.length == USERS_BATCH_SIZE);
+      } catch (IdentityStateException e) {
+        // users will be read one by one
+        LOG.warn("Error reading users in bulk from Social: " + e.getMessage());
+      }
+    }
+    return users;
+  }
+
+  /**
+   * Load a page of Social identities.
+   *
+   * @param identities the identities list access
+   * @param offset the offset
+   * @param limit the limit
+   * @return the identities
+   * @throws IdentityStateException if error happened during loading the identities
+   */
+  protected Identity[] loadIdentities(ListAccess<Identity> identities, int offset, int limit) throws IdentityStateException {
+    try {
+      return identities.load(offset, limit);
+    } catch (Exception e) {
+      throw new IdentityStateException("Error loading identities from Social", e);
+    }
+  }
+
+  /**
+   * Read user data from Organization and Social services.
+   *
+   * @param id the user name
+   * @return the user data, if user not found or not enabled the data will not {@link UserData#exists()}
+   * @throws IdentityStateException if error happened during searching the user in Organization Service
+   */
+  protected UserData readUserData(String id) throws IdentityStateException {
     User user;
     try {
       user = organization.getUserHandler().findUserByName(id, UserStatus.ANY);
@@ -558,26 +1348,97 @@ public class WebConferencingService implements Startable {
                                                                                                                    true);
         if (userIdentity != null) {
           Profile socialProfile = userIdentity.getProfile();
-
-          UserInfo info = new UserInfo(user.getUserName(), user.getFirstName(), user.getLastName());
-          // Add IMs accounts
-          getUserIMs(socialProfile).forEach(im -> info.addImAccount(im));
-          info.setAvatarLink(socialProfile.getAvatarUrl());
-          info.setProfileLink(LinkProvider.getUserProfileUri(id));
-          return info;
+          return new UserData(user.getUserName(),
+                              user.getFirstName(),
+                              user.getLastName(),
+                              socialProfile.getAvatarUrl(),
+                              LinkProvider.getUserProfileUri(id),
+                              getProfileIMs(socialProfile));
         } else {
           LOG.warn("Social identity not found for " + user.getUserName() + " (" + user.getFirstName() + " " + user.getLastName()
               + ")");
         }
-      } else if (LOG.isDebugEnabled()) {
-        LOG.debug("Ignore disabled user (treat as not found): '" + id + "'");
+      } else if (LOG.isDebugEnabled()) {
+        LOG.debug("Ignore disabled user (treat as not found): '" + id + "'");
+      }
+    } else if (LOG.isDebugEnabled()) {
+      LOG.debug("User not found: '" + id + "'");
+    }
+    return new UserData();
+  }
+
+  /**
+   * Invalidate cached info of the user. This method should be called when user or its profile changed.
+   *
+   * @param id the user name
+   */
+  public void invalidateUserInfo(String id) {
+    usersCache.remove(id);
+  }
+
+  /**
+   * Gets the number of user info requests served from the cache.
+   *
+   * @return the users cache hits
+   */
+  public long getUsersCacheHits() {
+    return usersCacheHits.sum();
+  }
+
+  /**
+   * Gets the number of user info requests read from Organization and Social services.
+   *
+   * @return the users cache misses
+   */
+  public long getUsersCacheMisses() {
+    return usersCacheMisses.sum();
+  }
+
+  /**
+   * Gets the ratio of user info requests served from the cache.
+   *
+   * @return the users cache hit ratio, from 0 to 1
+   */
+  public double getUsersCacheHitRatio() {
+    long hits = usersCacheHits.sum();
+    long total = hits + usersCacheMisses.sum();
+    return total > 0 ? (double) hits / total : 0;
+  }
+
+  /**
+   * Gets the ratio of user info requests read from Organization and Social services.
+   *
+   * @return the users cache miss ratio, from 0 to 1
+   */
+  public double getUsersCacheMissRatio() {
+    long misses = usersCacheMisses.sum();
+    long total = misses + usersCacheHits.sum();
+    return total > 0 ? (double) misses / total : 0;
+  }
+  
+  /**
+   * Resolve group members info. Unlike {@link #userInfos(Collection)} this method doesn't throw
+   * {@link IdentityStateException}, such error will be logged and the members read so far returned.
+   *
+   * @param ids the member ids
+   * @return the map of found members by their IDs
+   */
+  protected Map<String, UserInfo> memberInfos(Collection<String> ids) {
+    try {
+      return userInfos(ids);
+    } catch (IdentityStateException e) {
+      LOG.error("Error reading group members", e);
+      Map<String, UserInfo> members = new LinkedHashMap<>();
+      for (String id : ids) {
+        UserData data = usersCache.get(id);
+        if (data != null && data.exists()) {
+          members.put(id, userInfo(data));
+        }
       }
-    } else if (LOG.isDebugEnabled()) {
-      LOG.debug("User not found: '" + id + "'");
+      return members;
     }
-    return null;
   }
-  
+
   /**
    * Gets the user info.
    *
@@ -641,15 +1502,20 @@ public class WebConferencingService implements Startable {
     Space socialSpace = spaceService.getSpaceByPrettyName(spacePrettyName);
     if (socialSpace != null) {
       SpaceInfo space = new SpaceInfo(socialSpace);
-      for (String sm : socialSpace.getMembers()) {
-        UserInfo user = userInfo(sm);
-        if (user != null) {
-          space.addMember(user);
-        } else {
-          LOG.warn("Skipped not found space member " + sm + " of " + spacePrettyName);
-          // for space we have members from inside, thus if it is not found, we ignore him assuming space
-          // should be consistent
+      // Members will be resolved lazily, when they will be requested
+      space.setMemberResolver(ids -> {
+        Map<String, UserInfo> users = memberInfos(ids);
+        for (String sm : ids) {
+          if (!users.containsKey(sm)) {
+            LOG.warn("Skipped not found space member " + sm + " of " + spacePrettyName);
+            // for space we have members from inside, thus if it is not found, we ignore him assuming space
+            // should be consistent
+          }
         }
+        return users;
+      });
+      for (String sm : spaceMembers(spacePrettyName).asList()) {
+        space.addMemberId(sm);
       }
       space.setProfileLink(socialSpace.getUrl());
       space.setAvatarLink(socialSpace.getAvatarUrl());
@@ -678,30 +1544,30 @@ public class WebConferencingService implements Startable {
     String spacePrettyName = spaceIdentity.getRemoteId();
     allSpaces.add(spacePrettyName);
     allSpaces.addAll(Arrays.asList(spaces));
+    // Members will be resolved lazily, when they will be requested
+    spaceEvent.setMemberResolver(ids -> {
+      Map<String, UserInfo> users = memberInfos(ids);
+      for (String m : ids) {
+        if (!users.containsKey(m)) {
+          LOG.warn("Skipped not found participant " + m + " for space event in " + spacePrettyName);
+        }
+      }
+      return users;
+    });
     // 1) host space & 2) invited spaces
     for (String s : allSpaces) {
-      Space socialSpace = spaceService.getSpaceByPrettyName(s);
-      if (socialSpace != null) {
-        for (String sm : socialSpace.getMembers()) {
-          UserInfo user = userInfo(sm);
-          if (user != null) {
-            spaceEvent.addMember(user);
-          } else {
-            LOG.warn("Skipped not found space member as participant " + sm + " for space event in " + spacePrettyName);
-          }
+      SpaceMembers members = spaceMembers(s);
+      if (members != null) {
+        for (String sm : members.asList()) {
+          spaceEvent.addMemberId(sm);
         }
       } else {
         LOG.warn("Skipped not found space " + s + " for event in " + spacePrettyName);
       }
     }
-    // 3) explicit parties go last to remain in the members with isDirect flag
+    // 3) explicit parties go last
     for (String p : participants) {
-      UserInfo user = userInfo(p);
-      if (user != null) {
-        spaceEvent.addMember(user);
-      } else {
-        LOG.warn("Skipped not found participant " + p + " for space event in " + spacePrettyName);
-      }
+      spaceEvent.addMemberId(p);
     }
     spaceEvent.setCallId(callId);
     return spaceEvent;
@@ -733,17 +1599,22 @@ public class WebConferencingService implements Startable {
    */
   protected RoomInfo roomInfo(String id, String title, String[] members, String callId) throws IdentityStateException {
     RoomInfo room = new RoomInfo(id, title);
-    for (String userName : members) {
-      UserInfo user = userInfo(userName);
-      if (user != null) {
-        room.addMember(user);
-      } else {
-        if (LOG.isDebugEnabled()) {
-          LOG.debug("External room member " + userName + " for '" + title + "'");
+    // Members will be resolved lazily, when they will be requested
+    room.setMemberResolver(ids -> {
+      Map<String, UserInfo> users = memberInfos(ids);
+      for (String userName : ids) {
+        if (!users.containsKey(userName)) {
+          if (LOG.isDebugEnabled()) {
+            LOG.debug("External room member " + userName + " for '" + title + "'");
+          }
+          // for chat room we have members from outside, if not eXo user - add it as external participant
+          users.put(userName, new ParticipantInfo(userName));
         }
-        // for chat room we have members from outside, if not eXo user - add it as external participant
-        room.addMember(new ParticipantInfo(userName));
       }
+      return users;
+    });
+    for (String userName : members) {
+      room.addMemberId(userName);
     }
     room.setProfileLink(IdentityInfo.EMPTY);
     room.setAvatarLink(ROOM_DEFAULT_AVATAR_URL);
@@ -903,6 +1774,7 @@ public class WebConferencingService implements Startable {
               createCall(call);
               
               if (start) {
+                countLiveCall(call);
                 // Notify *actual* participants (about started call)
                 if (isGroup) {
                   // When call starts we need the following (should be similar to startCall()): 
@@ -924,18 +1796,18 @@ public class WebConferencingService implements Startable {
 
               broacastCallEvent(EVENT_CALL_CREATED, call, currentUserId, null);
 
-              // Log metrics - call created
+              // Metrics - call created
               // service=notifications operation=send-push-notification
               // parameters="user:thomas,token:xxxxxxxxxxxDLu-,type:android,pluginId:RelationshipReceivedRequestPlugin" status=ok
               // duration_ms=298
-              LOG.info(metricMessage(currentUserId,
-                                     call,
-                                     OPERATION_CALL_ADDED,
-                                     STATUS_OK,
-                                     System.currentTimeMillis() - opStart,
-                                     null,
-                                     null));
-              return call;
+              metric(currentUserId,
+                     call,
+                     OPERATION_CALL_ADDED,
+                     STATUS_OK,
+                     System.currentTimeMillis() - opStart,
+                     null,
+                     null);
+              return call.copy();
             } else {
               throw new CallArgumentException("Wrong call title");
             }
@@ -992,7 +1864,7 @@ public class WebConferencingService implements Startable {
                                              IdentityStateException,
                                              ParticipantNotFoundException {
     if (isValidId(callId)) {
-      CallInfo currentCall = getCall(callId);
+      CallInfo currentCall = readCall(callId);
       if (currentCall != null) {
         final String ownerType;
         if (isNotNullArg(newOwnerType)) {
@@ -1074,24 +1946,27 @@ public class WebConferencingService implements Startable {
    */
   protected Set<UserInfo> createParticipants(String providerType, Collection<String> partIds) throws IdentityStateException,
                                                                                                 CallArgumentException {
-    Set<UserInfo> participants = new LinkedHashSet<>();
     for (String pid : partIds) {
-      if (isValidId(pid)) {
-        UserInfo part = userInfo(pid);
-        if (part != null) {
-            // it's eXo user
-          participants.add(part);
-        } else {
-          // external participant
-          participants.add(part = new ParticipantInfo(providerType, pid));
-        }
-        // We start the call with all parts leaved, later call pages will update it to JOINED
-        part.setState(UserState.LEAVED);
-      } else {
+      if (!isValidId(pid)) {
         LOG.error("Cannot add call participant with too long ID: " + pid);
         throw new CallArgumentException("Wrong participant ID (" + pid + ")");
       }
     }
+    // Resolve eXo users in bulk
+    Map<String, UserInfo> users = userInfos(partIds);
+    Set<UserInfo> participants = new LinkedHashSet<>();
+    for (String pid : partIds) {
+      UserInfo part = users.get(pid);
+      if (part != null) {
+          // it's eXo user
+        participants.add(part);
+      } else {
+        // external participant
+        participants.add(part = new ParticipantInfo(providerType, pid));
+      }
+      // We start the call with all parts leaved, later call pages will update it to JOINED
+      part.setState(UserState.LEAVED);
+    }
     return participants;
   }
   
@@ -1214,24 +2089,207 @@ public class WebConferencingService implements Startable {
   }
 
   /**
-   * Gets an active call info.
+   * Gets an active call info. Returned object is a snapshot of the call, its changes will not affect the call
+   * state in the service.
    *
    * @param id the id
    * @return the call info or <code>null</code> if call not found
    * @throws InvalidCallException if call in erroneous state, see cause exception for details
    */
   public CallInfo getCall(String id) throws InvalidCallException {
+    CallInfo call = readCall(id);
+    return call != null ? call.copy() : null;
+  }
+
+  /**
+   * Read a call info: an active call registered on this node or load it from the storage. Returned object of
+   * an active call is shared between requests, it should be changed only under the call lock and after
+   * saving the changes in the storage.
+   *
+   * @param id the id
+   * @return the call info or <code>null</code> if call not found
+   * @throws InvalidCallException if call in erroneous state, see cause exception for details
+   */
+  protected CallInfo readCall(String id) throws InvalidCallException {
+    ActiveCall active = activeCalls.get(id);
+    if (active != null) {
+      if (active.isActual(callVersion(id))) {
+        // Active call already known on this node, it is kept in sync by the storage methods
+        return active.call;
+      }
+      // Call was changed on another node
+      activeCalls.remove(id, active);
+    }
+    // Read the version before the storage: if the call will change meanwhile, we'll see another version next time
+    Long version = callVersion(id);
     try {
-      return findCallById(id, true);
+      CallInfo call = findCallById(id, true);
+      if (call != null && isActiveState(call.getState())) {
+        // Prefer already registered instance if another request registered it meanwhile
+        ActiveCall registered = activeCalls.putIfAbsent(id, new ActiveCall(call, version));
+        if (registered != null) {
+          call = registered.call;
+        }
+      }
+      return call;
     } catch (CallSettingsException | CallOwnerException | StorageException | IdentityStateException e) {
       throw new InvalidCallException("Error getting call: " + id, e);
     }
   }
 
+  /**
+   * Gets the lock serializing state transitions (start, join, leave, stop) of the call on this node. Calls
+   * share a limited set of locks, thus a call may wait for another one with the same lock stripe. The lock
+   * covers the storage changes and queuing of user events, to keep them in order, but call events of the
+   * listener service are broadcast after releasing it.
+   *
+   * @param callId the call id
+   * @return the lock
+   */
+  protected Lock callLock(String callId) {
+    return callLocks[(callId.hashCode() & Integer.MAX_VALUE) % callLocks.length];
+  }
+
+  /**
+   * Checks if given call state is of an active call (started or paused).
+   *
+   * @param state the call state
+   * @return <code>true</code>, if call in this state is active
+   */
+  protected static boolean isActiveState(String state) {
+    return CallState.STARTED.equals(state) || CallState.PAUSED.equals(state);
+  }
+
+  /**
+   * Register the call in active calls if it is started or paused, otherwise remove it from the active calls.
+   *
+   * @param call the call
+   */
+  protected void registerActiveCall(CallInfo call) {
+    if (isActiveState(call.getState())) {
+      ActiveCall active = activeCalls.get(call.getId());
+      if (active == null || active.call != call) {
+        activeCalls.put(call.getId(), new ActiveCall(call, callVersion(call.getId())));
+      }
+    } else {
+      activeCalls.remove(call.getId());
+    }
+  }
+
+  /**
+   * Gets the call registered as active on this node.
+   *
+   * @param callId the call id
+   * @return the call info or <code>null</code> if no active call registered
+   */
+  protected CallInfo activeCall(String callId) {
+    ActiveCall active = activeCalls.get(callId);
+    return active != null ? active.call : null;
+  }
+
+  /**
+   * Gets actual version of the call state in the cluster.
+   *
+   * @param callId the call id
+   * @return the version or <code>null</code> if not versioned or not running in cluster
+   */
+  protected Long callVersion(String callId) {
+    return callVersions != null ? callVersions.get(callId) : null;
+  }
+
+  /**
+   * Publish a new version of the call state to the cluster, other nodes will evict this call from their
+   * active calls. It should be invoked after the call changes committed in the storage.
+   *
+   * @param callId the call id
+   */
+  protected void callChanged(String callId) {
+    if (callVersions != null) {
+      Long version = ThreadLocalRandom.current().nextLong();
+      ActiveCall active = activeCalls.get(callId);
+      if (active != null) {
+        // This node has the call actual already
+        active.version = version;
+      }
+      try {
+        callVersions.put(callId, version);
+      } catch (Exception e) {
+        LOG.warn("Error publishing call version: " + callId, e);
+      }
+    }
+  }
+
+  /**
+   * Remove the call from active calls. Next read of the call will load it from the storage.
+   *
+   * @param callId the call id
+   */
+  protected void unregisterActiveCall(String callId) {
+    activeCalls.remove(callId);
+  }
+
+  /**
+   * Count the call in the concurrency gauges according its actual state: an active call counted with its joined
+   * participants, a call in other state will be released from the gauges. It should be invoked after the call
+   * state transitions (start, join, leave, stop).
+   *
+   * @param call the call
+   */
+  protected void countLiveCall(CallInfo call) {
+    String callId = call.getId();
+    if (isActiveState(call.getState())) {
+      int joined = call.getJoinedCount();
+      LiveCall live = liveCalls.computeIfAbsent(callId, id -> {
+        String providerType = call.getProviderType();
+        String ownerType = call.getOwner().getType();
+        LiveCall newLive = new LiveCall(activeCallsGauge.labels(providerType, ownerType),
+                                        joinedParticipantsGauge.labels(providerType, ownerType));
+        newLive.calls.inc();
+        return newLive;
+      });
+      if (!live.update(joined)) {
+        // Released concurrently, count it again
+        liveCalls.remove(callId, live);
+        countLiveCall(call);
+      }
+    } else {
+      releaseLiveCall(callId);
+    }
+  }
+
+  /**
+   * Release the call from the concurrency gauges.
+   *
+   * @param callId the call id
+   */
+  protected void releaseLiveCall(String callId) {
+    LiveCall live = liveCalls.remove(callId);
+    if (live != null) {
+      live.release();
+    }
+  }
+
+  /**
+   * Update state of the participant in the registered active call (if it's not the same instance already).
+   *
+   * @param callId the call id
+   * @param participant the participant
+   */
+  protected void updateActiveParticipant(String callId, UserInfo participant) {
+    CallInfo call = activeCall(callId);
+    if (call != null) {
+      UserInfo part = call.getParticipant(participant.getId());
+      if (part != null && part != participant) {
+        call.setParticipantState(part, participant.getState(), participant.getClientId());
+      }
+    }
+  }
+
   /**
    * initialize all saved started calls state.
    */
   public void initializeStartedCallsState() {
+    activeCalls.clear();
     try {
       List<CallEntity> savedCalls = callStorage.findGroupCallsByState(CallState.STARTED);
       savedCalls.stream().forEach(callEntity -> {
@@ -1260,27 +2318,44 @@ public class WebConferencingService implements Startable {
    *           exception
    */
   public CallInfo stopCall(String callId, boolean remove) throws CallNotFoundException, InvalidCallException {
-    final long opStart = System.currentTimeMillis();
-    CallInfo call = getCall(callId);
-    if (call != null) {
-      String userId = currentUserId();
-      try {
-        stopCall(call, userId, remove);
-        broacastCallEvent(EVENT_CALL_STOPPED, call, userId, null);
+    final Lock lock = callLock(callId);
+    final Map<String, String> events = new LinkedHashMap<>(4);
+    CallInfo result = null;
+    lock.lock();
+    boolean done = false;
+    try {
+      final long opStart = System.currentTimeMillis();
+      CallInfo call = readCall(callId);
+      if (call != null) {
+        String userId = currentUserId();
+        try {
+          stopCall(call, userId, remove);
+          events.put(EVENT_CALL_STOPPED, userId);
 
-        if (remove) {
-          // Log metrics - call deleted
-          LOG.info(metricMessage(userId, call, OPERATION_CALL_DELETED, STATUS_OK, System.currentTimeMillis() - opStart, null, null));
-        } else {
-          // Log metrics - call stopped
-          LOG.info(metricMessage(userId, call, OPERATION_CALL_STOPPED, STATUS_OK, System.currentTimeMillis() - opStart, null, null));
+          if (remove) {
+            // Metrics - call deleted
+            metric(userId, call, OPERATION_CALL_DELETED, STATUS_OK, System.currentTimeMillis() - opStart, null, null);
+          } else {
+            // Metrics - call stopped
+            metric(userId, call, OPERATION_CALL_STOPPED, STATUS_OK, System.currentTimeMillis() - opStart, null, null);
+          }
+          result = call.copy();
+          done = true;
+          return result;
+        } catch (StorageException e) {
+          throw new InvalidCallException("Error stopping call: " + callId, e);
         }
-        return call;
-      } catch (StorageException e) {
-        throw new InvalidCallException("Error stopping call: " + callId, e);
+      } else {
+        throw new CallNotFoundException("Call not found: " + callId);
       }
-    } else {
-      throw new CallNotFoundException("Call not found: " + callId);
+    } finally {
+      if (!done) {
+        // The registered call might be changed before the failure
+        unregisterActiveCall(callId);
+      }
+      lock.unlock();
+      // Listeners run in this thread, they should not block the call while doing it
+      broacastCallEvents(result, events);
     }
   }
 
@@ -1296,6 +2371,12 @@ public class WebConferencingService implements Startable {
     try {
       // Stop the call in DB
       txStopCall(call, remove);
+      callChanged(call.getId());
+      releaseLiveCall(call.getId());
+      if (remove) {
+        // Owner's call ID could be read by another request before the commit
+        invalidateOwnerCallId(call.getOwner().getType(), call.getOwner().getId());
+      }
       // Then notify users
       if (call.getOwner().isGroup()) {
         String callId = call.getId();
@@ -1314,6 +2395,7 @@ public class WebConferencingService implements Startable {
         notifyUserCallStateChanged(call, userId, CallState.STOPPED);
       }
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      unregisterActiveCall(call.getId());
       throw new StorageException("Error stopping call " + call.getId(), e);
     }
   }
@@ -1329,24 +2411,41 @@ public class WebConferencingService implements Startable {
    *           exception
    */
   public CallInfo startCall(String callId, String clientId) throws CallNotFoundException, InvalidCallException {
-    final long opStart = System.currentTimeMillis();
-    CallInfo call = getCall(callId);
-    if (call != null) {
-      try {
-        // TODO use current user from the request (Comet) not an one system
-        String userId = currentUserId();
-        startCall(call, userId, clientId, true);
+    final Lock lock = callLock(callId);
+    final Map<String, String> events = new LinkedHashMap<>(4);
+    CallInfo result = null;
+    lock.lock();
+    boolean done = false;
+    try {
+      final long opStart = System.currentTimeMillis();
+      CallInfo call = readCall(callId);
+      if (call != null) {
+        try {
+          // TODO use current user from the request (Comet) not an one system
+          String userId = currentUserId();
+          startCall(call, userId, clientId, true);
 
-        broacastCallEvent(EVENT_CALL_STARTED, call, userId, null);
+          events.put(EVENT_CALL_STARTED, userId);
 
-        // Log metrics - call started
-        LOG.info(metricMessage(userId, call, OPERATION_CALL_STARTED, STATUS_OK, System.currentTimeMillis() - opStart, null, null));
-        return call;
-      } catch (StorageException | ParticipantNotFoundException | CallSettingsException e) {
-        throw new InvalidCallException("Error starting call: " + callId, e);
+          // Metrics - call started
+          metric(userId, call, OPERATION_CALL_STARTED, STATUS_OK, System.currentTimeMillis() - opStart, null, null);
+          result = call.copy();
+          done = true;
+          return result;
+        } catch (StorageException | ParticipantNotFoundException | CallSettingsException e) {
+          throw new InvalidCallException("Error starting call: " + callId, e);
+        }
+      } else {
+        throw new CallNotFoundException("Call not found: " + callId);
       }
-    } else {
-      throw new CallNotFoundException("Call not found: " + callId);
+    } finally {
+      if (!done) {
+        // The registered call might be changed before the failure
+        unregisterActiveCall(callId);
+      }
+      lock.unlock();
+      // Listeners run in this thread, they should not block the call while doing it
+      broacastCallEvents(result, events);
     }
   }
 
@@ -1379,14 +2478,13 @@ public class WebConferencingService implements Startable {
     // On call start we mark all parts LEAVED and then each of them will join and be marked as JOINED in joinCall()
     for (UserInfo part : call.getParticipants()) {
       if (UserInfo.TYPE_NAME.equals(part.getType()) && partId.equals(part.getId())) {
-        part.setState(UserState.JOINED);
-        part.setClientId(clientId);
+        call.setParticipantState(part, UserState.JOINED, clientId);
       } else {
-        part.setState(UserState.LEAVED);
-        part.setClientId(null);
+        call.setParticipantState(part, UserState.LEAVED, null);
       }
     }
     updateCallAndParticipants(call);
+    countLiveCall(call);
 
     // Dec 3, 2020: Optionally notify the call started
     if (notifyStarted) {
@@ -1440,6 +2538,7 @@ public class WebConferencingService implements Startable {
       if (call != null) {
         try {
           txUpdateParticipants(call, userInfos);
+          callChanged(callId);
         } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
           throw new StorageException("Error updating participants of the call " + callId, e);
         }
@@ -1472,6 +2571,7 @@ public class WebConferencingService implements Startable {
     if (userInfo != null) {
       try {
         txAddParticipant(callId, userInfo);
+        callChanged(callId);
       } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
         throw new StorageException("Error adding participant to call " + callId, e);
       }
@@ -1498,17 +2598,25 @@ public class WebConferencingService implements Startable {
                                                       IdentityStateException {
     UserInfo userInfo = userInfo(guestId);
     GuestInfo guestInfo = userInfo == null ? new GuestInfo(guestId) : new GuestInfo(userInfo);
-    CallInfo call = getCall(callIId);
-    if (call != null) {
-      try {
-        txAddParticipant(callIId, guestInfo);
-      } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-        throw new StorageException("Error adding guest to call " + callIId, e);
+    final Lock lock = callLock(callIId);
+    lock.lock();
+    try {
+      CallInfo call = readCall(callIId);
+      if (call != null) {
+        try {
+          txAddParticipant(callIId, guestInfo);
+          callChanged(callIId);
+        } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+          unregisterActiveCall(callIId);
+          throw new StorageException("Error adding guest to call " + callIId, e);
+        }
+        call.addParticipant(guestInfo);
+        return call.copy();
+      } else {
+        throw new CallNotFoundException("Call not found: " + callIId);
       }
-      call.addParticipant(guestInfo);
-      return call;
-    } else {
-      throw new CallNotFoundException("Call not found: " + callIId);
+    } finally {
+      lock.unlock();
     }
   }
   
@@ -1526,16 +2634,22 @@ public class WebConferencingService implements Startable {
   public CallInfo updateInvites(String callId, List<InvitedIdentity> identities) throws CallNotFoundException,
                                                                                  InvalidCallException,
                                                                                  StorageException {
-    CallInfo call = getCall(callId);
-    if (call != null) {
-      try {
-        txUpdateInvites(callId, identities);
-        return call;
-      } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-        throw new StorageException("Error updating invites of call " + callId, e);
+    final Lock lock = callLock(callId);
+    lock.lock();
+    try {
+      CallInfo call = readCall(callId);
+      if (call != null) {
+        try {
+          txUpdateInvites(callId, identities);
+          return call.copy();
+        } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+          throw new StorageException("Error updating invites of call " + callId, e);
+        }
+      } else {
+        throw new CallNotFoundException("Call not found: " + callId);
       }
-    } else {
-      throw new CallNotFoundException("Call not found: " + callId);
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -1553,71 +2667,85 @@ public class WebConferencingService implements Startable {
    * @throws CallArgumentException if participant cannot be found
    */
   public CallInfo joinCall(String callId, String partId, String clientId) throws InvalidCallException, CallNotFoundException, IdentityStateException, CallArgumentException {
-    final long opStart = System.currentTimeMillis();
-    CallInfo call = getCall(callId);
-    if (call != null) {
-      try {
-        if (CallState.STARTED.equals(call.getState())) {
-          // Call already started - join the participant to it
-          UserInfo joined = null;
-          // save Joined first
-          for (UserInfo part : call.getParticipants()) {
-            if ((UserInfo.TYPE_NAME.equals(part.getType()) || GuestInfo.TYPE_NAME.equals(part.getType()))
-                && partId.equals(part.getId())) {
-              part.setState(UserState.JOINED);
-              part.setClientId(clientId);
-              joined = part;
-              break;
-            }
-          }
-          // then save if have the joined (it should but we preserve the logic)
-          if (joined != null) {
-            // First save the call with joined participant (in single tx)
-            try {
-              updateParticipant(callId, joined);
-            } catch(ParticipantNotFoundException e) {
-              // XXX check if this participant not from group's origins
-              if (call.getOwner().isGroup() && GroupInfo.class.cast(call.getOwner()).getMembers().keySet().contains(partId)) {
-                addParticipant(callId, partId);
-              } else {
-                throw new ParticipantNotFoundException("Cannot join the call with not allowed participant: " + partId 
-                                                       + ", call: " + callId, e);
+    final Lock lock = callLock(callId);
+    final Map<String, String> events = new LinkedHashMap<>(4);
+    CallInfo result = null;
+    lock.lock();
+    boolean done = false;
+    try {
+      final long opStart = System.currentTimeMillis();
+      CallInfo call = readCall(callId);
+      if (call != null) {
+        try {
+          if (CallState.STARTED.equals(call.getState())) {
+            // Call already started - join the participant to it
+            // save Joined first
+            UserInfo joined = call.getParticipant(partId);
+            if (joined == null && call.getOwner().isGroup()) {
+              // The user may become a group member after the call was read, read it again from the storage
+              unregisterActiveCall(callId);
+              CallInfo actual = readCall(callId);
+              if (actual != null) {
+                call = actual;
+                joined = call.getParticipant(partId);
               }
             }
-            // Then fire this user joined to all parts, including the user itself
-            for (UserInfo part : call.getParticipants()) {
-              fireUserCallJoined(callId,
-                                 call.getProviderType(),
-                                 call.getOwner().getId(),
-                                 call.getOwner().getType(),
-                                 partId,
-                                 part.getId());
+            if (joined != null) {
+              call.setParticipantState(joined, UserState.JOINED, clientId);
             }
-            broacastCallEvent(EVENT_CALL_JOINDED, call, partId, null);
+            // then save if have the joined (it should but we preserve the logic)
+            if (joined != null) {
+              // First save the call with joined participant (in single tx)
+              try {
+                updateParticipant(callId, joined);
+              } catch(ParticipantNotFoundException e) {
+                // XXX check if this participant not from group's origins
+                if (call.getOwner().isGroup() && GroupInfo.class.cast(call.getOwner()).isMember(partId)) {
+                  addParticipant(callId, partId);
+                } else {
+                  throw new ParticipantNotFoundException("Cannot join the call with not allowed participant: " + partId 
+                                                         + ", call: " + callId, e);
+                }
+              }
+              countLiveCall(call);
+              // Then notify this user joined to all parts (or the call channel), including the user itself
+              notifyPartJoined(call, partId);
+              events.put(EVENT_CALL_JOINDED, partId);
 
-            // Log metrics - call joined
-            LOG.info(metricMessage(partId, call, OPERATION_CALL_JOINED, STATUS_OK, System.currentTimeMillis() - opStart, null, null));
+              // Metrics - call joined
+              metric(partId, call, OPERATION_CALL_JOINED, STATUS_OK, System.currentTimeMillis() - opStart, null, null);
+            } else {
+              LOG.warn("Call join invoked but no participant was found for given user. Call ID: " + callId + ", participant: " + partId);
+            }
           } else {
-            LOG.warn("Call join invoked but no participant was found for given user. Call ID: " + callId + ", participant: " + partId);
-          }
-        } else {
-          // Auto-start logic here, if someone joins a not started call - we start the call, but do this without notification of its parties.
-          // TODO check should we use partId instead of the current user for the start
-          // the partId it's current exo user in the request (Comet)
-          String userId = currentUserId();
-          startCall(call, userId, clientId, false); // We will not notify parties about the auto-start
+            // Auto-start logic here, if someone joins a not started call - we start the call, but do this without notification of its parties.
+            // TODO check should we use partId instead of the current user for the start
+            // the partId it's current exo user in the request (Comet)
+            String userId = currentUserId();
+            startCall(call, userId, clientId, false); // We will not notify parties about the auto-start
 
-          broacastCallEvent(EVENT_CALL_JOINDED, call, userId, null);
+            events.put(EVENT_CALL_JOINDED, userId);
 
-          // Log metrics - call started
-          LOG.info(metricMessage(userId, call, OPERATION_CALL_STARTED, STATUS_OK, System.currentTimeMillis() - opStart, null, null));
+            // Metrics - call started
+            metric(userId, call, OPERATION_CALL_STARTED, STATUS_OK, System.currentTimeMillis() - opStart, null, null);
+          }
+        } catch (CallSettingsException | ParticipantNotFoundException | StorageException e) {
+          throw new InvalidCallException("Error joining call: " + callId, e);
         }
-      } catch (CallSettingsException | ParticipantNotFoundException | StorageException e) {
-        throw new InvalidCallException("Error joining call: " + callId, e);
+        result = call.copy();
+        done = true;
+        return result;
+      } else {
+        throw new CallNotFoundException("Call not found: " + callId);
       }
-      return call;
-    } else {
-      throw new CallNotFoundException("Call not found: " + callId);
+    } finally {
+      if (!done) {
+        // The participant state already changed in the registered call, but not saved
+        unregisterActiveCall(callId);
+      }
+      lock.unlock();
+      // Listeners run in this thread, they should not block the call while doing it
+      broacastCallEvents(result, events);
     }
   }
 
@@ -1633,130 +2761,166 @@ public class WebConferencingService implements Startable {
    *           exception
    */
   public CallInfo leaveCall(String callId, String partId, String clientId) throws InvalidCallException {
-    final long opStart = System.currentTimeMillis();
-    CallInfo call = getCall(callId);
-    if (call != null) {
-      try {
-        if (CallState.STARTED.equals(call.getState()) || CallState.PAUSED.equals(call.getState())) {
-          UserInfo leaved = null;
-          boolean isGuestLeaved = false;
-          int leavedNum = 0;
-          for (UserInfo part : call.getParticipants()) {
-            boolean partIsGuest = GuestInfo.TYPE_NAME.equals(part.getType());
-            if (UserInfo.TYPE_NAME.equals(part.getType()) || partIsGuest) {
-              // Users will leave the call, but guests will go (removed) from participants
-              if (partId.equals(part.getId())) {
-                // Leave should not be called on a call session started after stopping an one previous of this call.
-                part.setState(UserState.LEAVED);
-                part.setClientId(null);
-                leaved = part;
-                if (partIsGuest) {
-                  isGuestLeaved = true; 
-                }
-                leavedNum++;
+    final Lock lock = callLock(callId);
+    final Map<String, String> events = new LinkedHashMap<>(4);
+    CallInfo result = null;
+    lock.lock();
+    boolean done = false;
+    try {
+      final long opStart = System.currentTimeMillis();
+      CallInfo call = readCall(callId);
+      if (call != null) {
+        try {
+          if (CallState.STARTED.equals(call.getState()) || CallState.PAUSED.equals(call.getState())) {
+            // Users will leave the call, but guests will go (removed) from participants
+            UserInfo leaved = call.getParticipant(partId);
+            // then save if someone leaved
+            if (leaved != null) {
+              // Leave should not be called on a call session started after stopping an one previous of this call.
+              call.setParticipantState(leaved, UserState.LEAVED, null);
+              boolean isGuestLeaved = GuestInfo.TYPE_NAME.equals(leaved.getType());
+              // First update the call with leaved participant
+              if (isGuestLeaved) {
+                removeParticipant(callId, leaved);
               } else {
-                // if null - user hasn't joined
-                if (part.getState() == null || UserState.LEAVED.equals(part.getState())) {
-                  leavedNum++;
+                updateParticipant(callId, leaved);
+              }
+              countLiveCall(call);
+              // Notify user leaved to all parts (or the call channel), including the user itself
+              notifyPartLeaved(call, partId);
+
+              events.put(EVENT_CALL_LEFT, partId);
+              // Metrics - call leaved
+              metric(partId, call, OPERATION_CALL_LEAVED, STATUS_OK, System.currentTimeMillis() - opStart, null, null);
+              // Check if don't need stop the call if all parts leaved already
+              if (call.getOwner().isGroup()) {
+                // Call counts its participants states, guests don't keep the call running
+                if (call.getJoinedCount() - call.getJoinedGuestsCount() <= 0) {
+                  // Stop when all group members leave the call
+                  // TODO it would be better UX when we let guest to run the call even without exo users,
+                  // but then need find a proper way of stopping the call if guests will not leave finally via API (network errors, server crashes etc).
+                  call.getParticipants()
+                      .stream()
+                      .filter(participant -> participant.getType().equals(GuestInfo.TYPE_NAME)
+                          && participant.getState().equals(UserState.JOINED))
+                      .forEach(guest -> fireUserCallStateChanged(guest.getId(),
+                                               callId,
+                                               call.getProviderType(),
+                                               CallState.STOPPED,
+                                               call.getOwner().getId(),
+                                               call.getOwner().getType()));
+                  stopCall(call, partId, false);
+                  events.put(EVENT_CALL_STOPPED, partId);
+                  // Metrics - call stopped
+                  metric(partId,
+                         call,
+                         OPERATION_CALL_STOPPED,
+                         STATUS_OK,
+                         System.currentTimeMillis() - opStart,
+                         null,
+                         null);
                 }
+              } else if (call.getParticipantsCount() - call.getLeavedCount() <= 1) {
+                // For P2P we remove the call when one of parts stand alone
+                stopCall(call, partId, true);
+
+                events.put(EVENT_CALL_STOPPED, partId);
+                // Metrics - call deleted
+                metric(partId,
+                       call,
+                       OPERATION_CALL_DELETED,
+                       STATUS_OK,
+                       System.currentTimeMillis() - opStart,
+                       null,
+                       null);
               }
-            }
-          }
-          // then save if someone leaved
-          if (leaved != null) {
-            // First update the call with leaved participant
-            if (isGuestLeaved) {
-              removeParticipant(callId, leaved);
-            } else {
-              updateParticipant(callId, leaved);
-            }
-            // Fire user leaved to all parts, including the user itself
-            for (UserInfo part : call.getParticipants()) {
-              // Fire user leaved to all parts, including the user itself
-              fireUserCallLeaved(callId,
-                                 call.getProviderType(),
-                                 call.getOwner().getId(),
-                                 call.getOwner().getType(),
-                                 partId,
-                                 part.getId());
-            }
+            } // else, if no one leaved, we don't need any action (it may be leaved an user of already stopped
+              // call, see comments above)
+          } // It seems has no big sense to return error for already stopped call
+        } catch (StorageException | ParticipantNotFoundException e) {
+          throw new InvalidCallException("Error leaving call: " + callId, e);
+        }
+      } else {
+        LOG.warn("Call " + callId + " not found to leave it " + partId);
+      }
+      result = call != null ? call.copy() : null;
+      done = true;
+      return result;
+    } finally {
+      if (!done) {
+        // The participant state already changed in the registered call, but not saved
+        unregisterActiveCall(callId);
+      }
+      lock.unlock();
+      // Listeners run in this thread, they should not block the call while doing it
+      broacastCallEvents(result, events);
+    }
+  }
 
-            broacastCallEvent(EVENT_CALL_LEFT, call, partId, null);
-            // Log metrics - call leaved
-            LOG.info(metricMessage(partId, call, OPERATION_CALL_LEAVED, STATUS_OK, System.currentTimeMillis() - opStart, null, null));
-            // Check if don't need stop the call if all parts leaved already
-            if (call.getOwner().isGroup()) {
-              if (leavedNum == call.getParticipants().size() || call.getParticipants().size() == 0
-                  || call.getParticipants()
-                         .stream()
-                         .allMatch(p -> p.getType().equals(GuestInfo.TYPE_NAME) || p.getState() == null
-                             || UserState.LEAVED.equals(p.getState()))
-                  /*|| call.getParticipants().stream().allMatch(p -> p.getType() == GuestInfo.TYPE_NAME)*/) {
-                // Stop when all group members leave the call
-                // TODO it would be better UX when we let guest to run the call even without exo users,
-                // but then need find a proper way of stopping the call if guests will not leave finally via API (network errors, server crashes etc).
-                call.getParticipants()
-                    .stream()
-                    .filter(participant -> participant.getType().equals(GuestInfo.TYPE_NAME)
-                        && participant.getState().equals(UserState.JOINED))
-                    .forEach(guest -> fireUserCallStateChanged(guest.getId(),
-                                             callId,
-                                             call.getProviderType(),
-                                             CallState.STOPPED,
-                                             call.getOwner().getId(),
-                                             call.getOwner().getType()));
-                stopCall(call, partId, false);
-                broacastCallEvent(EVENT_CALL_STOPPED, call, partId, null);
-                // Log metrics - call stopped
-                LOG.info(metricMessage(partId,
-                                       call,
-                                       OPERATION_CALL_STOPPED,
-                                       STATUS_OK,
-                                       System.currentTimeMillis() - opStart,
-                                       null,
-                                       null));
-              }
-            } else if (call.getParticipants().size() - leavedNum <= 1) {
-              // For P2P we remove the call when one of parts stand alone
-              stopCall(call, partId, true);
-
-              broacastCallEvent(EVENT_CALL_STOPPED, call, partId, null);
-              // Log metrics - call deleted
-              LOG.info(metricMessage(partId,
-                                     call,
-                                     OPERATION_CALL_DELETED,
-                                     STATUS_OK,
-                                     System.currentTimeMillis() - opStart,
-                                     null,
-                                     null));
-            }
-          } // else, if no one leaved, we don't need any action (it may be leaved an user of already stopped
-            // call, see comments above)
-        } // It seems has no big sense to return error for already stopped call
-      } catch (StorageException | ParticipantNotFoundException e) {
-        throw new InvalidCallException("Error leaving call: " + callId, e);
+  /**
+   * Gets the user calls. Calls which owner cannot be found or with wrong settings will be skipped (as they
+   * cannot be read by {@link #getCall(String)}).
+   *
+   * @param userId the user id
+   * @return the user call states
+   * @throws StorageException if persistence error happen
+   */
+  public CallState[] getUserCalls(String userId) throws StorageException {
+    try {
+      // Read only call IDs and states with their owners, there is no need to resolve the calls participants here
+      List<CallState> states = new ArrayList<>();
+      for (UserCallState c : callStorage.findUserCallStates(userId)) {
+        if (isCallOwnerReadable(c)) {
+          states.add(new CallState(c.getId(), c.getState() != null ? c.getState() : CallState.STOPPED));
+        }
+      }
+      return states.toArray(new CallState[states.size()]);
+    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      throw new StorageException("Error reading user call states by " + userId, e);
+    }
+  }
+
+  /**
+   * Checks if the call owner can be read from the storage, it's a lightweight check of what
+   * {@link #readCallEntity(CallEntity, boolean)} resolves: room settings, existence of the space, space
+   * event or user owner. Erroneous calls will be logged.
+   *
+   * @param c the user call state
+   * @return <code>true</code>, if call owner can be read
+   */
+  protected boolean isCallOwnerReadable(UserCallState c) {
+    String ownerType = c.getOwnerType();
+    String ownerId = c.getOwnerId();
+    try {
+      if (OWNER_TYPE_CHATROOM.equals(ownerType)) {
+        String roomTitle = new JSONObject(c.getSettings()).optString("roomTitle");
+        if (roomTitle != null && roomTitle.length() > 0) {
+          return true;
+        }
+        LOG.warn("Skipped user call " + c.getId() + ": saved call doesn't have room settings");
+        return false;
+      }
+      boolean found;
+      if (OWNER_TYPE_SPACE.equals(ownerType)) {
+        found = spaceService.getSpaceByPrettyName(ownerId) != null;
+      } else if (OWNER_TYPE_SPACEEVENT.equals(ownerType)) {
+        found = socialIdentityManager.getIdentity(ownerId) != null;
+      } else if (OWNER_TYPE_USER.equals(ownerType)) {
+        found = userInfo(ownerId) != null;
+      } else {
+        LOG.warn("Skipped user call " + c.getId() + ": unexpected call owner type " + ownerType + " for " + ownerId);
+        return false;
       }
-    } else {
-      LOG.warn("Call " + callId + " not found to leave it " + partId);
+      if (!found) {
+        LOG.warn("Skipped user call " + c.getId() + ": call owner cannot be found " + ownerId);
+      }
+      return found;
+    } catch (JSONException e) {
+      LOG.warn("Skipped user call " + c.getId() + ": saved call has wrong room settings format", e);
+    } catch (IdentityStateException e) {
+      LOG.warn("Skipped user call " + c.getId() + ": error reading call owner " + ownerId, e);
     }
-    return call;
-  }
-
-  /**
-   * Gets the user calls.
-   *
-   * @param userId the user id
-   * @return the user call states
-   * @throws StorageException if persistence error happen
-   */
-  public CallState[] getUserCalls(String userId) throws StorageException {
-    // TODO it's not efficient to read whole Call info when we need only its ID and state
-    CallState[] states =
-                       findUserGroupCalls(userId).stream()
-                                                 .map(c -> new CallState(c.getId(),
-                                                                         c.getState() != null ? c.getState() : CallState.STOPPED))
-                                                 .toArray(size -> new CallState[size]);
-    return states;
+    return false;
   }
 
   /**
@@ -1766,7 +2930,8 @@ public class WebConferencingService implements Startable {
    */
   public void addUserCallListener(UserCallListener listener) {
     final String userId = listener.getUserId();
-    userListeners.computeIfAbsent(userId, k -> new LinkedHashSet<>()).add(listener);
+    // Listeners are iterated by events dispatcher threads, thus use a thread-safe ordered set
+    userListeners.computeIfAbsent(userId, k -> new CopyOnWriteArraySet<>()).add(listener);
   }
 
   /**
@@ -1782,6 +2947,91 @@ public class WebConferencingService implements Startable {
     }
   }
 
+  /**
+   * Adds the call channel listener.
+   *
+   * @param listener the listener
+   */
+  public void addCallChannelListener(CallChannelListener listener) {
+    callListeners.add(listener);
+  }
+
+  /**
+   * Removes the call channel listener.
+   *
+   * @param listener the listener
+   */
+  public void removeCallChannelListener(CallChannelListener listener) {
+    callListeners.remove(listener);
+  }
+
+  /**
+   * Checks if call channel broadcast enabled: participants joined or leaved a call will be notified once to
+   * call channel listeners instead of each participant user listeners. Users own changes and call state
+   * changes (invitations) still will be notified to user listeners.
+   *
+   * @return true, if call channel broadcast enabled and there are listeners to notify
+   */
+  public boolean isCallChannelBroadcast() {
+    return callChannelBroadcast && !callListeners.isEmpty();
+  }
+
+  /**
+   * Notify participant joined the call: to all call participants or, in call channel broadcast mode, to the
+   * participant itself and then once to the call channel.
+   *
+   * @param call the call
+   * @param partId the part id
+   */
+  protected void notifyPartJoined(CallInfo call, String partId) {
+    final String callId = call.getId();
+    final String providerType = call.getProviderType();
+    final String ownerId = call.getOwner().getId();
+    final String ownerType = call.getOwner().getType();
+    if (isCallChannelBroadcast()) {
+      fireUserCallJoined(callId, providerType, ownerId, ownerType, partId, partId);
+      dispatchUserEvent(CALL_EVENTS_KEY_PREFIX + callId, () -> {
+        for (CallChannelListener listener : callListeners) {
+          listener.onPartJoined(callId, providerType, ownerId, ownerType, partId);
+        }
+      }, true);
+    } else {
+      // Fire this user joined to all parts, including the user itself
+      for (UserInfo part : call.getParticipants()) {
+        fireUserCallJoined(callId, providerType, ownerId, ownerType, partId, part.getId());
+      }
+    }
+  }
+
+  /**
+   * Notify participant leaved the call: to all call participants or, in call channel broadcast mode, to the
+   * participant itself (if it is still a participant) and then once to the call channel.
+   *
+   * @param call the call
+   * @param partId the part id
+   */
+  protected void notifyPartLeaved(CallInfo call, String partId) {
+    final String callId = call.getId();
+    final String providerType = call.getProviderType();
+    final String ownerId = call.getOwner().getId();
+    final String ownerType = call.getOwner().getType();
+    if (isCallChannelBroadcast()) {
+      if (call.getParticipant(partId) != null) {
+        fireUserCallLeaved(callId, providerType, ownerId, ownerType, partId, partId);
+      }
+      dispatchUserEvent(CALL_EVENTS_KEY_PREFIX + callId, () -> {
+        for (CallChannelListener listener : callListeners) {
+          listener.onPartLeaved(callId, providerType, ownerId, ownerType, partId);
+        }
+      }, true);
+    } else {
+      // Fire user leaved to all parts, including the user itself
+      for (UserInfo part : call.getParticipants()) {
+        fireUserCallLeaved(callId, providerType, ownerId, ownerType, partId, part.getId());
+      }
+    }
+  }
+
   /**
    * Fire user call state.
    *
@@ -1798,13 +3048,16 @@ public class WebConferencingService implements Startable {
                                           String callState,
                                           String ownerId,
                                           String ownerType) {
-    // Synchronize on userListeners to have a consistent list of listeners to fire
-    Set<UserCallListener> listeners = userListeners.get(userId);
-    if (listeners != null) {
-      for (UserCallListener listener : listeners) {
-        listener.onCallStateChanged(callId, providerType, callState, ownerId, ownerType);
+    // Participants changes happened before should be notified first
+    flushPartsChange(callId, userId);
+    dispatchUserEvent(userId, () -> {
+      Set<UserCallListener> listeners = userListeners.get(userId);
+      if (listeners != null) {
+        for (UserCallListener listener : listeners) {
+          listener.onCallStateChanged(callId, providerType, callState, ownerId, ownerType);
+        }
       }
-    }
+    }, false);
   }
 
   /**
@@ -1823,11 +3076,19 @@ public class WebConferencingService implements Startable {
                                     String ownerType,
                                     String partId,
                                     String userId) {
-    Set<UserCallListener> listeners = userListeners.get(userId);
-    if (listeners != null) {
-      for (UserCallListener listener : listeners) {
-        listener.onPartJoined(callId, providerType, ownerId, ownerType, partId);
-      }
+    if (participantsWindow > 0 && !partId.equals(userId)) {
+      coalescePartChange(callId, providerType, ownerId, ownerType, partId, userId, true);
+    } else {
+      // The user own changes should be notified immediately (e.g. to close an incoming call in other user clients)
+      flushPartsChange(callId, userId);
+      dispatchUserEvent(userId, () -> {
+        Set<UserCallListener> listeners = userListeners.get(userId);
+        if (listeners != null) {
+          for (UserCallListener listener : listeners) {
+            listener.onPartJoined(callId, providerType, ownerId, ownerType, partId);
+          }
+        }
+      }, true);
     }
   }
 
@@ -1847,14 +3108,96 @@ public class WebConferencingService implements Startable {
                                     String ownerType,
                                     String partId,
                                     String userId) {
-    Set<UserCallListener> listeners = userListeners.get(userId);
-    if (listeners != null) {
-      for (UserCallListener listener : listeners) {
-        listener.onPartLeaved(callId, providerType, ownerId, ownerType, partId);
+    if (participantsWindow > 0 && !partId.equals(userId)) {
+      coalescePartChange(callId, providerType, ownerId, ownerType, partId, userId, false);
+    } else {
+      // The user own changes should be notified immediately (e.g. to unlock a call button in other user clients)
+      flushPartsChange(callId, userId);
+      dispatchUserEvent(userId, () -> {
+        Set<UserCallListener> listeners = userListeners.get(userId);
+        if (listeners != null) {
+          for (UserCallListener listener : listeners) {
+            listener.onPartLeaved(callId, providerType, ownerId, ownerType, partId);
+          }
+        }
+      }, true);
+    }
+  }
+
+  /**
+   * Add the participant change to ones that will be notified to the user at the end of the coalescing window
+   * ({@link #participantsWindow}) in a single {@link UserCallListener#onPartsChanged} event.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @param partId the part id
+   * @param userId the user id
+   * @param joined <code>true</code> if participant joined, <code>false</code> if leaved
+   */
+  protected void coalescePartChange(String callId,
+                                    String providerType,
+                                    String ownerId,
+                                    String ownerType,
+                                    String partId,
+                                    String userId,
+                                    boolean joined) {
+    final String key = partsChangeKey(callId, userId);
+    boolean[] created = new boolean[1];
+    partsChanges.compute(key, (k, change) -> {
+      if (change == null) {
+        change = new PartsChange(userId, callId, providerType, ownerId, ownerType);
+        created[0] = true;
+      }
+      change.parts.remove(partId); // keep order of the last change
+      change.parts.put(partId, joined);
+      return change;
+    });
+    if (created[0]) {
+      try {
+        partsChangesTimer.schedule(() -> flushPartsChange(callId, userId), participantsWindow, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        // timer stopped
+        flushPartsChange(callId, userId);
       }
     }
   }
 
+  /**
+   * Notify the user about participants changes of the call waiting for the end of coalescing window, if any.
+   *
+   * @param callId the call id
+   * @param userId the user id
+   */
+  protected void flushPartsChange(String callId, String userId) {
+    PartsChange change = partsChanges.remove(partsChangeKey(callId, userId));
+    if (change != null) {
+      List<String> joined = new ArrayList<>();
+      List<String> leaved = new ArrayList<>();
+      change.parts.forEach((partId, isJoined) -> (isJoined ? joined : leaved).add(partId));
+      dispatchUserEvent(userId, () -> {
+        Set<UserCallListener> listeners = userListeners.get(userId);
+        if (listeners != null) {
+          for (UserCallListener listener : listeners) {
+            listener.onPartsChanged(change.callId, change.providerType, change.ownerId, change.ownerType, joined, leaved);
+          }
+        }
+      }, true);
+    }
+  }
+
+  /**
+   * Participants change key.
+   *
+   * @param callId the call id
+   * @param userId the user id
+   * @return the key
+   */
+  protected String partsChangeKey(String callId, String userId) {
+    return new StringBuilder(callId).append('@').append(userId).toString();
+  }
+
   /**
    * Adds a provider plugin. This method is safe in runtime: if configured provider is not an instance of
    * {@link CallProvider} then it will log a warning and let server continue the start.
@@ -2124,7 +3467,7 @@ public class WebConferencingService implements Startable {
     UploadResource resource = uploadService.getUploadResource(uploadId);
     CallInfo call = null;
     try {
-      call = getCall(uploadInfo.getCallId());
+      call = readCall(uploadInfo.getCallId());
       if (resource.getStatus() == UploadResource.UPLOADED_STATUS) {
         final String uploadingUser = uploadInfo.getUser();
         String owner = null;
@@ -2143,20 +3486,20 @@ public class WebConferencingService implements Startable {
           saveFile(rootNode, resource, uploadingUser, null);
         }
         broacastCallEvent(EVENT_CALL_RECORDED, call, uploadingUser, resource.getUploadedSize(),resource.getFileName(), uploadInfo, STATUS_OK);
-        LOG.info(metricMessage(uploadingUser, call, OPERATION_CALL_RECORDED, STATUS_OK, System.currentTimeMillis() - opStart, null, resource.getUploadedSize()));
+        metric(uploadingUser, call, OPERATION_CALL_RECORDED, STATUS_OK, System.currentTimeMillis() - opStart, null, resource.getUploadedSize());
       } else {
         if (uploadService.isLimited(resource, resource.getEstimatedSize())) {
           UploadService.UploadLimit limitUpload = uploadService.getLimitForResource(resource);
           String limit = "";
           limit = " ("+limitUpload.getLimit() + " " + limitUpload.getUnit()+")";
           broacastCallEvent(EVENT_CALL_RECORDED, call, uploadInfo.getUser(), resource.getEstimatedSize(), null, uploadInfo, STATUS_NOT_OK);
-          LOG.info(metricMessage(uploadInfo.getUser(),
-                                 call,
-                                 OPERATION_CALL_RECORDED,
-                                 STATUS_NOT_OK,
-                                 System.currentTimeMillis() - opStart,
-                                 "Record size limit exceed the upload limit"+limit,
-                                 resource.getEstimatedSize()));
+          metric(uploadInfo.getUser(),
+                 call,
+                 OPERATION_CALL_RECORDED,
+                 STATUS_NOT_OK,
+                 System.currentTimeMillis() - opStart,
+                 "Record size limit exceed the upload limit"+limit,
+                 resource.getEstimatedSize());
           LOG.error("Failed while uploading the record : record size exceed the upload limit"+limit);
       } else {
           throw new UploadFileException("The file " + resource.getFileName() + " cannot be uploaded. Status: " + resource.getStatus());
@@ -2166,13 +3509,13 @@ public class WebConferencingService implements Startable {
       LOG.warn("Failed to build metric for " + OPERATION_CALL_RECORDED, e);
     } catch (Exception e) {
       broacastCallEvent(EVENT_CALL_RECORDED, call, uploadInfo.getUser(), resource.getEstimatedSize(), null, null, STATUS_NOT_OK);
-      LOG.info(metricMessage(uploadInfo.getUser(),
-                             call,
-                             OPERATION_CALL_RECORDED,
-                             STATUS_NOT_OK,
-                             System.currentTimeMillis() - opStart,
-                             null,
-                             resource.getEstimatedSize()));
+      metric(uploadInfo.getUser(),
+             call,
+             OPERATION_CALL_RECORDED,
+             STATUS_NOT_OK,
+             System.currentTimeMillis() - opStart,
+             null,
+             resource.getEstimatedSize());
       LOG.error("Failed while saving the uploaded file " + e.getMessage(), e);
     } finally {
       uploadService.removeUploadResource(uploadId);
@@ -2516,7 +3859,107 @@ public class WebConferencingService implements Startable {
    */
   @Override
   public void stop() {
-    // nothing
+    partsChangesTimer.shutdownNow();
+    eventsDispatcher.shutdown();
+    try {
+      if (!eventsDispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
+        eventsDispatcher.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      eventsDispatcher.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Create the user events dispatcher.
+   *
+   * @return the executor service
+   */
+  protected ExecutorService createEventsDispatcher() {
+    final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    final AtomicInteger threadNumber = new AtomicInteger(1);
+    ThreadFactory threadFactory = r -> {
+      Thread t = new Thread(r, EVENTS_THREAD_PREFIX + threadNumber.getAndIncrement());
+      t.setDaemon(true);
+      return t;
+    };
+    return Executors.newFixedThreadPool(threads, threadFactory);
+  }
+
+  /**
+   * Dispatch an event to the user listeners. Events of the same user will be dispatched in the order of this
+   * method calls, asynchronously to the caller. If the dispatching queue reached its max size
+   * ({@link #EVENTS_QUEUE_MAX_SIZE}), a droppable event will be dropped: the caller may hold a call lock and
+   * should not publish events by itself. Only participants joined/leaved events are droppable, a client
+   * missed them still shows the call and will get its actual participants with the call. Call state events
+   * are queued even above the max size, as a client missed a stopped call would show it running forever.
+   *
+   * @param userId the user id (or call events key for call channel listeners)
+   * @param event the event
+   * @param droppable if the event can be dropped when the queue is full
+   */
+  protected void dispatchUserEvent(String userId, Runnable event, boolean droppable) {
+    final ExoContainer container = ExoContainerContext.getCurrentContainer();
+    final Runnable containerEvent = () -> {
+      ExoContainer prevContainer = ExoContainerContext.getCurrentContainer();
+      ExoContainerContext.setCurrentContainer(container);
+      try {
+        event.run();
+      } finally {
+        ExoContainerContext.setCurrentContainer(prevContainer);
+      }
+    };
+    // Reserve a place in the queue first, this way the limit applies to all users queues
+    if (eventsQueueDepth.incrementAndGet() > EVENTS_QUEUE_MAX_SIZE && droppable) {
+      eventsQueueDepth.decrementAndGet();
+      eventsOverflowCount.increment();
+      long dropped = eventsOverflowCount.sum();
+      if ((dropped & (dropped - 1)) == 0) {
+        // don't flood the log: 1st, 2nd, 4th and so on
+        LOG.warn("User events queue is full (" + EVENTS_QUEUE_MAX_SIZE + "), event to " + userId + " dropped. Dropped events: "
+            + dropped);
+      }
+      return;
+    }
+    UserEvents[] start = new UserEvents[1];
+    userEvents.compute(userId, (id, ue) -> {
+      if (ue == null) {
+        ue = new UserEvents(id);
+      }
+      ue.events.add(containerEvent);
+      if (!ue.dispatching) {
+        ue.dispatching = true;
+        start[0] = ue;
+      }
+      return ue;
+    });
+    if (start[0] != null) {
+      try {
+        eventsDispatcher.execute(start[0]);
+      } catch (RejectedExecutionException e) {
+        // dispatcher stopped
+        start[0].run();
+      }
+    }
+  }
+
+  /**
+   * Gets the number of user events waiting for dispatching to the user listeners.
+   *
+   * @return the events queue depth
+   */
+  public int getEventsQueueDepth() {
+    return eventsQueueDepth.get();
+  }
+
+  /**
+   * Gets the number of user events dropped due to the queue overflow.
+   *
+   * @return the events overflow count
+   */
+  public long getEventsOverflowCount() {
+    return eventsOverflowCount.sum();
   }
 
   /**
@@ -2527,7 +3970,8 @@ public class WebConferencingService implements Startable {
    * @return true, if is space member
    */
   protected boolean isSpaceMember(String userName, String spacePrettyName) {
-    return getSpaceMembers(spacePrettyName).contains(userName);
+    SpaceMembers members = spaceMembers(spacePrettyName);
+    return members != null && members.contains(userName);
   }
 
   /**
@@ -2537,12 +3981,54 @@ public class WebConferencingService implements Startable {
    * @return the space members
    */
   protected Set<String> getSpaceMembers(String spacePrettyName) {
-    Space space = spaceService.getSpaceByPrettyName(spacePrettyName);
-    Set<String> spaceMembers = new HashSet<String>();
-    for (String sm : space.getMembers()) {
-      spaceMembers.add(sm);
+    SpaceMembers members = spaceMembers(spacePrettyName);
+    return members != null ? new HashSet<String>(members.asList()) : new HashSet<String>();
+  }
+
+  /**
+   * Gets the space members snapshot. Snapshots are cached and invalidated by space listener on membership
+   * changes, see {@link #invalidateSpaceMembers(String)}.
+   *
+   * @param spacePrettyName the space pretty name
+   * @return the space members or <code>null</code> if space not found
+   */
+  protected SpaceMembers spaceMembers(String spacePrettyName) {
+    SpaceMembers members = spacesCache.get(spacePrettyName);
+    if (members == null) {
+      Space space = spaceService.getSpaceByPrettyName(spacePrettyName);
+      if (space != null) {
+        members = new SpaceMembers(space.getMembers() != null ? space.getMembers() : new String[0]);
+        spacesCache.put(spacePrettyName, members);
+      }
+    }
+    return members;
+  }
+
+  /**
+   * Invalidate cached members of the space and active calls having them as participants. This method should be
+   * called when space membership changed.
+   *
+   * @param spacePrettyName the space pretty name
+   */
+  public void invalidateSpaceMembers(String spacePrettyName) {
+    spacesCache.remove(spacePrettyName);
+    // Active calls of the space (and space events, they may include its members) have participants of the
+    // previous members, they should be read again
+    for (ActiveCall active : activeCalls.values()) {
+      IdentityInfo owner = active.call.getOwner();
+      if ((OWNER_TYPE_SPACE.equals(owner.getType()) && spacePrettyName.equals(owner.getId()))
+          || OWNER_TYPE_SPACEEVENT.equals(owner.getType())) {
+        String callId = active.call.getId();
+        final Lock lock = callLock(callId);
+        lock.lock();
+        try {
+          unregisterActiveCall(callId);
+          callChanged(callId);
+        } finally {
+          lock.unlock();
+        }
+      }
     }
-    return spaceMembers;
   }
 
   /**
@@ -2570,26 +4056,51 @@ public class WebConferencingService implements Startable {
    * @return the user I ms
    */
   protected List<IMInfo> getUserIMs(Profile profile) {
-    List<IMInfo> activeIMs = new ArrayList<>();
+    return getUserIMs(getProfileIMs(profile));
+  }
+
+  /**
+   * Gets the IM accounts saved in the user profile.
+   *
+   * @param profile the profile
+   * @return the array of IM accounts, each element is an array of the IM type and ID
+   */
+  protected String[][] getProfileIMs(Profile profile) {
+    List<String[]> profileIMs = new ArrayList<>();
     @SuppressWarnings("unchecked")
     List<Map<String, String>> ims = (List<Map<String, String>>) profile.getProperty(Profile.CONTACT_IMS);
     if (ims != null) {
       for (Map<String, String> m : ims) {
-        String imType = m.get("key");
         String imId = m.get("value");
         if (imId != null && imId.length() > 0) {
-          CallProvider provider = getProvider(imType);
-          // Here we take in account that provider may change its supported types in runtime
-          if (provider != null && provider.isActive() && provider.isSupportedType(imType)) {
-            try {
-              IMInfo im = provider.getIMInfo(imId);
-              if (im != null) {
-                activeIMs.add(im);
-              } // otherwise provider doesn't have an IM type at all
-            } catch (CallProviderException e) {
-              LOG.warn(e.getMessage());
-            }
-          }
+          profileIMs.add(new String[] { m.get("key"), imId });
+        }
+      }
+    }
+    return profileIMs.toArray(new String[profileIMs.size()][]);
+  }
+
+  /**
+   * Gets the user IM accounts supported by active providers.
+   *
+   * @param ims the IM accounts, each element is an array of the IM type and ID
+   * @return the list
+   */
+  protected List<IMInfo> getUserIMs(String[][] ims) {
+    List<IMInfo> activeIMs = new ArrayList<>();
+    for (String[] im : ims) {
+      String imType = im[0];
+      String imId = im[1];
+      CallProvider provider = getProvider(imType);
+      // Here we take in account that provider may change its supported types in runtime
+      if (provider != null && provider.isActive() && provider.isSupportedType(imType)) {
+        try {
+          IMInfo imInfo = provider.getIMInfo(imId);
+          if (imInfo != null) {
+            activeIMs.add(imInfo);
+          } // otherwise provider doesn't have an IM type at all
+        } catch (CallProviderException e) {
+          LOG.warn(e.getMessage());
         }
       }
     }
@@ -2784,9 +4295,16 @@ public class WebConferencingService implements Startable {
       } // otherwise reuse room's participants
       // 1) read actually added participants for call already or being running with their current states from DB
       // this way we add the ones who exist also in the origins with their actual state (e.g. JOINED for those who are already in the call).
+      // Users of the participants read in bulk.
+      List<String> userIds = savedParticipants.stream()
+                                              .filter(p -> UserInfo.TYPE_NAME.equals(p.getType())
+                                                  || GuestInfo.TYPE_NAME.equals(p.getType()))
+                                              .map(p -> p.getId())
+                                              .collect(Collectors.toList());
+      Map<String, UserInfo> users = userInfos(userIds);
       for (ParticipantEntity p : savedParticipants) {
         if (UserInfo.TYPE_NAME.equals(p.getType()) || GuestInfo.TYPE_NAME.equals(p.getType())) {
-          UserInfo user = userInfo(p.getId());
+          UserInfo user = users.get(p.getId());
           if (user == null) {
             // external guest or undefined participant
             user = GuestInfo.TYPE_NAME.equals(p.getType()) ? new GuestInfo(p.getId())
@@ -2804,10 +4322,19 @@ public class WebConferencingService implements Startable {
       }
       // 2) resolve allowed participants from call origins (actual for space event calls)
       if (savedCall.isGroup()) {
-        // Resolve actual participants from the owner members with LEAVED state (members may come from the origins above)
-        Set<UserInfo> members = new HashSet<>(GroupInfo.class.cast(owner).getMembers().values());
-        members.stream().forEach(m -> m.setState(UserState.LEAVED));
-        call.addParticipants(members);
+        // Add the owner members not saved as participants with LEAVED state (members may come from the origins above),
+        // resolve only these members, not all the group
+        List<String> newMemberIds = new ArrayList<>();
+        for (String mid : GroupInfo.class.cast(owner).getMemberIds()) {
+          UserInfo part = call.getParticipant(mid);
+          if (part == null || !UserInfo.TYPE_NAME.equals(part.getType())) {
+            newMemberIds.add(mid);
+          }
+        }
+        for (UserInfo m : GroupInfo.class.cast(owner).getMembers(newMemberIds).values()) {
+          m.setState(UserState.LEAVED);
+          call.addParticipant(m);
+        }
       } // Otherwise it's 1-1 call and its participants already added in createCall() if start parameter was set to true
     }
     return call;
@@ -3010,6 +4537,7 @@ public class WebConferencingService implements Startable {
       LOG.debug(">> txCreateCall: " + call.getId());
     }
     callStorage.create(createCallEntity(call));
+    invalidateOwnerCallId(call.getOwner().getType(), call.getOwner().getId());
     String callId = call.getId();
     if (call.getOwner().isGroup()) {
       // For starting (on creation) group call we need sync (and save) its
@@ -3027,6 +4555,7 @@ public class WebConferencingService implements Startable {
       originsStorage.create(createOriginEntity(callId, o));
     }
     call.setInviteId(createInvite(callId));
+    registerActiveCall(call);
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txCreateCall: " + call.getId());
     }
@@ -3049,6 +4578,10 @@ public class WebConferencingService implements Startable {
       LOG.debug(">> txAddParticipant: " + participant.getId() + "@" + callId);
     }
     addParticipant(callId, participant);
+    CallInfo activeCall = activeCall(callId);
+    if (activeCall != null && activeCall.getParticipants().stream().noneMatch(p -> p.getId().equals(participant.getId()))) {
+      activeCall.addParticipant(participant);
+    }
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txAddParticipant: " + participant.getId() + "@" + callId);
     }
@@ -3082,6 +4615,11 @@ public class WebConferencingService implements Startable {
                                        CallSettingsException {
     CallEntity entity = callStorage.find(call.getId());
     if (entity != null) {
+      if (!call.getOwner().getId().equals(entity.getOwnerId()) || !call.getOwner().getType().equals(entity.getOwnerType())) {
+        // Call owner changed
+        invalidateOwnerCallId(entity.getOwnerType(), entity.getOwnerId());
+        invalidateOwnerCallId(call.getOwner().getType(), call.getOwner().getId());
+      }
       syncCallEntity(call, entity);
       callStorage.update(entity);
     } else {
@@ -3124,6 +4662,7 @@ public class WebConferencingService implements Startable {
       }
     }
     call.setInviteId(null);
+    unregisterActiveCall(call.getId());
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txStopCall: " + call.getId());
     }
@@ -3149,6 +4688,10 @@ public class WebConferencingService implements Startable {
       LOG.debug(">> txUpdateCall: " + call.getId());
     }
     saveCall(call);
+    if (activeCall(call.getId()) != call || !isActiveState(call.getState())) {
+      // Only the call entity saved, the active call will be read from the storage on next use
+      unregisterActiveCall(call.getId());
+    }
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txUpdateCall: " + call.getId());
     }
@@ -3231,6 +4774,7 @@ public class WebConferencingService implements Startable {
       LOG.debug(">> txUpdateParticipant: " + participant.getId() + "@" + callId);
     }
     saveParticipant(callId, participant);
+    updateActiveParticipant(callId, participant);
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txUpdateParticipant: " + participant.getId() + "@" + callId);
     }
@@ -3251,34 +4795,42 @@ public class WebConferencingService implements Startable {
       if (LOG.isDebugEnabled()) {
         LOG.debug(">> txSyncMembersAndParticipants: " + call.getId());
       }
-      // Take a snapshot of current members of the group (an event call should include all related users already).
-      Set<UserInfo> members = new LinkedHashSet<>(GroupInfo.class.cast(call.getOwner()).getMembers().values());
+      // Take a snapshot of current member IDs of the group (an event call should include all related users already),
+      // only members not yet participating will be resolved below.
+      GroupInfo group = GroupInfo.class.cast(call.getOwner());
+      Set<String> memberIds = new LinkedHashSet<>(group.getMemberIds());
       Set<UserInfo> participants = call.getParticipants();
+      // Read IDs of parts saved for the call by a single query, then apply the difference in bulk
+      Set<String> savedIds = new HashSet<>(participantsStorage.findCallPartIds(call.getId()));
       // 1) Ensure participants contain only members (excluding existing external guests)
-      Set<UserInfo> deleteParties = new LinkedHashSet<>(participants); // we need a copy of the set as it will be modified below
-      // Filter current parties (remove users already in group members), to remove not members next
-      deleteParties.removeAll(members);
-      for (UserInfo p : deleteParties) {
-        if (!GuestInfo.TYPE_NAME.equals(p.getType())) {
+      Set<String> deleteIds = new LinkedHashSet<>();
+      for (UserInfo p : participants) {
+        // Users already in group members aren't removed
+        boolean member = UserInfo.TYPE_NAME.equals(p.getType()) && memberIds.remove(p.getId());
+        if (!member && !GuestInfo.TYPE_NAME.equals(p.getType())) {
           // Remove this part as it's not a member of the group
-          ParticipantEntity entity = participantsStorage.find(new ParticipantId(p.getId(), call.getId()));
-          if (entity != null) {
-            participantsStorage.delete(entity);
-          }          
+          if (savedIds.remove(p.getId())) {
+            deleteIds.add(p.getId());
+          }
           call.removeParticipant(p);
         } // Otherwise, it's a guest - should be removed explicitly
       }
+      if (deleteIds.size() > 0) {
+        participantsStorage.deleteCallParts(call.getId(), deleteIds);
+      }
       // 2) Ensure all members are participants as well
-      // Filter current members (remove ones not already in parties), to add members not yet participating the call
-      members.removeAll(participants);
-      for (UserInfo m : members) {
+      // Member IDs left above are of members not yet participating the call
+      List<ParticipantEntity> createParts = new ArrayList<>();
+      for (UserInfo m : group.getMembers(memberIds).values()) {
         // save only not already existing
-        ParticipantEntity entity = participantsStorage.find(new ParticipantId(m.getId(), call.getId()));
-        if (entity == null) {
-          participantsStorage.create(createParticipantEntity(call.getId(), m));
+        if (savedIds.add(m.getId())) {
+          createParts.add(createParticipantEntity(call.getId(), m));
         }
         call.addParticipant(m); // add also to the actual parties
       }
+      if (createParts.size() > 0) {
+        participantsStorage.createAll(createParts);
+      }
       if (LOG.isDebugEnabled()) {
         LOG.debug("<< txSyncMembersAndParticipants: " + call.getId());
       }
@@ -3316,6 +4868,10 @@ public class WebConferencingService implements Startable {
     } else {
       throw new ParticipantNotFoundException("Call participant " + partId + " not found for " + callId);
     }
+    CallInfo activeCall = activeCall(callId);
+    if (activeCall != null) {
+      activeCall.getParticipants().stream().filter(p -> p.getId().equals(partId)).forEach(activeCall::removeParticipant);
+    }
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txRemoveParticipant: " + partId + "@" + callId);
     }
@@ -3367,7 +4923,7 @@ public class WebConferencingService implements Startable {
         saveParticipant(callId, p);
       } catch(ParticipantNotFoundException e) {
         // Check if this participant not from group's origins
-        if (call.getOwner().isGroup() && GroupInfo.class.cast(call.getOwner()).getMembers().keySet().contains(p.getId())) {
+        if (call.getOwner().isGroup() && GroupInfo.class.cast(call.getOwner()).isMember(p.getId())) {
           addParticipant(callId, p);
         } else {
           throw new ParticipantNotFoundException("Cannot update the call with not allowed participant: " + p.getId() 
@@ -3375,6 +4931,7 @@ public class WebConferencingService implements Startable {
         }
       }
     }
+    registerActiveCall(call);
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txUpdateCallAndParticipants: " + call.getId());
     }
@@ -3427,6 +4984,8 @@ public class WebConferencingService implements Startable {
     for (OriginEntity oe : savedOrigins) {
       originsStorage.delete(oe);
     }
+    // Updated call instance has no participants read, the active call will be read from the storage on next use
+    unregisterActiveCall(callId);
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txUpdateCallAndOrigins: " + call.getId());
     }
@@ -3436,18 +4995,21 @@ public class WebConferencingService implements Startable {
    * Delete call within a transaction.
    *
    * @param id the call id
+   * @return the deleted call entity or <code>null</code> if no call found
    * @throws IllegalArgumentException the illegal argument exception
    * @throws IllegalStateException the illegal state exception
    * @throws PersistenceException the persistence exception
    */
   @ExoTransactional
-  protected void txDeleteCall(String id) throws IllegalArgumentException, IllegalStateException, PersistenceException {
+  protected CallEntity txDeleteCall(String id) throws IllegalArgumentException, IllegalStateException, PersistenceException {
+    unregisterActiveCall(id);
     CallEntity entity = callStorage.find(id);
     if (entity != null) {
       if (LOG.isDebugEnabled()) {
         LOG.debug(">> txDeleteCall: " + id);
       }
       callStorage.delete(entity);
+      invalidateOwnerCallId(entity.getOwnerType(), entity.getOwnerId());
       // Cancel all invitations on the call removal
       // NOTE: already existing guests will be removed by the DB's FK cascade 
       removeInvites(id);
@@ -3455,6 +5017,7 @@ public class WebConferencingService implements Startable {
         LOG.debug("<< txDeleteCall: " + id);
       }
     }
+    return entity;
   }
 
   /**
@@ -3492,6 +5055,8 @@ public class WebConferencingService implements Startable {
         call.addParticipant(p); // just add a party as this call instance has not parts fetched from the DB (see caller method)
       }
     }
+    // This call instance has not all parts, the active call will be read from the storage on next use
+    unregisterActiveCall(call.getId());
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txUpdateParticipants: " + call.getId());
     }
@@ -3548,8 +5113,14 @@ public class WebConferencingService implements Startable {
    */
   protected void deleteCall(String id) throws StorageException {
     try {
-      txDeleteCall(id);
+      CallEntity entity = txDeleteCall(id);
+      callChanged(id);
+      if (entity != null) {
+        // Owner's call ID could be read by another request before the commit
+        invalidateOwnerCallId(entity.getOwnerType(), entity.getOwnerId());
+      }
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      unregisterActiveCall(id);
       throw new StorageException("Error deleting call " + id, e);
     }
   }
@@ -3585,8 +5156,14 @@ public class WebConferencingService implements Startable {
                                                           CallNotFoundException {
     try {
       txUpdateCallAndParticipants(call);
+      callChanged(call.getId());
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      unregisterActiveCall(call.getId());
       throw new StorageException("Error updating call and participants: " + call.getId(), e);
+    } catch (ParticipantNotFoundException | CallSettingsException | CallNotFoundException e) {
+      // The call instance may be already changed by the caller but not saved
+      unregisterActiveCall(call.getId());
+      throw e;
     }
   }
   
@@ -3605,6 +5182,7 @@ public class WebConferencingService implements Startable {
                                                           CallNotFoundException {
     try {
       txUpdateCallAndOrigins(call);
+      callChanged(call.getId());
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
       throw new StorageException("Error updating call and origins: " + call.getId(), e);
     }
@@ -3619,7 +5197,9 @@ public class WebConferencingService implements Startable {
   protected void syncMembersAndParticipants(CallInfo call) throws StorageException {
     try {
       txSyncMembersAndParticipants(call);
+      callChanged(call.getId());
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      unregisterActiveCall(call.getId());
       throw new StorageException("Error sync call members and participants: " + call.getId(), e);
     }
   }
@@ -3635,7 +5215,9 @@ public class WebConferencingService implements Startable {
   protected void updateParticipant(String callId, UserInfo participant) throws ParticipantNotFoundException, StorageException {
     try {
       txUpdateParticipant(callId, participant);
+      callChanged(callId);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      unregisterActiveCall(callId);
       throw new StorageException("Error updating participant " + participant.getId() + " of call " + callId, e);
     }
   }
@@ -3651,7 +5233,9 @@ public class WebConferencingService implements Startable {
   protected void removeParticipant(String callId, UserInfo participant) throws ParticipantNotFoundException, StorageException {
     try {
       txRemoveParticipant(callId, participant.getId());
+      callChanged(callId);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      unregisterActiveCall(callId);
       throw new StorageException("Error removing participant " + participant.getId() + " from call " + callId, e);
     }
   }
@@ -3669,7 +5253,9 @@ public class WebConferencingService implements Startable {
     // update only a call entity (w/o its participants, origins or invites)
     try {
       txUpdateCall(call);
+      callChanged(call.getId());
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      unregisterActiveCall(call.getId());
       throw new StorageException("Error updating call " + call.getId(), e);
     }
   }
@@ -3706,16 +5292,18 @@ public class WebConferencingService implements Startable {
    * @throws StorageException the storage exception
    */
   protected String findGroupCallId(String ownerId) throws StorageException {
-    // TODO it's not efficient read the whole entity when we need only an ID (or null)
-    try {
-      CallEntity savedCall = callStorage.findGroupCallByOwnerId(ownerId);
-      if (savedCall != null) {
-        return savedCall.getId();
+    String key = ownerCallKey(GROUP, ownerId);
+    String callId = cachedOwnerCallId(key);
+    if (callId == null) {
+      long epoch = ownerCallsEpoch.get();
+      try {
+        callId = callStorage.findGroupCallIdByOwnerId(ownerId);
+      } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+        throw new StorageException("Error reading owner group call ID by " + ownerId, e);
       }
-      return null;
-    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      throw new StorageException("Error reading owner group call ID by " + ownerId, e);
+      cacheOwnerCallId(key, callId, epoch);
     }
+    return callId;
   }
   
   /**
@@ -3726,13 +5314,8 @@ public class WebConferencingService implements Startable {
    * @throws StorageException the storage exception
    */
   protected String findSpaceCallId(String spaceId) throws StorageException {
-    // TODO it's not efficient read the whole entity when we need only an ID (or null)
     try {
-      CallEntity savedCall = callStorage.findGroupCallByOwnerTypeId(spaceId, OWNER_TYPE_SPACE);
-      if (savedCall != null) {
-        return savedCall.getId();
-      }
-      return null;
+      return findOwnerCallId(spaceId, OWNER_TYPE_SPACE);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
       throw new StorageException("Error reading space call ID by " + spaceId, e);
     }
@@ -3746,13 +5329,8 @@ public class WebConferencingService implements Startable {
    * @throws StorageException the storage exception
    */
   protected String findChatRoomCallId(String roomId) throws StorageException {
-    // TODO it's not efficient read the whole entity when we need only an ID (or null)
     try {
-      CallEntity savedCall = callStorage.findGroupCallByOwnerTypeId(roomId, OWNER_TYPE_CHATROOM);
-      if (savedCall != null) {
-        return savedCall.getId();
-      }
-      return null;
+      return findOwnerCallId(roomId, OWNER_TYPE_CHATROOM);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
       throw new StorageException("Error reading chat room call ID by " + roomId, e);
     }
@@ -3766,18 +5344,90 @@ public class WebConferencingService implements Startable {
    * @throws StorageException the storage exception
    */
   protected String findLastSpaceEventCallId(String ownerId) throws StorageException {
-    // TODO it's not efficient read the whole entity when we need only an ID (or null)
     try {
-      CallEntity savedCall = callStorage.findGroupCallByOwnerTypeId(ownerId, OWNER_TYPE_SPACEEVENT);
-      if (savedCall != null) {
-        return savedCall.getId();
-      }
-      return null;
+      return findOwnerCallId(ownerId, OWNER_TYPE_SPACEEVENT);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
       throw new StorageException("Error reading space event call ID by " + ownerId, e);
     }
   }
 
+  /**
+   * Find ID of a group call by its owner type and ID. Found IDs are cached until the call of this owner will be
+   * deleted. Absence of a call isn't cached: a read that started before a call creation could put it after the
+   * invalidation and hide the created call. For the same reason a found ID isn't cached if an owner was
+   * invalidated while reading it, it could be the ID of a call deleted meanwhile.
+   *
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @return the call ID or <code>null</code> if no call found
+   * @throws IllegalArgumentException the illegal argument exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws PersistenceException the persistence exception
+   */
+  protected String findOwnerCallId(String ownerId, String ownerType) throws IllegalArgumentException,
+                                                                     IllegalStateException,
+                                                                     PersistenceException {
+    String key = ownerCallKey(ownerType, ownerId);
+    String callId = cachedOwnerCallId(key);
+    if (callId == null) {
+      long epoch = ownerCallsEpoch.get();
+      callId = callStorage.findGroupCallIdByOwnerTypeId(ownerId, ownerType);
+      cacheOwnerCallId(key, callId, epoch);
+    }
+    return callId;
+  }
+
+  /**
+   * Get a call ID from owner calls cache.
+   *
+   * @param key the owner key
+   * @return the call ID or <code>null</code> if not cached or the owner invalidated
+   */
+  protected String cachedOwnerCallId(String key) {
+    String callId = ownerCallIds.get(key);
+    return OWNER_CALL_INVALIDATED.equals(callId) ? null : callId;
+  }
+
+  /**
+   * Cache a call ID read from the storage, if no owner was invalidated since the read started.
+   *
+   * @param key the owner key
+   * @param callId the call ID, can be <code>null</code>
+   * @param epoch the {@link #ownerCallsEpoch} before the read started
+   */
+  protected void cacheOwnerCallId(String key, String callId, long epoch) {
+    if (callId != null && ownerCallsEpoch.get() == epoch) {
+      ownerCallIds.put(key, callId);
+    }
+  }
+
+  /**
+   * Invalidate cached call IDs of given owner. It should be invoked when a call of this owner created or
+   * deleted, and again after the commit. The owner is marked invalidated instead of removal: the mark reaches
+   * every node, even where nothing cached yet, and lookups running there will not cache what they read.
+   *
+   * @param ownerType the owner type
+   * @param ownerId the owner id
+   */
+  protected void invalidateOwnerCallId(String ownerType, String ownerId) {
+    if (!OWNER_TYPE_USER.equals(ownerType)) {
+      ownerCallsEpoch.incrementAndGet();
+      ownerCallIds.put(ownerCallKey(ownerType, ownerId), OWNER_CALL_INVALIDATED);
+      ownerCallIds.put(ownerCallKey(GROUP, ownerId), OWNER_CALL_INVALIDATED);
+    }
+  }
+
+  /**
+   * Make a key of owner calls cache.
+   *
+   * @param ownerType the owner type
+   * @param ownerId the owner id
+   * @return the string
+   */
+  protected static String ownerCallKey(String ownerType, String ownerId) {
+    return new StringBuilder(ownerType).append('/').append(ownerId).toString();
+  }
+
   /**
    * Find user group calls in calls storage.
    *
@@ -3818,6 +5468,9 @@ public class WebConferencingService implements Startable {
     try {
       // Persist the call with all its participants
       txCreateCall(call);
+      callChanged(call.getId());
+      // Owner's call ID could be read by another request before the commit
+      invalidateOwnerCallId(call.getOwner().getType(), call.getOwner().getId());
     } catch (IllegalArgumentException | IllegalStateException e) {
       throw new StorageException("Error creating call " + call.getId(), e);
     } catch (PersistenceException pe) {
@@ -3922,6 +5575,39 @@ public class WebConferencingService implements Startable {
     }
   }
   
+  /**
+   * Record metrics of a call operation in the metrics registry. If enabled in the configuration, the operation also
+   * will be reported to the stats logger (see {@link #metricMessage}).
+   *
+   * @param userId the user id of the operation
+   * @param call the call in the operation
+   * @param operation the operation name
+   * @param status the status of operation
+   * @param duration the operation duration in millseconds (can be <code>null</code>), it's not a call duration
+   * @param error the error if present (can be <code>null</code>)
+   * @param fileSize the recorded file size in bytes (can be <code>null</code>)
+   */
+  protected void metric(String userId,
+                        CallInfo call,
+                        String operation,
+                        String status,
+                        Long duration,
+                        String error,
+                        Double fileSize) {
+    String providerType = call != null ? call.getProviderType() : null;
+    String ownerType = call != null && call.getOwner() != null ? call.getOwner().getType() : null;
+    operationsCount.labels(operation, status, providerType, ownerType).inc();
+    if (duration != null) {
+      operationsDuration.labels(operation, providerType, ownerType).record(duration * 1000);
+    }
+    if (fileSize != null) {
+      recordedSize.labels(status, providerType, ownerType).add(fileSize.longValue());
+    }
+    if (metricsLog && call != null) {
+      LOG.info(metricMessage(userId, call, operation, status, duration, error, fileSize));
+    }
+  }
+
   /**
    * Metric message for reporting to the stats logger.
    *
@@ -3996,6 +5682,18 @@ public class WebConferencingService implements Startable {
     this.broacastCallEvent(eventName, call, userId, fileSize, null, null, STATUS_OK);
   }
 
+  /**
+   * Broadcast call events collected while the call lock was held. It should be invoked after releasing the lock.
+   *
+   * @param call the call copy or <code>null</code> if the operation failed
+   * @param events the event names with their user IDs, in the firing order
+   */
+  private void broacastCallEvents(CallInfo call, Map<String, String> events) {
+    if (call != null) {
+      events.forEach((eventName, userId) -> broacastCallEvent(eventName, call, userId, null));
+    }
+  }
+
   public String getRecordingUrl(String identity, String fileName, String type) throws Exception {
     if(!fileName.isEmpty()) {
      DocumentService documentService = WCMCoreUtils.getService(DocumentService.class);
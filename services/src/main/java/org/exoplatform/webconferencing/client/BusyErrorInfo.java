@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.client;
+
+/**
+ * Error telling a client the server is busy with its previous requests, the request can be repeated after
+ * given time.
+ */
+public class BusyErrorInfo extends ErrorInfo {
+
+  /** The time in milliseconds after which the request can be repeated. */
+  protected final long retryAfter;
+
+  /**
+   * Instantiates a new busy error info.
+   *
+   * @param message the message
+   * @param retryAfter the retry after time in milliseconds
+   */
+  public BusyErrorInfo(String message, long retryAfter) {
+    super(CODE_BUSY_ERROR, message);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * Gets the time in milliseconds after which the request can be repeated.
+   *
+   * @return the retry after
+   */
+  public long getRetryAfter() {
+    return retryAfter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String asJSON() {
+    StringBuilder str = new StringBuilder();
+    str.append("{\"code\": \"");
+    str.append(code);
+    str.append("\", \"message\": \"");
+    str.append(message);
+    str.append("\", \"retryAfter\": ");
+    str.append(retryAfter);
+    str.append(", \"error\": true}");
+    return str.toString();
+  }
+}
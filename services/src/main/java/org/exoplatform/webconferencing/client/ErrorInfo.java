@@ -41,6 +41,9 @@ public class ErrorInfo {
   /** The Constant CODE_SERVER_ERROR. */
   public static final String CODE_SERVER_ERROR    = "SERVER_ERROR";
 
+  /** The Constant CODE_BUSY_ERROR. */
+  public static final String CODE_BUSY_ERROR      = "BUSY_ERROR";
+
   /**
    * Client error.
    *
@@ -81,6 +84,17 @@ public class ErrorInfo {
     return new ErrorInfo(CODE_SERVER_ERROR, message);
   };
 
+  /**
+   * Busy error: server cannot accept the request now, it can be repeated after given time.
+   *
+   * @param message the message
+   * @param retryAfter the retry after time in milliseconds
+   * @return the error info
+   */
+  public static ErrorInfo busyError(String message, long retryAfter) {
+    return new BusyErrorInfo(message, retryAfter);
+  };
+
   /** The code. */
   protected final String code;
 
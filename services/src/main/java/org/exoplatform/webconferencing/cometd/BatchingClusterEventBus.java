@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.picocontainer.Startable;
+
+import org.exoplatform.container.xml.InitParams;
+import org.exoplatform.container.xml.ValueParam;
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.UserCallProxy;
+
+/**
+ * Base for {@link ClusterEventBus} implementations: it collects events in a batch per destination node and
+ * transmits the batch at the end of flush interval (since its first event), or when the batch reached its
+ * max size. Actual transmission is up to implementations.<br>
+ * Batches (see {@link EventsBatch}) and the node ID of user call proxies are not understood by nodes of
+ * previous versions, thus all cluster nodes should be upgraded together: a rolling upgrade is not supported.
+ */
+public abstract class BatchingClusterEventBus implements ClusterEventBus, Startable {
+
+  /** The Constant FLUSH_INTERVAL. */
+  public static final String   FLUSH_INTERVAL         = "flush-interval";
+
+  /** The default flush interval in milliseconds. */
+  public static final long     FLUSH_INTERVAL_DEFAULT = 20;
+
+  /** The max number of events in a batch, if reached the batch will be transmitted immediately. */
+  public static final int      BATCH_MAX_SIZE         = 500;
+
+  /** The Constant LOG. */
+  private static final Log     LOG                    = ExoLogger.getLogger(BatchingClusterEventBus.class);
+
+  /** This node id. */
+  protected final String                    nodeId            = UUID.randomUUID().toString();
+
+  /** The batches collecting events to destination nodes. */
+  protected final Map<String, EventsBatch>  batches           = new ConcurrentHashMap<>();
+
+  /**
+   * The locks serializing transmission of batches to the same destination, to keep their order. A lock exists
+   * only while some thread flushes its destination, thus locks of gone nodes don't stay here.
+   */
+  protected final Map<String, FlushLock>    flushLocks        = new ConcurrentHashMap<>();
+
+  /** The flush interval in milliseconds. */
+  protected final long                      flushInterval;
+
+  /** The flush timer. */
+  protected final ScheduledExecutorService  flushTimer;
+
+  /** The transmitted batches count. */
+  protected final LongAdder                 batchesCount      = new LongAdder();
+
+  /** The transmitted events count. */
+  protected final LongAdder                 eventsCount       = new LongAdder();
+
+  /** The receiver. */
+  protected volatile Receiver               receiver;
+
+  /**
+   * Lock of a destination flush with count of threads using it. The count is changed only in atomic
+   * computations of {@link #flushLocks}.
+   */
+  protected static class FlushLock {
+
+    /** The threads using the lock. */
+    int users;
+  }
+
+  /**
+   * Instantiates a new batching cluster event bus.
+   *
+   * @param params the params
+   */
+  protected BatchingClusterEventBus(InitParams params) {
+    long flushInterval = FLUSH_INTERVAL_DEFAULT;
+    ValueParam intervalParam = params != null ? params.getValueParam(FLUSH_INTERVAL) : null;
+    if (intervalParam != null) {
+      String intervalValue = intervalParam.getValue();
+      if (intervalValue != null && intervalValue.trim().length() > 0) {
+        try {
+          flushInterval = Long.parseLong(intervalValue.trim());
+        } catch (NumberFormatException e) {
+          LOG.warn("Wrong cluster events flush interval: " + intervalValue + ". Will use default " + FLUSH_INTERVAL_DEFAULT
+              + "ms.");
+        }
+      }
+    }
+    this.flushInterval = flushInterval;
+    this.flushTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "webconferencing-cluster-events-" + nodeId);
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setReceiver(Receiver receiver) {
+    this.receiver = receiver;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void send(String nodeId, UserCallProxy event) {
+    add(nodeId, event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void sendAll(UserCallProxy event) {
+    add(EventsBatch.ALL_NODES, event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void start() {
+    // Nothing
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void stop() {
+    flushTimer.shutdownNow();
+    // Transmit what was collected
+    for (String destination : batches.keySet()) {
+      flush(destination);
+    }
+  }
+
+  /**
+   * Gets the transmitted batches count.
+   *
+   * @return the batches count
+   */
+  public long getBatchesCount() {
+    return batchesCount.sum();
+  }
+
+  /**
+   * Gets the transmitted events count.
+   *
+   * @return the events count
+   */
+  public long getEventsCount() {
+    return eventsCount.sum();
+  }
+
+  /**
+   * Add the event to a batch of given destination.
+   *
+   * @param destination the destination
+   * @param event the event
+   */
+  protected void add(String destination, UserCallProxy event) {
+    boolean[] created = new boolean[1];
+    EventsBatch batch = batches.compute(destination, (d, b) -> {
+      if (b == null) {
+        b = new EventsBatch(nodeId, d);
+        created[0] = true;
+      }
+      b.add(event);
+      return b;
+    });
+    if (flushInterval <= 0 || batch.getEvents().size() >= BATCH_MAX_SIZE) {
+      flush(destination);
+    } else if (created[0]) {
+      try {
+        flushTimer.schedule(() -> flush(destination), flushInterval, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        // timer stopped
+        flush(destination);
+      }
+    }
+  }
+
+  /**
+   * Transmit a batch of given destination, if it has events. The timer and a full batch may flush the same
+   * destination at the same time, thus batches of a destination are taken and transmitted by one thread at a
+   * time, in order they were collected.
+   *
+   * @param destination the destination
+   */
+  protected void flush(String destination) {
+    FlushLock lock = flushLocks.compute(destination, (d, l) -> {
+      if (l == null) {
+        l = new FlushLock();
+      }
+      l.users++;
+      return l;
+    });
+    try {
+      synchronized (lock) {
+        EventsBatch batch = batches.remove(destination);
+        if (batch != null) {
+          try {
+            transmit(batch);
+            batchesCount.increment();
+            eventsCount.add(batch.getEvents().size());
+            if (LOG.isDebugEnabled()) {
+              LOG.debug(">> Transmitted cluster events " + batch);
+            }
+          } catch (Exception e) {
+            LOG.error("Error transmitting cluster events " + batch, e);
+          }
+        }
+      }
+    } finally {
+      // Remove the lock when no other thread waits for it
+      flushLocks.computeIfPresent(destination, (d, l) -> --l.users > 0 ? l : null);
+    }
+  }
+
+  /**
+   * Deliver the batch received from another node to the receiver, if the batch is for this node.
+   *
+   * @param batch the batch
+   */
+  protected void receive(EventsBatch batch) {
+    if (batch.isFor(nodeId)) {
+      Receiver receiver = this.receiver;
+      if (receiver != null) {
+        receiver.onEvents(batch.getEvents());
+      } else if (LOG.isDebugEnabled()) {
+        LOG.debug("<< Cluster events receiver not set, ignore " + batch);
+      }
+    }
+  }
+
+  /**
+   * Transmit the batch to its destination node(s).
+   *
+   * @param batch the batch
+   * @throws Exception if transmission failed
+   */
+  protected abstract void transmit(EventsBatch batch) throws Exception;
+}
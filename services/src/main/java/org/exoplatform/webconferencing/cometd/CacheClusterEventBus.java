@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.exoplatform.container.xml.InitParams;
+import org.exoplatform.services.cache.CacheListener;
+import org.exoplatform.services.cache.CacheListenerContext;
+import org.exoplatform.services.cache.CacheService;
+import org.exoplatform.services.cache.ExoCache;
+
+/**
+ * {@link ClusterEventBus} of cluster nodes: a batch of events is written once in a replicated cache and each
+ * node picks up batches addressed to it, so a cache write happens per batch instead of per single event. The
+ * batch is removed from the cache right after the write, nodes receive it from the replicated put.<br>
+ * Note that the cache isn't a point-to-point transport: every node receives every batch and ignores ones not
+ * addressed to it (see {@link EventsBatch#isFor(String)}). Batches to a single node only spare the event
+ * processing on other nodes, not the network traffic.<br>
+ * Nodes of previous versions don't read this cache and cannot decode its batches: upgrade all nodes together.
+ */
+public class CacheClusterEventBus extends BatchingClusterEventBus {
+
+  /** The Constant EVENTS_CACHE_NAME. */
+  public static final String                 EVENTS_CACHE_NAME = "webconferencing.events.Cache";
+
+  /** The batches cache. */
+  protected final ExoCache<String, EventsBatch> batchesCache;
+
+  /** The batches sequence of this node. */
+  protected final AtomicLong                    sequence          = new AtomicLong();
+
+  /**
+   * The listener of the batches cache.
+   */
+  class BatchesListener implements CacheListener<String, EventsBatch> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPut(CacheListenerContext context, String key, EventsBatch obj) throws Exception {
+      if (obj != null) {
+        receive(obj);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onExpire(CacheListenerContext context, String key, EventsBatch obj) throws Exception {
+      // Nothing
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRemove(CacheListenerContext context, String key, EventsBatch obj) throws Exception {
+      // Nothing
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onClearCache(CacheListenerContext context) throws Exception {
+      // Nothing
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGet(CacheListenerContext context, String key, EventsBatch obj) throws Exception {
+      // Nothing
+    }
+  }
+
+  /**
+   * Instantiates a new cache cluster event bus.
+   *
+   * @param cacheService the cache service
+   * @param params the params
+   */
+  public CacheClusterEventBus(CacheService cacheService, InitParams params) {
+    super(params);
+    this.batchesCache = cacheService.getCacheInstance(EVENTS_CACHE_NAME);
+    this.batchesCache.addCacheListener(new BatchesListener());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void transmit(EventsBatch batch) {
+    String key = new StringBuilder(nodeId).append('-').append(sequence.incrementAndGet()).toString();
+    batchesCache.put(key, batch);
+    // Other nodes received the batch on the put, don't keep it in their memory
+    batchesCache.remove(key);
+  }
+}
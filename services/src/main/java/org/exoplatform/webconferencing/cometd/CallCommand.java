@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.cometd.annotation.server.RemoteCall;
+
+import org.exoplatform.webconferencing.WebConferencingService;
+
+/**
+ * A command of remote call made by a client. It carries the request arguments and the context of the requester
+ * and answers to the client remembering the outcome and the size of the answer for the commands statistics.
+ */
+public class CallCommand {
+
+  /** The command name. */
+  private final String                 name;
+
+  /** The caller. */
+  private final RemoteCall.Caller      caller;
+
+  /** The arguments. */
+  private final Map<String, Object>    arguments;
+
+  /** The id (call or user). */
+  private final String                 id;
+
+  /** The current user id. */
+  private final String                 userId;
+
+  /** The client id. */
+  private final String                 clientId;
+
+  /** The web conferencing service. */
+  private final WebConferencingService webConferencing;
+
+  /** The time (in nanoseconds) when the command was submitted for execution. */
+  private final long                   submitted;
+
+  /** The request size in characters. */
+  private final long                   requestSize;
+
+  /** The response size in characters. */
+  private long                         responseSize;
+
+  /** The failed flag. */
+  private boolean                      failed;
+
+  /**
+   * Instantiates a new call command.
+   *
+   * @param name the command name
+   * @param caller the caller
+   * @param arguments the arguments
+   * @param id the id (call or user)
+   * @param userId the current user id
+   * @param clientId the client id
+   * @param webConferencing the web conferencing service
+   * @param submitted the time (in nanoseconds) when the command was submitted for execution
+   */
+  public CallCommand(String name,
+                     RemoteCall.Caller caller,
+                     Map<String, Object> arguments,
+                     String id,
+                     String userId,
+                     String clientId,
+                     WebConferencingService webConferencing,
+                     long submitted) {
+    this.name = name;
+    this.caller = caller;
+    this.arguments = arguments;
+    this.id = id;
+    this.userId = userId;
+    this.clientId = clientId;
+    this.webConferencing = webConferencing;
+    this.submitted = submitted;
+    this.requestSize = sizeOf(arguments);
+  }
+
+  /**
+   * Gets the command name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the arguments.
+   *
+   * @return the arguments
+   */
+  public Map<String, Object> getArguments() {
+    return arguments;
+  }
+
+  /**
+   * Gets the id: a call ID or user name depending on the command.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the current user id.
+   *
+   * @return the user id
+   */
+  public String getUserId() {
+    return userId;
+  }
+
+  /**
+   * Gets the client id.
+   *
+   * @return the client id
+   */
+  public String getClientId() {
+    return clientId;
+  }
+
+  /**
+   * Gets the web conferencing service.
+   *
+   * @return the web conferencing
+   */
+  public WebConferencingService getWebConferencing() {
+    return webConferencing;
+  }
+
+  /**
+   * Gets the time (in nanoseconds) when the command was submitted for execution.
+   *
+   * @return the submitted time
+   */
+  public long getSubmitted() {
+    return submitted;
+  }
+
+  /**
+   * Gets the request size.
+   *
+   * @return the request size in characters
+   */
+  public long getRequestSize() {
+    return requestSize;
+  }
+
+  /**
+   * Gets the response size.
+   *
+   * @return the response size in characters
+   */
+  public long getResponseSize() {
+    return responseSize;
+  }
+
+  /**
+   * Checks if the command answered with a failure.
+   *
+   * @return true, if failed
+   */
+  public boolean isFailed() {
+    return failed;
+  }
+
+  /**
+   * Answer to the client with a result.
+   *
+   * @param result the result
+   */
+  public void result(Object result) {
+    responseSize += sizeOf(result);
+    caller.result(result);
+  }
+
+  /**
+   * Answer to the client with a failure.
+   *
+   * @param failure the failure
+   */
+  public void failure(Object failure) {
+    failed = true;
+    responseSize += sizeOf(failure);
+    caller.failure(failure);
+  }
+
+  /**
+   * Approximate size of a payload: number of characters of its texts.
+   *
+   * @param value the value
+   * @return the size
+   */
+  static long sizeOf(Object value) {
+    if (value == null) {
+      return 0;
+    } else if (value instanceof CharSequence) {
+      return ((CharSequence) value).length();
+    } else if (value instanceof Map) {
+      long size = 0;
+      for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+        size += sizeOf(e.getKey()) + sizeOf(e.getValue());
+      }
+      return size;
+    } else if (value instanceof Collection) {
+      long size = 0;
+      for (Object v : (Collection<?>) value) {
+        size += sizeOf(v);
+      }
+      return size;
+    } else if (value instanceof Object[]) {
+      long size = 0;
+      for (Object v : (Object[]) value) {
+        size += sizeOf(v);
+      }
+      return size;
+    } else {
+      return String.valueOf(value).length();
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+/**
+ * Handler of a command of remote calls made by clients on calls channel (see
+ * {@link CometdWebConferencingService#CALLS_CHANNEL_NAME}). Handlers registered in {@link CallCommandRegistry} by
+ * command name. A handler answers to the client via {@link CallCommand#result(Object)} or
+ * {@link CallCommand#failure(Object)}.
+ */
+@FunctionalInterface
+public interface CallCommandHandler {
+
+  /**
+   * Handle the command.
+   *
+   * @param command the command
+   */
+  void handle(CallCommand command);
+
+}
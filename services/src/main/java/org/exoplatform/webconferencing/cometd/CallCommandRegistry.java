@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.exoplatform.management.annotations.Managed;
+import org.exoplatform.management.annotations.ManagedDescription;
+import org.exoplatform.management.annotations.ManagedName;
+import org.exoplatform.management.jmx.annotations.NameTemplate;
+import org.exoplatform.management.jmx.annotations.Property;
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
+import org.exoplatform.webconferencing.metrics.LatencyHistogram;
+
+/**
+ * Registry of commands of clients remote calls. Each command has a handler, and the registry executes the handlers
+ * instrumented: it records time the command waited in the queue, time of its execution, number of succeeded and
+ * failed commands and size of their payloads. The statistics available via JMX and REST.
+ */
+@Managed
+@NameTemplate({ @Property(key = "service", value = "webconferencing"), @Property(key = "view", value = "commands") })
+@ManagedDescription("Web Conferencing remote call commands")
+public class CallCommandRegistry {
+
+  /**
+   * Statistics of a command.
+   */
+  public static class CommandStatistics {
+
+    /** The queue wait time. */
+    final LatencyHistogram queueWait     = new LatencyHistogram();
+
+    /** The execution time. */
+    final LatencyHistogram execution     = new LatencyHistogram();
+
+    /** The succeeded count. */
+    final LongAdder        succeeded     = new LongAdder();
+
+    /** The failed count. */
+    final LongAdder        failed        = new LongAdder();
+
+    /** The requests size. */
+    final LongAdder        requestsSize  = new LongAdder();
+
+    /** The responses size. */
+    final LongAdder        responsesSize = new LongAdder();
+
+    /**
+     * Gets the queue wait time histogram.
+     *
+     * @return the queue wait histogram, in microseconds
+     */
+    public LatencyHistogram getQueueWait() {
+      return queueWait;
+    }
+
+    /**
+     * Gets the execution time histogram.
+     *
+     * @return the execution histogram, in microseconds
+     */
+    public LatencyHistogram getExecution() {
+      return execution;
+    }
+
+    /**
+     * Gets the succeeded count.
+     *
+     * @return the succeeded
+     */
+    public long getSucceeded() {
+      return succeeded.sum();
+    }
+
+    /**
+     * Gets the failed count.
+     *
+     * @return the failed
+     */
+    public long getFailed() {
+      return failed.sum();
+    }
+
+    /**
+     * Gets the total size of requests.
+     *
+     * @return the requests size in characters
+     */
+    public long getRequestsSize() {
+      return requestsSize.sum();
+    }
+
+    /**
+     * Gets the total size of responses.
+     *
+     * @return the responses size in characters
+     */
+    public long getResponsesSize() {
+      return responsesSize.sum();
+    }
+
+    /**
+     * Reset the statistics.
+     */
+    void reset() {
+      queueWait.reset();
+      execution.reset();
+      succeeded.reset();
+      failed.reset();
+      requestsSize.reset();
+      responsesSize.reset();
+    }
+
+    /**
+     * Statistics as JSON.
+     *
+     * @return the JSON string
+     */
+    public String asJSON() {
+      StringBuilder str = new StringBuilder();
+      str.append("{\"succeeded\": ").append(getSucceeded());
+      str.append(", \"failed\": ").append(getFailed());
+      str.append(", \"requestsSize\": ").append(getRequestsSize());
+      str.append(", \"responsesSize\": ").append(getResponsesSize());
+      str.append(", \"queueWait\": ");
+      appendHistogram(str, queueWait);
+      str.append(", \"execution\": ");
+      appendHistogram(str, execution);
+      str.append('}');
+      return str.toString();
+    }
+
+    /**
+     * Append histogram as JSON (values in microseconds).
+     *
+     * @param str the builder
+     * @param histogram the histogram
+     */
+    private void appendHistogram(StringBuilder str, LatencyHistogram histogram) {
+      str.append("{\"count\": ").append(histogram.getCount());
+      str.append(", \"mean\": ").append(histogram.getMean());
+      str.append(", \"p50\": ").append(histogram.getPercentile(50));
+      str.append(", \"p90\": ").append(histogram.getPercentile(90));
+      str.append(", \"p99\": ").append(histogram.getPercentile(99));
+      str.append(", \"max\": ").append(histogram.getMax());
+      str.append('}');
+    }
+  }
+
+  /** The Constant LOG. */
+  protected static final Log                      LOG        = ExoLogger.getLogger(CallCommandRegistry.class);
+
+  /** The handlers. */
+  protected final Map<String, CallCommandHandler> handlers   = new ConcurrentHashMap<>();
+
+  /** The statistics. */
+  protected final Map<String, CommandStatistics>  statistics = new ConcurrentHashMap<>();
+
+  /**
+   * Register a command handler. If a handler already registered for the command it will be replaced.
+   *
+   * @param name the command name
+   * @param handler the handler
+   */
+  public void register(String name, CallCommandHandler handler) {
+    if (handlers.put(name, handler) != null) {
+      LOG.warn("Replaced handler of call command: " + name);
+    }
+    statistics.computeIfAbsent(name, n -> new CommandStatistics());
+  }
+
+  /**
+   * Unregister a command handler.
+   *
+   * @param name the command name
+   * @return the removed handler or <code>null</code> if nothing registered
+   */
+  public CallCommandHandler unregister(String name) {
+    return handlers.remove(name);
+  }
+
+  /**
+   * Gets the command handler.
+   *
+   * @param name the command name
+   * @return the handler or <code>null</code> if nothing registered
+   */
+  public CallCommandHandler getHandler(String name) {
+    return handlers.get(name);
+  }
+
+  /**
+   * Gets the command statistics.
+   *
+   * @param name the command name
+   * @return the statistics or <code>null</code> if command not registered
+   */
+  public CommandStatistics getStatistics(String name) {
+    return statistics.get(name);
+  }
+
+  /**
+   * Gets the names of registered commands.
+   *
+   * @return the command names, sorted
+   */
+  public Set<String> getCommandNames() {
+    return new TreeSet<>(handlers.keySet());
+  }
+
+  /**
+   * Execute the command by given handler and record its statistics.
+   *
+   * @param handler the handler
+   * @param command the command
+   */
+  public void execute(CallCommandHandler handler, CallCommand command) {
+    long started = System.nanoTime();
+    CommandStatistics stats = statistics.computeIfAbsent(command.getName(), n -> new CommandStatistics());
+    stats.queueWait.record((started - command.getSubmitted()) / 1000);
+    boolean failed = true;
+    try {
+      handler.handle(command);
+      failed = command.isFailed();
+    } finally {
+      stats.execution.record((System.nanoTime() - started) / 1000);
+      if (failed) {
+        stats.failed.increment();
+      } else {
+        stats.succeeded.increment();
+      }
+      stats.requestsSize.add(command.getRequestSize());
+      stats.responsesSize.add(command.getResponseSize());
+    }
+  }
+
+  /**
+   * Statistics of all commands as JSON.
+   *
+   * @return the JSON string
+   */
+  @Managed
+  @ManagedDescription("Statistics of all commands as JSON (times in microseconds, sizes in characters)")
+  public String getStatistics() {
+    StringBuilder str = new StringBuilder();
+    str.append('{');
+    for (String name : new TreeSet<>(statistics.keySet())) {
+      if (str.length() > 1) {
+        str.append(", ");
+      }
+      str.append('"').append(name).append("\": ").append(statistics.get(name).asJSON());
+    }
+    str.append('}');
+    return str.toString();
+  }
+
+  /**
+   * Statistics of a command as JSON.
+   *
+   * @param name the command name
+   * @return the JSON string or <code>null</code> if command not found
+   */
+  @Managed
+  @ManagedDescription("Statistics of a command as JSON (times in microseconds, sizes in characters)")
+  public String getCommandStatistics(@ManagedDescription("Command name") @ManagedName("name") String name) {
+    CommandStatistics stats = statistics.get(name);
+    return stats != null ? stats.asJSON() : null;
+  }
+
+  /**
+   * Reset statistics of all commands.
+   */
+  @Managed
+  @ManagedDescription("Reset statistics of all commands")
+  public void resetStatistics() {
+    for (CommandStatistics stats : statistics.values()) {
+      stats.reset();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.util.List;
+
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.UserCallProxy;
+
+/**
+ * Cluster event bus delivers user call events between cluster nodes. Events sent to a node (or to all other
+ * nodes) are batched and transmitted together on a short timer, the receiver on the destination node gets
+ * them in the order they were sent.
+ */
+public interface ClusterEventBus {
+
+  /**
+   * Receiver of events delivered to this node.
+   */
+  interface Receiver {
+
+    /**
+     * On events received from another node.
+     *
+     * @param events the events, in order they were sent
+     */
+    void onEvents(List<UserCallProxy> events);
+  }
+
+  /**
+   * Gets this node ID in the bus.
+   *
+   * @return the node id
+   */
+  String getNodeId();
+
+  /**
+   * Sets the receiver of events delivered to this node.
+   *
+   * @param receiver the receiver
+   */
+  void setReceiver(Receiver receiver);
+
+  /**
+   * Send the event to given node.
+   *
+   * @param nodeId the destination node id
+   * @param event the event
+   */
+  void send(String nodeId, UserCallProxy event);
+
+  /**
+   * Send the event to all other nodes.
+   *
+   * @param event the event
+   */
+  void sendAll(UserCallProxy event);
+}
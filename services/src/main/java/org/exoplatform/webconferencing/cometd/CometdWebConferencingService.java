@@ -20,13 +20,16 @@ package org.exoplatform.webconferencing.cometd;
 
 import java.io.Externalizable;
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -38,6 +41,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -56,11 +60,6 @@ import static org.exoplatform.webconferencing.WebConferencingService.isValidId;
 import static org.exoplatform.webconferencing.WebConferencingService.isValidText;
 import static org.exoplatform.webconferencing.cometd.CometdWebConferencingService.EventProxy.CLOSE;
 import static org.exoplatform.webconferencing.cometd.CometdWebConferencingService.EventProxy.INIT;
-import static org.exoplatform.webconferencing.support.CallLog.DEBUG_LEVEL;
-import static org.exoplatform.webconferencing.support.CallLog.ERROR_LEVEL;
-import static org.exoplatform.webconferencing.support.CallLog.INFO_LEVEL;
-import static org.exoplatform.webconferencing.support.CallLog.TRACE_LEVEL;
-import static org.exoplatform.webconferencing.support.CallLog.WARN_LEVEL;
 import static org.exoplatform.webconferencing.support.CallLog.validate;
 
 import org.cometd.annotation.Param;
@@ -87,6 +86,8 @@ import org.exoplatform.commons.utils.PropertyManager;
 import org.exoplatform.container.ExoContainer;
 import org.exoplatform.container.ExoContainerContext;
 import org.exoplatform.container.component.RequestLifeCycle;
+import org.exoplatform.container.xml.InitParams;
+import org.exoplatform.container.xml.PropertiesParam;
 import org.exoplatform.services.cache.CacheListener;
 import org.exoplatform.services.cache.CacheListenerContext;
 import org.exoplatform.services.cache.CacheService;
@@ -99,6 +100,7 @@ import org.exoplatform.services.security.ConversationState;
 import org.exoplatform.services.security.Identity;
 import org.exoplatform.services.security.IdentityConstants;
 import org.exoplatform.services.security.IdentityRegistry;
+import org.exoplatform.webconferencing.CallChannelListener;
 import org.exoplatform.webconferencing.CallInfo;
 import org.exoplatform.webconferencing.CallInfoException;
 import org.exoplatform.webconferencing.CallNotFoundException;
@@ -113,6 +115,7 @@ import org.exoplatform.webconferencing.client.ErrorInfo;
 import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.CallService.CallChannelContext.CallClient;
 import org.exoplatform.webconferencing.support.CallLog;
 import org.exoplatform.webconferencing.support.CallLogService;
+import org.exoplatform.webconferencing.support.LogRateLimiter;
 
 /**
  * Created by The eXo Platform SAS.
@@ -186,9 +189,15 @@ public class CometdWebConferencingService implements Startable {
   /** The Constant EVENT_CALL_STATE. */
   public static final String             EVENT_CALL_STATE = "call_state";
 
+  /** The Constant EVENT_CALL_PARTICIPANTS (several participants joined and/or leaved). */
+  public static final String             EVENT_CALL_PARTICIPANTS = "call_participants";
+
   /** The Constant LOG_OK. */
   public static final String             LOG_OK                                = "{}";
 
+  /** Maximum number of log records accepted in a single request. */
+  public static final int                LOG_RECORDS_MAX                       = 500;
+
   /**
    * Base minimum number of threads for remote calls' thread executors.
    */
@@ -217,6 +226,45 @@ public class CometdWebConferencingService implements Startable {
    */
   public static final String             CALL_THREAD_PREFIX                    = "webconferencing-call-thread-";
 
+  /** The thread name prefix of workers of client sessions remote calls. */
+  public static final String             CALL_WORKER_THREAD_PREFIX             = "webconferencing-call-worker-";
+
+  /** The Constant CALL_HANDLERS_PROPERTIES. */
+  public static final String             CALL_HANDLERS_PROPERTIES              = "call-handlers";
+
+  /** The Constant CALL_HANDLERS_EXECUTOR. */
+  public static final String             CALL_HANDLERS_EXECUTOR                = "executor";
+
+  /** The Constant CALL_HANDLERS_SESSION_QUEUE. */
+  public static final String             CALL_HANDLERS_SESSION_QUEUE           = "session-queue-size";
+
+  /** The default max number of remote calls of a client session waiting for processing. */
+  public static final int                SESSION_QUEUE_SIZE_DEFAULT            = 16;
+
+  /** The time in milliseconds a client should wait before retrying a remote call rejected as busy. */
+  public static final long               SESSION_BUSY_RETRY_AFTER              = 1000;
+
+  /**
+   * How long in milliseconds a security context of a client session can be reused, after this time the user
+   * identity will be resolved again to apply changes of its memberships.
+   */
+  public static final long               SESSION_CONTEXT_TTL                   = 60000;
+
+  /** The Constant CALL_HANDLERS_DB_PERMITS. */
+  public static final String             CALL_HANDLERS_DB_PERMITS              = "db-permits";
+
+  /** The executor of call handlers using a pool of platform threads (default). */
+  public static final String             EXECUTOR_POOL                         = "pool";
+
+  /** The executor of call handlers using a virtual thread per command (requires Java 21). */
+  public static final String             EXECUTOR_VIRTUAL                      = "virtual";
+
+  /**
+   * Concurrent commands per CPU allowed to work with eXo container (storage) when call handlers run on virtual
+   * threads, if not configured explicitly.
+   */
+  public static final int                CALL_DB_PERMITS_FACTOR                = 2;
+
   /** The Constant LOG. */
   private static final Log               LOG                                   =
                                              ExoLogger.getLogger(CometdWebConferencingService.class);
@@ -241,10 +289,31 @@ public class CometdWebConferencingService implements Startable {
 
   /** The call handlers. */
   protected final ExecutorService        callHandlers;
+
+  /**
+   * The permits to work with eXo container (storage) for call handlers running on virtual threads, it's
+   * <code>null</code> for the pool of platform threads (its size bounds the work already).
+   */
+  protected final Semaphore              dbPermits;
+
+  /**
+   * The executor of workers processing remote calls of client sessions. Unlike the call handlers, it rejects a
+   * worker it cannot run and never runs it on the CometD transport thread.
+   */
+  protected final ExecutorService        callWorkers;
+
+  /** The remote calls of client sessions, processed fairly by call workers. */
+  protected final FairCommandExecutor    sessionCommands;
+
+  /** The commands of remote calls. */
+  protected final CallCommandRegistry    commands;
   
   /** Cache of connected users. */
   protected final ExoCache<String, UserCallProxy>  usersCache;
 
+  /** The cluster event bus. */
+  protected final ClusterEventBus                  eventBus;
+
   /**
    * The Class CallEventProxy.
    */
@@ -319,7 +388,9 @@ public class CometdWebConferencingService implements Startable {
      */
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
-      out.writeUTF(type);
+      EventsCodec.writeVersion(out);
+      EventsCodec.writeString(out, type);
+      writeData(out);
     }
 
     /**
@@ -327,7 +398,56 @@ public class CometdWebConferencingService implements Startable {
      */
     @Override
     public void readExternal(ObjectInput in) throws IOException {
-      this.type = in.readUTF();
+      EventsCodec.readVersion(in);
+      this.type = EventsCodec.readString(in);
+      readData(in);
+    }
+
+    /**
+     * Write the event data (all fields except of the type, it is written by the caller).
+     *
+     * @param out the out
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void writeData(ObjectOutput out) throws IOException {
+      // Nothing for base event
+    }
+
+    /**
+     * Read the event data (all fields except of the type, it is read by the caller).
+     *
+     * @param in the in
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void readData(ObjectInput in) throws IOException {
+      // Nothing for base event
+    }
+
+    /**
+     * Create an event instance of given type to read its data.
+     *
+     * @param type the type
+     * @return the event proxy
+     */
+    static EventProxy newEvent(String type) {
+      EventProxy event;
+      switch (type) {
+      case EVENT_CALL_JOINED:
+      case EVENT_CALL_LEAVED:
+        event = new CallParticipantEvent();
+        break;
+      case EVENT_CALL_PARTICIPANTS:
+        event = new CallParticipantsEvent();
+        break;
+      case EVENT_CALL_STATE:
+        event = new CallStateEvent();
+        break;
+      default:
+        event = new EventProxy();
+        break;
+      }
+      event.type = type;
+      return event;
     }
   }
 
@@ -412,24 +532,22 @@ public class CometdWebConferencingService implements Startable {
      * {@inheritDoc}
      */
     @Override
-    public void writeExternal(ObjectOutput out) throws IOException {
-      super.writeExternal(out);
-      out.writeUTF(callId);
-      out.writeUTF(providerType);
-      out.writeUTF(ownerId);
-      out.writeUTF(ownerType);
+    void writeData(ObjectOutput out) throws IOException {
+      EventsCodec.writeString(out, callId);
+      EventsCodec.writeString(out, providerType);
+      EventsCodec.writeString(out, ownerId);
+      EventsCodec.writeString(out, ownerType);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void readExternal(ObjectInput in) throws IOException {
-      super.readExternal(in);
-      this.callId = in.readUTF();
-      this.providerType = in.readUTF();
-      this.ownerId = in.readUTF();
-      this.ownerType = in.readUTF();
+    void readData(ObjectInput in) throws IOException {
+      this.callId = EventsCodec.readString(in);
+      this.providerType = EventsCodec.readString(in);
+      this.ownerId = EventsCodec.readString(in);
+      this.ownerType = EventsCodec.readString(in);
     }
   }
 
@@ -476,18 +594,96 @@ public class CometdWebConferencingService implements Startable {
      * {@inheritDoc}
      */
     @Override
-    public void writeExternal(ObjectOutput out) throws IOException {
-      super.writeExternal(out);
-      out.writeUTF(partId);
+    void writeData(ObjectOutput out) throws IOException {
+      super.writeData(out);
+      EventsCodec.writeString(out, partId);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void readExternal(ObjectInput in) throws IOException {
-      super.readExternal(in);
-      this.partId = in.readUTF();
+    void readData(ObjectInput in) throws IOException {
+      super.readData(in);
+      this.partId = EventsCodec.readString(in);
+    }
+  }
+
+  /**
+   * The Class CallParticipantsEvent (several joined and leaved participants).
+   */
+  static public class CallParticipantsEvent extends CallEventProxy implements Externalizable {
+
+    /** The joined parts. */
+    private List<String> joined;
+
+    /** The leaved parts. */
+    private List<String> leaved;
+
+    /**
+     * Instantiates a new call participants event (for serialization).
+     */
+    public CallParticipantsEvent() {
+      super();
+    }
+
+    /**
+     * Instantiates a new call participants event.
+     *
+     * @param callId the call id
+     * @param providerType the provider type
+     * @param ownerId the owner id
+     * @param ownerType the owner type
+     * @param joined the joined parts
+     * @param leaved the leaved parts
+     */
+    CallParticipantsEvent(String callId,
+                          String providerType,
+                          String ownerId,
+                          String ownerType,
+                          Collection<String> joined,
+                          Collection<String> leaved) {
+      super(EVENT_CALL_PARTICIPANTS, callId, providerType, ownerId, ownerType);
+      this.joined = new ArrayList<>(joined);
+      this.leaved = new ArrayList<>(leaved);
+    }
+
+    /**
+     * Gets the joined parts.
+     *
+     * @return the joined
+     */
+    List<String> getJoined() {
+      return joined;
+    }
+
+    /**
+     * Gets the leaved parts.
+     *
+     * @return the leaved
+     */
+    List<String> getLeaved() {
+      return leaved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void writeData(ObjectOutput out) throws IOException {
+      super.writeData(out);
+      EventsCodec.writeStrings(out, joined);
+      EventsCodec.writeStrings(out, leaved);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void readData(ObjectInput in) throws IOException {
+      super.readData(in);
+      this.joined = EventsCodec.readStrings(in);
+      this.leaved = EventsCodec.readStrings(in);
     }
   }
 
@@ -533,18 +729,18 @@ public class CometdWebConferencingService implements Startable {
      * {@inheritDoc}
      */
     @Override
-    public void writeExternal(ObjectOutput out) throws IOException {
-      super.writeExternal(out);
-      out.writeUTF(state);
+    void writeData(ObjectOutput out) throws IOException {
+      super.writeData(out);
+      EventsCodec.writeString(out, state);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void readExternal(ObjectInput in) throws IOException {
-      super.readExternal(in);
-      this.state = in.readUTF();
+    void readData(ObjectInput in) throws IOException {
+      super.readData(in);
+      this.state = EventsCodec.readString(in);
     }
   }
 
@@ -559,6 +755,9 @@ public class CometdWebConferencingService implements Startable {
     /** The client id. */
     private String     clientId;
 
+    /** The node id where this proxy was created. */
+    private String     nodeId;
+
     /** The state - it's a payload of the call in caches. */
     private EventProxy state;
 
@@ -574,11 +773,13 @@ public class CometdWebConferencingService implements Startable {
      *
      * @param userId the user id
      * @param clientId the client id
+     * @param nodeId the node id
      * @param state the state
      */
-    UserCallProxy(String userId, String clientId, EventProxy state) {
+    UserCallProxy(String userId, String clientId, String nodeId, EventProxy state) {
       this.userId = userId;
       this.clientId = clientId;
+      this.nodeId = nodeId;
       this.state = state;
     }
 
@@ -641,9 +842,8 @@ public class CometdWebConferencingService implements Startable {
      */
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
-      out.writeUTF(userId);
-      out.writeUTF(clientId);
-      out.writeObject(state);
+      EventsCodec.writeVersion(out);
+      writeData(out);
     }
 
     /**
@@ -651,9 +851,40 @@ public class CometdWebConferencingService implements Startable {
      */
     @Override
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-      this.userId = in.readUTF();
-      this.clientId = in.readUTF();
-      this.state = (EventProxy) in.readObject();
+      EventsCodec.readVersion(in);
+      readData(in);
+    }
+
+    /**
+     * Write the proxy data without format version (e.g. to write several proxies in a batch).
+     *
+     * @param out the out
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void writeData(ObjectOutput out) throws IOException {
+      EventsCodec.writeString(out, userId);
+      EventsCodec.writeString(out, clientId);
+      EventsCodec.writeString(out, nodeId);
+      EventsCodec.writeString(out, state.getType());
+      state.writeData(out);
+    }
+
+    /**
+     * Read the proxy data without format version.
+     *
+     * @param in the in
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void readData(ObjectInput in) throws IOException {
+      this.userId = EventsCodec.readString(in);
+      this.clientId = EventsCodec.readString(in);
+      this.nodeId = EventsCodec.readString(in);
+      String type = EventsCodec.readString(in);
+      if (type == null) {
+        throw new InvalidObjectException("User call state type required");
+      }
+      this.state = EventProxy.newEvent(type);
+      this.state.readData(in);
     }
 
     /**
@@ -674,6 +905,15 @@ public class CometdWebConferencingService implements Startable {
       return clientId;
     }
 
+    /**
+     * Gets the node id where this proxy was created.
+     *
+     * @return the nodeId
+     */
+    public String getNodeId() {
+      return nodeId;
+    }
+
     /**
      * Gets the state.
      *
@@ -759,7 +999,10 @@ public class CometdWebConferencingService implements Startable {
     abstract class ContainerCommand implements Runnable {
 
       /** The container name. */
-      final String containerName;
+      final String       containerName;
+
+      /** The container resolved before, if <code>null</code> it will be found by name. */
+      final ExoContainer container;
 
       /**
        * Instantiates a new container command.
@@ -767,7 +1010,18 @@ public class CometdWebConferencingService implements Startable {
        * @param containerName the container name
        */
       ContainerCommand(String containerName) {
+        this(containerName, null);
+      }
+
+      /**
+       * Instantiates a new container command with already resolved container.
+       *
+       * @param containerName the container name
+       * @param container the container or <code>null</code> to find it by name
+       */
+      ContainerCommand(String containerName, ExoContainer container) {
         this.containerName = containerName;
+        this.container = container;
       }
 
       /**
@@ -791,8 +1045,18 @@ public class CometdWebConferencingService implements Startable {
       public void run() {
         if (isValidId(containerName)) {
           // Do the work under eXo container context (for proper work of eXo apps and JPA storage)
-          ExoContainer exoContainer = ExoContainerContext.getContainerByName(containerName);
+          ExoContainer exoContainer = container != null ? container : ExoContainerContext.getContainerByName(containerName);
           if (exoContainer != null) {
+            if (dbPermits != null) {
+              // On virtual threads we bound the number of commands working with the storage at the same time
+              try {
+                dbPermits.acquire();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                onContainerError("Interrupted");
+                return;
+              }
+            }
             ExoContainer contextContainer = ExoContainerContext.getCurrentContainerIfPresent();
             try {
               // Container context
@@ -804,6 +1068,9 @@ public class CometdWebConferencingService implements Startable {
               // Restore context
               RequestLifeCycle.end();
               ExoContainerContext.setCurrentContainer(contextContainer);
+              if (dbPermits != null) {
+                dbPermits.release();
+              }
             }
           } else {
             // LOG.warn("Container not found " + containerName + " for remote call " + contextName);
@@ -815,6 +1082,110 @@ public class CometdWebConferencingService implements Startable {
       }
     }
 
+    /**
+     * Security context of a client session resolved for its remote calls: the container, services and
+     * the user identity. It is cached for the session, thus repeated calls from the same client
+     * don't lookup the container and don't reconstruct the user identity. But the identity memberships may
+     * change, thus the context expires after {@link #SESSION_CONTEXT_TTL}. A conversation state is mutable
+     * (its attributes) and the session commands may run concurrently, thus each command gets own state of
+     * the cached identity, see {@link #newState()}.
+     */
+    class SessionContext {
+
+      /** The container name. */
+      final String                 containerName;
+
+      /** The container. */
+      final ExoContainer           container;
+
+      /** The user id. */
+      final String                 userId;
+
+      /** The web conferencing service of the container. */
+      final WebConferencingService webConferencing;
+
+      /** The user identity. */
+      final Identity               identity;
+
+      /** The time (nanos) when the context expires. */
+      final long                   expires;
+
+      /**
+       * Instantiates a new session context.
+       *
+       * @param containerName the container name
+       * @param container the container
+       * @param userId the user id
+       * @param webConferencing the web conferencing service
+       * @param identity the user identity
+       */
+      SessionContext(String containerName,
+                     ExoContainer container,
+                     String userId,
+                     WebConferencingService webConferencing,
+                     Identity identity) {
+        this.containerName = containerName;
+        this.container = container;
+        this.userId = userId;
+        this.webConferencing = webConferencing;
+        this.identity = identity;
+        this.expires = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SESSION_CONTEXT_TTL);
+      }
+
+      /**
+       * Checks if this context is of given container and user.
+       *
+       * @param containerName the container name
+       * @param userId the user id
+       * @return true, if matches
+       */
+      boolean matches(String containerName, String userId) {
+        return this.containerName.equals(containerName) && this.userId.equals(userId);
+      }
+
+      /**
+       * Checks if this context expired.
+       *
+       * @return true, if expired
+       */
+      boolean isExpired() {
+        return System.nanoTime() - expires >= 0;
+      }
+
+      /**
+       * Create a new conversation state of the context user for a command.
+       *
+       * @return the conversation state
+       */
+      ConversationState newState() {
+        ConversationState state = new ConversationState(identity);
+        state.setAttribute(ConversationState.SUBJECT, identity.getSubject());
+        return state;
+      }
+    }
+
+    /**
+     * Removes security context of removed client sessions.
+     */
+    class SessionContextListener implements BayeuxServer.SessionListener {
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void sessionAdded(ServerSession session, ServerMessage message) {
+        // Nothing, the context will be created on first remote call
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void sessionRemoved(ServerSession session, ServerMessage message, boolean timedout) {
+        sessionContexts.remove(session.getId());
+      }
+    }
+
     /**
      * The Class UserChannelContext.
      */
@@ -878,7 +1249,10 @@ public class CometdWebConferencingService implements Startable {
           if (usersCache != null) {
             // Put closing call proxy into the cache (for clustering channel notifications)
             // Other nodes will unregister their listener stub in its WebConf service instance
-            proxy = new UserCallProxy(listener.getUserId(), listener.getClientId(), new EventProxy(CLOSE));
+            proxy = new UserCallProxy(listener.getUserId(),
+                                      listener.getClientId(),
+                                      eventBus.getNodeId(),
+                                      new EventProxy(CLOSE));
             usersCache.put(proxy.getId(), proxy);
           }
           if (LOG.isDebugEnabled()) {
@@ -912,7 +1286,10 @@ public class CometdWebConferencingService implements Startable {
           if (usersCache != null) {
             // Add initial call proxy to the cache (for clustering channel notifications)
             // Other nodes will listen on the cache onPut and register a client stub listener to their WebConf service instances
-            proxy = new UserCallProxy(listener.getUserId(), listener.getClientId(), new EventProxy(INIT));
+            proxy = new UserCallProxy(listener.getUserId(),
+                                      listener.getClientId(),
+                                      eventBus.getNodeId(),
+                                      new EventProxy(INIT));
             usersCache.put(proxy.getId(), proxy);
           }
           if (LOG.isDebugEnabled()) {
@@ -1148,6 +1525,40 @@ public class CometdWebConferencingService implements Startable {
                       }
                     }
 
+                    @Override
+                    public void onPartsChanged(String callId,
+                                               String providerType,
+                                               String ownerId,
+                                               String ownerType,
+                                               Collection<String> joined,
+                                               Collection<String> leaved) {
+                      StringBuilder data = new StringBuilder();
+                      data.append('{');
+                      data.append("\"eventType\": \"");
+                      data.append(EVENT_CALL_PARTICIPANTS);
+                      data.append("\",");
+                      data.append("\"callId\": \"");
+                      data.append(callId);
+                      data.append("\",\"providerType\": \"");
+                      data.append(providerType);
+                      data.append("\",\"joined\": ");
+                      appendIds(data, joined);
+                      data.append(",\"leaved\": ");
+                      appendIds(data, leaved);
+                      data.append(",\"owner\": {");
+                      data.append("\"id\": \"");
+                      data.append(ownerId);
+                      data.append("\",\"type\": \"");
+                      data.append(ownerType);
+                      data.append("\"}");
+                      data.append('}');
+                      bayeux.getChannel(channelId).publish(serverSession, data.toString(), Promise.noop());
+                      if (LOG.isDebugEnabled()) {
+                        LOG.debug(">>> Sent call participants changed to " + channelId + " call: " + callId + " joined: " + joined
+                            + " leaved: " + leaved + " by " + currentUserId(null));
+                      }
+                    }
+
                     @Override
                     public void onCallStateChanged(String callId,
                                                    String providerType,
@@ -1410,14 +1821,94 @@ public class CometdWebConferencingService implements Startable {
       }
     }
 
+    /**
+     * The call channel listener: publishes participants changes once to the call channel (to its clients connected to
+     * this node) and, in cluster, forwards them via cluster event bus to other nodes where the call channel also may have
+     * clients.
+     */
+    class CallChannelPublisher extends CallChannelListener {
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void onPartJoined(String callId, String providerType, String ownerId, String ownerType, String partId) {
+        publish(new CallParticipantEvent(EVENT_CALL_JOINED, callId, providerType, ownerId, ownerType, partId));
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId) {
+        publish(new CallParticipantEvent(EVENT_CALL_LEAVED, callId, providerType, ownerId, ownerType, partId));
+      }
+
+      /**
+       * Publish the event in the call channel.
+       *
+       * @param event the event
+       */
+      void publish(CallParticipantEvent event) {
+        String channelId = new StringBuilder(CALL_SUBSCRIPTION_CHANNEL_NAME).append('/').append(event.getCallId()).toString();
+        publishLocal(channelId, event);
+        if (usersCache != null) {
+          eventBus.sendAll(new UserCallProxy(channelId, eventBus.getNodeId(), eventBus.getNodeId(), event));
+          if (LOG.isDebugEnabled()) {
+            LOG.debug(">> Sent call channel " + event.getType() + " for " + channelId + "[" + event.getPartId() + "] by "
+                + currentUserId(null));
+          }
+        }
+      }
+
+      /**
+       * Publish the event to the call channel clients connected to this node.
+       *
+       * @param channelId the channel id
+       * @param event the event
+       */
+      void publishLocal(String channelId, CallParticipantEvent event) {
+        if (callChannelContext.containsKey(channelId)) {
+          ServerChannel channel = bayeux.getChannel(channelId);
+          if (channel != null) {
+            StringBuilder data = new StringBuilder();
+            data.append('{');
+            data.append("\"eventType\": \"");
+            data.append(event.getType());
+            data.append("\",");
+            data.append("\"callId\": \"");
+            data.append(event.getCallId());
+            data.append("\",\"providerType\": \"");
+            data.append(event.getProviderType());
+            data.append("\",\"part\": {");
+            data.append("\"id\": \"");
+            data.append(event.getPartId());
+            data.append("\"},\"owner\": {");
+            data.append("\"id\": \"");
+            data.append(event.getOwnerId());
+            data.append("\",\"type\": \"");
+            data.append(event.getOwnerType());
+            data.append("\"}");
+            data.append('}');
+            channel.publish(serverSession, data.toString(), Promise.noop());
+            if (LOG.isDebugEnabled()) {
+              LOG.debug(">>> Sent call " + event.getType() + " to " + channelId + "[" + event.getPartId() + "] by "
+                  + currentUserId(null));
+            }
+          }
+        }
+      }
+    }
+
     /**
      * The listener interface for receiving usersCache events and reflect local
      * {@link WebConferencingService#addUserCallListener(UserCallListener)}
-     * listeners.
+     * listeners. Users cache keeps users connected to their channels on cluster nodes, while call events
+     * to them are delivered by {@link ClusterEventBus}.
      *
      * @see UsersCacheEvent
      */
-    class UsersCacheListener implements CacheListener<String, UserCallProxy> {
+    class UsersCacheListener implements CacheListener<String, UserCallProxy>, ClusterEventBus.Receiver {
 
       /**
        * The Class UserCallListenerStub.
@@ -1427,16 +1918,21 @@ public class CometdWebConferencingService implements Startable {
         /** The cache id. */
         final String cacheId;
 
+        /** The node id where the user connected. */
+        final String nodeId;
+
         /**
          * Instantiates a new user call listener stub.
          *
          * @param cacheId the cache id
          * @param userId the user id
          * @param clientId the client id
+         * @param nodeId the node id where the user connected
          */
-        UserCallListenerStub(String cacheId, String userId, String clientId) {
+        UserCallListenerStub(String cacheId, String userId, String clientId, String nodeId) {
           super(userId, clientId);
           this.cacheId = cacheId;
+          this.nodeId = nodeId;
         }
 
         /**
@@ -1455,15 +1951,16 @@ public class CometdWebConferencingService implements Startable {
         public void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId) {
           UserCallProxy proxy = new UserCallProxy(userId,
                                                   clientId,
+                                                  eventBus.getNodeId(),
                                                   new CallParticipantEvent(EVENT_CALL_LEAVED,
                                                                            callId,
                                                                            providerType,
                                                                            ownerId,
                                                                            ownerType,
                                                                            partId));
-          usersCache.put(proxy.getId(), proxy);
+          eventBus.send(nodeId, proxy);
           if (LOG.isDebugEnabled()) {
-            LOG.debug(">> Cached call participant leaved for " + callId + "[" + partId + "] to " + cacheId + " by "
+            LOG.debug(">> Sent call participant leaved for " + callId + "[" + partId + "] to " + cacheId + " by "
                 + currentUserId(null));
           }
         }
@@ -1475,15 +1972,42 @@ public class CometdWebConferencingService implements Startable {
         public void onPartJoined(String callId, String providerType, String ownerId, String ownerType, String partId) {
           UserCallProxy proxy = new UserCallProxy(userId,
                                                   clientId,
+                                                  eventBus.getNodeId(),
                                                   new CallParticipantEvent(EVENT_CALL_JOINED,
                                                                            callId,
                                                                            providerType,
                                                                            ownerId,
                                                                            ownerType,
                                                                            partId));
-          usersCache.put(proxy.getId(), proxy);
+          eventBus.send(nodeId, proxy);
           if (LOG.isDebugEnabled()) {
-            LOG.debug(">> Cached call participant joined for " + callId + "[" + partId + "] to " + cacheId + " by "
+            LOG.debug(">> Sent call participant joined for " + callId + "[" + partId + "] to " + cacheId + " by "
+                + currentUserId(null));
+          }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onPartsChanged(String callId,
+                                   String providerType,
+                                   String ownerId,
+                                   String ownerType,
+                                   Collection<String> joined,
+                                   Collection<String> leaved) {
+          UserCallProxy proxy = new UserCallProxy(userId,
+                                                  clientId,
+                                                  eventBus.getNodeId(),
+                                                  new CallParticipantsEvent(callId,
+                                                                            providerType,
+                                                                            ownerId,
+                                                                            ownerType,
+                                                                            joined,
+                                                                            leaved));
+          eventBus.send(nodeId, proxy);
+          if (LOG.isDebugEnabled()) {
+            LOG.debug(">> Sent call participants changed for " + callId + " to " + cacheId + "@" + nodeId + " by "
                 + currentUserId(null));
           }
         }
@@ -1495,10 +2019,12 @@ public class CometdWebConferencingService implements Startable {
         public void onCallStateChanged(String callId, String providerType, String callState, String ownerId, String ownerType) {
           UserCallProxy proxy = new UserCallProxy(userId,
                                                   clientId,
+                                                  eventBus.getNodeId(),
                                                   new CallStateEvent(callId, providerType, ownerId, ownerType, callState));
-          usersCache.put(proxy.getId(), proxy);
+          eventBus.send(nodeId, proxy);
           if (LOG.isDebugEnabled()) {
-            LOG.debug(">> Cached call state update for " + callId + " to " + cacheId + " by " + currentUserId(null));
+            LOG.debug(">> Sent call state update for " + callId + " to " + cacheId + "@" + nodeId + " by "
+                + currentUserId(null));
           }
         }
       }
@@ -1567,7 +2093,7 @@ public class CometdWebConferencingService implements Startable {
             if (userContext == null || !userContext.getListener().getClientId().equals(clientId)) {
               // It's an user connected to a channel somewhere (on another cluster node)
               // Register a stub listener in the WebConf to transfer call updates from this remote to the client one.
-              UserCallListenerStub listener = new UserCallListenerStub(key, userId, clientId);
+              UserCallListenerStub listener = new UserCallListenerStub(key, userId, clientId, obj.getNodeId());
               webConferencing.addUserCallListener(listener);
               // it's enough to have a first one as addUserCallListener does the same
               clientStubs.putIfAbsent(key, listener);
@@ -1586,15 +2112,36 @@ public class CometdWebConferencingService implements Startable {
                 LOG.debug("< Unregistered user listener stub for " + key);
               }
             }
+          } // call events delivered by the cluster event bus, see onEvents()
+        } else {
+          LOG.warn("Unexpected null call state in cache for " + key + " by " + currentUserId(null));
+        }
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void onEvents(List<UserCallProxy> events) {
+        for (UserCallProxy obj : events) {
+          String userId = obj.getUserId();
+          EventProxy event = obj.getState();
+          if (userId.startsWith(CALL_SUBSCRIPTION_CHANNEL_NAME)) {
+            // It's a call channel event (see CallChannelPublisher) from another cluster node: publish it to local
+            // clients, the origin node already did this for its clients
+            if (event instanceof CallParticipantEvent) {
+              callPublisher.publishLocal(userId, CallParticipantEvent.class.cast(event));
+            }
           } else {
             // This event happens on local node to where its stub listeners (from remote nodes) send call events to be notified to
             // local users
             // It's a call event - check if it's from remote stub listener (another cluster node) to our local user client
+            UserChannelContext userContext = userChannelContext.get(userId);
             if (userContext != null && userContext.getListener().getClientId().equals(obj.getClientId())) {
               // Handle the remote event like it's an one occurred in local WebConf service
               if (LOG.isDebugEnabled()) {
-                LOG.debug("> Received call event from user listener stub for " + key + " event:" + event.getType() + " by "
-                    + currentUserId(null));
+                LOG.debug("> Received call event from user listener stub for " + obj.getId() + " event:" + event.getType()
+                    + " from " + obj.getNodeId() + " by " + currentUserId(null));
               }
               switch (event.getType()) {
               case EVENT_CALL_JOINED: {
@@ -1617,6 +2164,17 @@ public class CometdWebConferencingService implements Startable {
                                          partEvent.getPartId());
                 break;
               }
+              case EVENT_CALL_PARTICIPANTS: {
+                CallParticipantsEvent partsEvent = CallParticipantsEvent.class.cast(event);
+                userContext.getListener()
+                           .onPartsChanged(partsEvent.getCallId(),
+                                           partsEvent.getProviderType(),
+                                           partsEvent.getOwnerId(),
+                                           partsEvent.getOwnerType(),
+                                           partsEvent.getJoined(),
+                                           partsEvent.getLeaved());
+                break;
+              }
               case EVENT_CALL_STATE: {
                 CallStateEvent stateEvent = CallStateEvent.class.cast(event);
                 userContext.getListener()
@@ -1628,13 +2186,11 @@ public class CometdWebConferencingService implements Startable {
                 break;
               }
               default:
-                LOG.warn("Unexpected call state in cache " + event.getType() + " for " + key + " by " + currentUserId(null));
+                LOG.warn("Unexpected call event " + event.getType() + " for " + obj.getId() + " by " + currentUserId(null));
                 break;
               }
             } // ignore otherwise - it's an event for others
           }
-        } else {
-          LOG.warn("Unexpected null call state in cache for " + key + " by " + currentUserId(null));
         }
       }
 
@@ -1674,15 +2230,37 @@ public class CometdWebConferencingService implements Startable {
     /** The channel listener. */
     private final ClientChannelListener           channelListener      = new ClientChannelListener();
 
+    /** The call channel publisher. */
+    private final CallChannelPublisher            callPublisher        = new CallChannelPublisher();
+
+    /** Security context of client sessions making remote calls. */
+    private final Map<String, SessionContext>     sessionContexts      = new ConcurrentHashMap<>();
+
+    /** The session context listener. */
+    private final SessionContextListener          sessionListener      = new SessionContextListener();
+
     /**
      * Post construct.
      */
     @PostConstruct
     public void postConstruct() {
       bayeux.addListener(channelListener);
+      bayeux.addListener(sessionListener);
       if (usersCache != null) {
         usersCache.addCacheListener(usersCacheListener);
+        eventBus.setReceiver(usersCacheListener);
       }
+      webConferencing.addCallChannelListener(callPublisher);
+      // Remote call commands
+      commands.register(COMMAND_GET, this::getCall);
+      commands.register(COMMAND_UPDATE, this::updateCall);
+      commands.register(COMMAND_CREATE, this::createCall);
+      commands.register(COMMAND_DELETE, this::deleteCall);
+      commands.register(COMMAND_ADD_GUEST, this::addGuest);
+      commands.register(COMMAND_UPDATE_INVITES, this::updateInvites);
+      commands.register(COMMAND_CHECK_INVITE, this::checkInvite);
+      commands.register(COMMAND_GET_ORG_IDENTITIES, this::getOrgIdentities);
+      commands.register(COMMAND_GET_CALLS_STATE, this::getCallsState);
     }
 
     /**
@@ -1690,13 +2268,25 @@ public class CometdWebConferencingService implements Startable {
      */
     @PreDestroy
     public void preDestroy() {
-      // cleanup listeners
+      // cleanup listeners and commands
+      commands.unregister(COMMAND_GET);
+      commands.unregister(COMMAND_UPDATE);
+      commands.unregister(COMMAND_CREATE);
+      commands.unregister(COMMAND_DELETE);
+      commands.unregister(COMMAND_ADD_GUEST);
+      commands.unregister(COMMAND_UPDATE_INVITES);
+      commands.unregister(COMMAND_CHECK_INVITE);
+      commands.unregister(COMMAND_GET_ORG_IDENTITIES);
+      commands.unregister(COMMAND_GET_CALLS_STATE);
+      webConferencing.removeCallChannelListener(callPublisher);
       if (usersCache != null) {
         // XXX we cannot remove users cache listener, but
         // we remove all client listener stubs - unregister in WebConf service
         usersCacheListener.stop();
       }
       bayeux.removeListener(channelListener);
+      bayeux.removeListener(sessionListener);
+      sessionContexts.clear();
       for (UserChannelContext context : userChannelContext.values()) {
         webConferencing.removeUserCallListener(context.getListener());
       }
@@ -1750,8 +2340,12 @@ public class CometdWebConferencingService implements Startable {
       @SuppressWarnings("unchecked")
       Map<String, Object> arguments = (Map<String, Object>) data;
       String containerName = asString(arguments.get("exoContainerName"));
+      final long submitted = System.nanoTime();
+      SessionContext cachedContext = sessionContexts.get(session.getId());
+      boolean cached = cachedContext != null && cachedContext.containerName.equals(containerName);
+      ExoContainer cachedContainer = cached ? cachedContext.container : null;
 
-      callHandlers.submit(new ContainerCommand(containerName) {
+      boolean accepted = sessionCommands.submit(session.getId(), new ContainerCommand(containerName, cachedContainer) {
         /**
          * {@inheritDoc}
          */
@@ -1765,263 +2359,29 @@ public class CometdWebConferencingService implements Startable {
                 // Do all the job under actual (requester) user: set this user as current identity in eXo
                 // We rely on EXoContinuationBayeux.EXoSecurityPolicy for user security here (exoId above)
                 // Use services acquired from context container.
-                IdentityRegistry identityRegistry = exoContainer.getComponentInstanceOfType(IdentityRegistry.class);
-                WebConferencingService webConferencing = exoContainer.getComponentInstanceOfType(WebConferencingService.class);
-                Identity userIdentity = identityRegistry.getIdentity(currentUserId);
-                if (userIdentity == null) {
-                  // We create user identity by authenticator, but not register it in the registry
-                  try {
-                    Authenticator authenticator = exoContainer.getComponentInstanceOfType(Authenticator.class);
-                    if (LOG.isDebugEnabled()) {
-                      LOG.debug(">> User identity not registered, trying to create it for: " + currentUserId);
-                    }
-                    userIdentity = authenticator.createIdentity(currentUserId);
-                  } catch (Exception e) {
-                    LOG.warn("Failed to create user identity: " + currentUserId, e);
-                  }
-                }
-                if (userIdentity != null) {
+                SessionContext sessionContext = sessionContext(session, containerName, exoContainer, currentUserId);
+                if (sessionContext != null) {
+                  WebConferencingService webConferencing = sessionContext.webConferencing;
                   ConversationState contextState = ConversationState.getCurrent();
                   try {
                     // User context (2)
-                    ConversationState convState = new ConversationState(userIdentity);
-                    convState.setAttribute(ConversationState.SUBJECT, userIdentity.getSubject());
-                    ConversationState.setCurrent(convState);
+                    ConversationState.setCurrent(sessionContext.newState());
                     // Process the request
                     String id = asString(arguments.get("id"));
                     if (isValidId(id)) {
                       String command = asString(arguments.get("command"));
                       if (isValidArg(command)) {
-                        if (COMMAND_GET.equals(command)) {
-                          try {
-                            CallInfo call = webConferencing.getCall(id);
-                            if (call != null) {
-                              caller.result(asJSON(call));
-                            } else {
-                              caller.failure(ErrorInfo.notFoundError("Call not found").asJSON());
-                            }
-                          } catch (Throwable e) {
-                            LOG.error("Error reading call '" + id + "' by '" + currentUserId + "'", e);
-                            caller.failure(ErrorInfo.serverError("Error reading call").asJSON());
-                          }
-                        } else if (COMMAND_UPDATE.equals(command)) {
-                          @SuppressWarnings("unchecked")
-                          Map<String, Object> info = (Map<String, Object>) arguments.get("info");
-                          if (info != null) {
-                            String ownerId = asString(info.get("owner"));
-                            String ownerType = asString(info.get("ownerType"));
-                            String providerType = asString(info.get("provider"));
-                            String title = asString(info.get("title"));
-                            String pstr = asString(info.get("participants"));
-                            String spacesstr = asString(info.get("spaces"));
-                            String startDate = asString(info.get("startDate"));
-                            Date startD = null;
-                            try {
-                              startD = parseISODate(startDate);
-                            } catch (Exception e) {
-                              LOG.warn("Error parsing call start date: " + startDate, e);
-                              caller.failure(ErrorInfo.clientError("Wrong parameter format for call update: startDate").asJSON());
-                            }
-                            String endDate = asString(info.get("endDate"));
-                            Date endD = null;
-                            try {
-                              endD = parseISODate(endDate);
-                            } catch (Exception e) {
-                              LOG.warn("Error parsing call end date: " + endDate, e);
-                              caller.failure(ErrorInfo.clientError("Wrong parameter format for call update: endDate").asJSON());
-                            }
-                            if (pstr != null) { // we don't check max length here
-                              List<String> partIds = Arrays.asList(pstr.split(";"));
-                              List<String> spaceNames = spacesstr != null ? Arrays.asList(spacesstr.split(";")) : null;
-                              try {
-                                CallInfo call = webConferencing.updateCall(id,
-                                                                           ownerId,
-                                                                           ownerType,
-                                                                           title,
-                                                                           providerType,
-                                                                           partIds,
-                                                                           spaceNames,
-                                                                           startD,
-                                                                           endD);
-                                caller.result(asJSON(call));
-                              } catch (CallInfoException e) {
-                                // aka BAD_REQUEST - user did bad input, need to retry or reuse existing call
-                                caller.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
-                              } catch (Throwable e) {
-                                LOG.error("Error updating call information for '" + id + "' by '" + currentUserId + "'", e);
-                                caller.failure(ErrorInfo.serverError("Error updating call information").asJSON());
-                              }
-                            } else {
-                              caller.failure(ErrorInfo.clientError("Wrong info parameters: participants").asJSON());
-                            }
-                          } else {
-                            Object participantsJson = arguments.get("participants");
-                            if (participantsJson != null) {
-                              try {
-                                List<String> participants = asList(participantsJson, String.class);
-                                CallInfo call = webConferencing.updateParticipants(id, participants);
-                                caller.result(asJSON(call));
-                              } catch (CallNotFoundException e) {
-                                caller.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
-                              } catch (Throwable e) {
-                                LOG.error("Error updating call participants '" + id + "' by '" + currentUserId + "'", e);
-                                caller.failure(ErrorInfo.serverError("Error updating call participants").asJSON());
-                              }
-                            } else {
-                              String state = asString(arguments.get("state"));
-                              if (isValidArg(state)) {
-                                try {
-                                  boolean stateRecognized = true;
-                                  CallInfo call;
-                                  if (CallState.STARTED.equals(state)) {
-                                    call = webConferencing.startCall(id, exoClientId);
-                                  } else if (CallState.STOPPED.equals(state)) {
-                                    call = webConferencing.stopCall(id, false);
-                                  } else if (UserState.JOINED.equals(state)) {
-                                    call = webConferencing.joinCall(id, currentUserId, exoClientId);
-                                  } else if (UserState.LEAVED.equals(state)) {
-                                    call = webConferencing.leaveCall(id, currentUserId, exoClientId);
-                                  } else {
-                                    call = null;
-                                    stateRecognized = false;
-                                  }
-                                  if (stateRecognized) {
-                                    if (call != null) {
-                                      caller.result(asJSON(call));
-                                    } else {
-                                      caller.failure(ErrorInfo.notFoundError("Call not found").asJSON());
-                                    }
-                                  } else {
-                                    caller.failure(ErrorInfo.clientError("Wrong parameters: state not recognized")
-                                                            .asJSON());
-                                  }
-                                } catch (CallNotFoundException e) { // aka BAD_REQUEST
-                                  caller.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
-                                } catch (Throwable e) {
-                                  LOG.error("Error updating call state '" + id + "' by '" + currentUserId + "'", e);
-                                  caller.failure(ErrorInfo.serverError("Error updating call state").asJSON());
-                                }
-                              } else {
-                                caller.failure(ErrorInfo.clientError("Wrong parameters: state").asJSON());
-                              }
-                            }                            
-                          }
-                        } else if (COMMAND_CREATE.equals(command)) {
-                          String ownerId = asString(arguments.get("owner"));
-                          String ownerType = asString(arguments.get("ownerType"));
-                          String providerType = asString(arguments.get("provider"));
-                          String title = asString(arguments.get("title"));
-                          String pstr = asString(arguments.get("participants"));
-                          String spacesstr = asString(arguments.get("spaces"));
-                          boolean start = asBoolean(arguments.get("start"));
-                          String startDate = asString(arguments.get("startDate"));
-                          Date startD = null;
-                          try {
-                            startD = parseISODate(startDate);
-                          } catch (Exception e) {
-                            caller.failure(ErrorInfo.clientError("Wrong parameter format for call creation: startDate").asJSON());
-                          }
-                          String endDate = asString(arguments.get("endDate"));
-                          Date endD = null;
-                          try {
-                            endD = parseISODate(endDate);
-                          } catch (Exception e) {
-                            caller.failure(ErrorInfo.clientError("Wrong parameter format for call creation: endDate").asJSON());
-                          }
-                          if (pstr != null) { // we don't check max length here
-                            List<String> partIds = Arrays.asList(pstr.split(";"));
-                            List<String> spaceNames = spacesstr != null ? Arrays.asList(spacesstr.split(";")) : null;
-                            try {
-                              CallInfo call = webConferencing.createCall(id,
-                                                                         ownerId,
-                                                                         ownerType,
-                                                                         title,
-                                                                         providerType,
-                                                                         partIds,
-                                                                         spaceNames,
-                                                                         start,
-                                                                         startD,
-                                                                         endD);
-                              caller.result(asJSON(call));
-                            } catch (CallInfoException e) {
-                              // aka BAD_REQUEST - user did bad input, need to retry or reuse existing call
-                              caller.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
-                            } catch (Throwable e) {
-                              LOG.error("Error creating call for '" + id + "' by '" + currentUserId + "'", e);
-                              caller.failure(ErrorInfo.serverError("Error creating call").asJSON());
-                            }
-                          } else {
-                            caller.failure(ErrorInfo.clientError("Wrong parameters for call creation: participants").asJSON());
-                          }
-                        } else if (COMMAND_DELETE.equals(command)) {
-                          try {
-                            CallInfo call = webConferencing.stopCall(id, true);
-                            if (call != null) {
-                              caller.result(asJSON(call));
-                            } else {
-                              caller.failure(ErrorInfo.notFoundError("Call not found").asJSON());
-                            }
-                          } catch (CallNotFoundException e) {
-                            caller.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
-                          } catch (Throwable e) {
-                            LOG.error("Error deleting call '" + id + "' by '" + currentUserId + "'", e);
-                            caller.failure(ErrorInfo.serverError("Error deleting call record").asJSON());
-                          }
-                        } else if (COMMAND_ADD_GUEST.equals(command)) {
-                          String guestId = asString(arguments.get("guestId"));
-                          if (guestId != null) {
-                            try {
-                              CallInfo call = webConferencing.addGuest(id, guestId);
-                              caller.result(asJSON(call));
-                            } catch (CallNotFoundException | IdentityStateException e) {
-                              caller.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
-                            } catch (Throwable e) {
-                              LOG.error("Error adding guest to call '" + id + "' by '" + currentUserId + "'", e);
-                              caller.failure(ErrorInfo.serverError("Error adding guest to call").asJSON());
-                            }
-                          }
-                        } else if (COMMAND_UPDATE_INVITES.equals(command)) {
-                          try {
-                            List<InvitedIdentity> invites = invitedIdentitiesFromJson(arguments.get("invites"));
-                            CallInfo call = webConferencing.updateInvites(id, invites);
-                            caller.result(asJSON(call));
-                          } catch (CallNotFoundException e) {
-                            caller.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
-                          } catch (Throwable e) {
-                            LOG.error("Error adding guest to call '" + id + "' by '" + currentUserId + "'", e);
-                            caller.failure(ErrorInfo.serverError("Error adding guest to call").asJSON());
-                          }
-                        } else if (COMMAND_CHECK_INVITE.equals(command)) {
-                          String inviteId = asString(arguments.get("inviteId"));
-                          try {
-                            boolean allowed = webConferencing.checkInvite(id, inviteId, currentUserId);
-                            caller.result("{\"allowed\" : " + allowed + "}");
-                          } catch (Throwable e) {
-                            LOG.error("Error adding guest to call '" + id + "' by '" + currentUserId + "'", e);
-                            caller.failure(ErrorInfo.serverError("Error adding guest to call").asJSON());
-                          }
-                        } else if (COMMAND_GET_ORG_IDENTITIES.equals(command)) {
-                          String name = asString(arguments.get("name"));
-                          try {
-                            List<IdentityData> identities = webConferencing.findGroupsAndUsers(name);
-                            caller.result(asJSON(identities.toArray()));
-                          } catch (Throwable e) {
-                            LOG.error("Error adding guest to call '" + id + "' by '" + currentUserId + "'", e);
-                            caller.failure(ErrorInfo.serverError("Error adding guest to call").asJSON());
-                          }
-                        } else if (COMMAND_GET_CALLS_STATE.equals(command)) {
-                          if (id.equals(currentUserId)) { // id it's user name for this command
-                            try {
-                              CallState[] calls = webConferencing.getUserCalls(id);
-                              caller.result(asJSON(calls));
-                            } catch (Throwable e) {
-                              LOG.error("Error reading users calls for '" + id + "'", e);
-                              caller.failure(ErrorInfo.serverError("Error reading user calls").asJSON());
-                            }
-                          } else {
-                            // Don't let read other user calls
-                            caller.failure(ErrorInfo.clientError("Wrong request parameters: id (does not match)").asJSON());
-                          }
+                        CallCommandHandler handler = commands.getHandler(command);
+                        if (handler != null) {
+                          CallCommand call = new CallCommand(command,
+                                                             caller,
+                                                             arguments,
+                                                             id,
+                                                             currentUserId,
+                                                             exoClientId,
+                                                             webConferencing,
+                                                             submitted);
+                          commands.execute(handler, call);
                         } else {
                           LOG.warn("Unknown call command " + command + " for '" + id + "' from '" + currentUserId + "'");
                           caller.failure(ErrorInfo.clientError("Unknown command").asJSON());
@@ -2061,6 +2421,390 @@ public class CometdWebConferencingService implements Startable {
           caller.failure(ErrorInfo.clientError(error).asJSON());
         }
       });
+      if (!accepted) {
+        // Client sent too many requests not processed yet: don't block the transport, let the client retry later
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("< RemoteCall rejected as busy for session:" + session.getId() + " data:" + data);
+        }
+        caller.failure(ErrorInfo.busyError("Too many requests, retry later", SESSION_BUSY_RETRY_AFTER).asJSON());
+      }
+    }
+
+    /**
+     * Get security context of the client session, it will be resolved on first remote call from the session (or
+     * if the session changed its container or user) and reused for next calls until the session removed or the
+     * context expired.
+     *
+     * @param session the client session
+     * @param containerName the container name
+     * @param exoContainer the container
+     * @param userId the user id
+     * @return the session context or <code>null</code> if user identity cannot be found
+     */
+    SessionContext sessionContext(ServerSession session,
+                                  String containerName,
+                                  ExoContainer exoContainer,
+                                  String userId) {
+      SessionContext context = sessionContexts.get(session.getId());
+      if (context == null || !context.matches(containerName, userId) || context.isExpired()) {
+        IdentityRegistry identityRegistry = exoContainer.getComponentInstanceOfType(IdentityRegistry.class);
+        Identity userIdentity = identityRegistry.getIdentity(userId);
+        if (userIdentity == null) {
+          // We create user identity by authenticator, but not register it in the registry
+          try {
+            Authenticator authenticator = exoContainer.getComponentInstanceOfType(Authenticator.class);
+            if (LOG.isDebugEnabled()) {
+              LOG.debug(">> User identity not registered, trying to create it for: " + userId);
+            }
+            userIdentity = authenticator.createIdentity(userId);
+          } catch (Exception e) {
+            LOG.warn("Failed to create user identity: " + userId, e);
+          }
+        }
+        if (userIdentity != null) {
+          context = new SessionContext(containerName,
+                                       exoContainer,
+                                       userId,
+                                       exoContainer.getComponentInstanceOfType(WebConferencingService.class),
+                                       userIdentity);
+          if (session.isConnected()) {
+            sessionContexts.put(session.getId(), context);
+            if (!session.isConnected()) {
+              // The session gone meanwhile and its listener may not see this context: remove it by ourselves
+              sessionContexts.remove(session.getId(), context);
+            }
+          }
+        } else {
+          context = null;
+        }
+      }
+      return context;
+    }
+
+    /**
+     * Read a call.
+     *
+     * @param command the command
+     */
+    void getCall(CallCommand command) {
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      try {
+        CallInfo call = webConferencing.getCall(id);
+        if (call != null) {
+          command.result(asJSON(call));
+        } else {
+          command.failure(ErrorInfo.notFoundError("Call not found").asJSON());
+        }
+      } catch (Throwable e) {
+        LOG.error("Error reading call '" + id + "' by '" + currentUserId + "'", e);
+        command.failure(ErrorInfo.serverError("Error reading call").asJSON());
+      }
+    }
+
+    /**
+     * Update a call information, participants or state.
+     *
+     * @param command the command
+     */
+    void updateCall(CallCommand command) {
+      Map<String, Object> arguments = command.getArguments();
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      String exoClientId = command.getClientId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      @SuppressWarnings("unchecked")
+      Map<String, Object> info = (Map<String, Object>) arguments.get("info");
+      if (info != null) {
+        String ownerId = asString(info.get("owner"));
+        String ownerType = asString(info.get("ownerType"));
+        String providerType = asString(info.get("provider"));
+        String title = asString(info.get("title"));
+        String pstr = asString(info.get("participants"));
+        String spacesstr = asString(info.get("spaces"));
+        String startDate = asString(info.get("startDate"));
+        Date startD = null;
+        try {
+          startD = parseISODate(startDate);
+        } catch (Exception e) {
+          LOG.warn("Error parsing call start date: " + startDate, e);
+          command.failure(ErrorInfo.clientError("Wrong parameter format for call update: startDate").asJSON());
+        }
+        String endDate = asString(info.get("endDate"));
+        Date endD = null;
+        try {
+          endD = parseISODate(endDate);
+        } catch (Exception e) {
+          LOG.warn("Error parsing call end date: " + endDate, e);
+          command.failure(ErrorInfo.clientError("Wrong parameter format for call update: endDate").asJSON());
+        }
+        if (pstr != null) { // we don't check max length here
+          List<String> partIds = Arrays.asList(pstr.split(";"));
+          List<String> spaceNames = spacesstr != null ? Arrays.asList(spacesstr.split(";")) : null;
+          try {
+            CallInfo call = webConferencing.updateCall(id,
+                                                       ownerId,
+                                                       ownerType,
+                                                       title,
+                                                       providerType,
+                                                       partIds,
+                                                       spaceNames,
+                                                       startD,
+                                                       endD);
+            command.result(asJSON(call));
+          } catch (CallInfoException e) {
+            // aka BAD_REQUEST - user did bad input, need to retry or reuse existing call
+            command.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
+          } catch (Throwable e) {
+            LOG.error("Error updating call information for '" + id + "' by '" + currentUserId + "'", e);
+            command.failure(ErrorInfo.serverError("Error updating call information").asJSON());
+          }
+        } else {
+          command.failure(ErrorInfo.clientError("Wrong info parameters: participants").asJSON());
+        }
+      } else {
+        Object participantsJson = arguments.get("participants");
+        if (participantsJson != null) {
+          try {
+            List<String> participants = asList(participantsJson, String.class);
+            CallInfo call = webConferencing.updateParticipants(id, participants);
+            command.result(asJSON(call));
+          } catch (CallNotFoundException e) {
+            command.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
+          } catch (Throwable e) {
+            LOG.error("Error updating call participants '" + id + "' by '" + currentUserId + "'", e);
+            command.failure(ErrorInfo.serverError("Error updating call participants").asJSON());
+          }
+        } else {
+          String state = asString(arguments.get("state"));
+          if (isValidArg(state)) {
+            try {
+              boolean stateRecognized = true;
+              CallInfo call;
+              if (CallState.STARTED.equals(state)) {
+                call = webConferencing.startCall(id, exoClientId);
+              } else if (CallState.STOPPED.equals(state)) {
+                call = webConferencing.stopCall(id, false);
+              } else if (UserState.JOINED.equals(state)) {
+                call = webConferencing.joinCall(id, currentUserId, exoClientId);
+              } else if (UserState.LEAVED.equals(state)) {
+                call = webConferencing.leaveCall(id, currentUserId, exoClientId);
+              } else {
+                call = null;
+                stateRecognized = false;
+              }
+              if (stateRecognized) {
+                if (call != null) {
+                  command.result(asJSON(call));
+                } else {
+                  command.failure(ErrorInfo.notFoundError("Call not found").asJSON());
+                }
+              } else {
+                command.failure(ErrorInfo.clientError("Wrong parameters: state not recognized").asJSON());
+              }
+            } catch (CallNotFoundException e) { // aka BAD_REQUEST
+              command.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
+            } catch (Throwable e) {
+              LOG.error("Error updating call state '" + id + "' by '" + currentUserId + "'", e);
+              command.failure(ErrorInfo.serverError("Error updating call state").asJSON());
+            }
+          } else {
+            command.failure(ErrorInfo.clientError("Wrong parameters: state").asJSON());
+          }
+        }
+      }
+    }
+
+    /**
+     * Create a call.
+     *
+     * @param command the command
+     */
+    void createCall(CallCommand command) {
+      Map<String, Object> arguments = command.getArguments();
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      String ownerId = asString(arguments.get("owner"));
+      String ownerType = asString(arguments.get("ownerType"));
+      String providerType = asString(arguments.get("provider"));
+      String title = asString(arguments.get("title"));
+      String pstr = asString(arguments.get("participants"));
+      String spacesstr = asString(arguments.get("spaces"));
+      boolean start = asBoolean(arguments.get("start"));
+      String startDate = asString(arguments.get("startDate"));
+      Date startD = null;
+      try {
+        startD = parseISODate(startDate);
+      } catch (Exception e) {
+        command.failure(ErrorInfo.clientError("Wrong parameter format for call creation: startDate").asJSON());
+      }
+      String endDate = asString(arguments.get("endDate"));
+      Date endD = null;
+      try {
+        endD = parseISODate(endDate);
+      } catch (Exception e) {
+        command.failure(ErrorInfo.clientError("Wrong parameter format for call creation: endDate").asJSON());
+      }
+      if (pstr != null) { // we don't check max length here
+        List<String> partIds = Arrays.asList(pstr.split(";"));
+        List<String> spaceNames = spacesstr != null ? Arrays.asList(spacesstr.split(";")) : null;
+        try {
+          CallInfo call = webConferencing.createCall(id,
+                                                     ownerId,
+                                                     ownerType,
+                                                     title,
+                                                     providerType,
+                                                     partIds,
+                                                     spaceNames,
+                                                     start,
+                                                     startD,
+                                                     endD);
+          command.result(asJSON(call));
+        } catch (CallInfoException e) {
+          // aka BAD_REQUEST - user did bad input, need to retry or reuse existing call
+          command.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
+        } catch (Throwable e) {
+          LOG.error("Error creating call for '" + id + "' by '" + currentUserId + "'", e);
+          command.failure(ErrorInfo.serverError("Error creating call").asJSON());
+        }
+      } else {
+        command.failure(ErrorInfo.clientError("Wrong parameters for call creation: participants").asJSON());
+      }
+    }
+
+    /**
+     * Delete a call.
+     *
+     * @param command the command
+     */
+    void deleteCall(CallCommand command) {
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      try {
+        CallInfo call = webConferencing.stopCall(id, true);
+        if (call != null) {
+          command.result(asJSON(call));
+        } else {
+          command.failure(ErrorInfo.notFoundError("Call not found").asJSON());
+        }
+      } catch (CallNotFoundException e) {
+        command.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
+      } catch (Throwable e) {
+        LOG.error("Error deleting call '" + id + "' by '" + currentUserId + "'", e);
+        command.failure(ErrorInfo.serverError("Error deleting call record").asJSON());
+      }
+    }
+
+    /**
+     * Add a guest to a call.
+     *
+     * @param command the command
+     */
+    void addGuest(CallCommand command) {
+      Map<String, Object> arguments = command.getArguments();
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      String guestId = asString(arguments.get("guestId"));
+      if (guestId != null) {
+        try {
+          CallInfo call = webConferencing.addGuest(id, guestId);
+          command.result(asJSON(call));
+        } catch (CallNotFoundException | IdentityStateException e) {
+          command.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
+        } catch (Throwable e) {
+          LOG.error("Error adding guest to call '" + id + "' by '" + currentUserId + "'", e);
+          command.failure(ErrorInfo.serverError("Error adding guest to call").asJSON());
+        }
+      }
+    }
+
+    /**
+     * Update invites of a call.
+     *
+     * @param command the command
+     */
+    void updateInvites(CallCommand command) {
+      Map<String, Object> arguments = command.getArguments();
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      try {
+        List<InvitedIdentity> invites = invitedIdentitiesFromJson(arguments.get("invites"));
+        CallInfo call = webConferencing.updateInvites(id, invites);
+        command.result(asJSON(call));
+      } catch (CallNotFoundException e) {
+        command.failure(ErrorInfo.clientError(e.getMessage()).asJSON());
+      } catch (Throwable e) {
+        LOG.error("Error adding guest to call '" + id + "' by '" + currentUserId + "'", e);
+        command.failure(ErrorInfo.serverError("Error adding guest to call").asJSON());
+      }
+    }
+
+    /**
+     * Check if current user invited to a call.
+     *
+     * @param command the command
+     */
+    void checkInvite(CallCommand command) {
+      Map<String, Object> arguments = command.getArguments();
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      String inviteId = asString(arguments.get("inviteId"));
+      try {
+        boolean allowed = webConferencing.checkInvite(id, inviteId, currentUserId);
+        command.result("{\"allowed\" : " + allowed + "}");
+      } catch (Throwable e) {
+        LOG.error("Error adding guest to call '" + id + "' by '" + currentUserId + "'", e);
+        command.failure(ErrorInfo.serverError("Error adding guest to call").asJSON());
+      }
+    }
+
+    /**
+     * Find groups and users by name.
+     *
+     * @param command the command
+     */
+    void getOrgIdentities(CallCommand command) {
+      Map<String, Object> arguments = command.getArguments();
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      String name = asString(arguments.get("name"));
+      try {
+        List<IdentityData> identities = webConferencing.findGroupsAndUsers(name);
+        command.result(asJSON(identities.toArray()));
+      } catch (Throwable e) {
+        LOG.error("Error adding guest to call '" + id + "' by '" + currentUserId + "'", e);
+        command.failure(ErrorInfo.serverError("Error adding guest to call").asJSON());
+      }
+    }
+
+    /**
+     * Read calls state of current user.
+     *
+     * @param command the command
+     */
+    void getCallsState(CallCommand command) {
+      String id = command.getId();
+      String currentUserId = command.getUserId();
+      WebConferencingService webConferencing = command.getWebConferencing();
+      if (id.equals(currentUserId)) { // id it's user name for this command
+        try {
+          CallState[] calls = webConferencing.getUserCalls(id);
+          command.result(asJSON(calls));
+        } catch (Throwable e) {
+          LOG.error("Error reading users calls for '" + id + "'", e);
+          command.failure(ErrorInfo.serverError("Error reading user calls").asJSON());
+        }
+      } else {
+        // Don't let read other user calls
+        command.failure(ErrorInfo.clientError("Wrong request parameters: id (does not match)").asJSON());
+      }
     }
 
     /**
@@ -2079,104 +2823,74 @@ public class CometdWebConferencingService implements Startable {
         // exoId - string, eXo's username who logs the data
         // exoClientId - string, an ID generated by core web conferencing to distinguish running
         // clients
+        // records - array of log records buffered by the client, each record is an object with entries:
         // data - string or object with actual diagnostic info
         // level - string, it's a log level: one of "trace", "debug", "info", "warn", "error"
         // prefix - string, a log record prefix (e.g. provider type or app context)
         // timestamp - string, date with time and seconds fraction in ISO format and UTC timezone
+        // Older clients send a single record entries directly in the request, without records array.
         String currentUserId = asString(params.get("exoId"));
         if (isValidId(currentUserId)) {
-          // TODO validate all log params on max length in like validate() method
           String clientId = asString(params.get("exoClientId"));
           if (isValidArg(clientId)) {
-            String level = asString(params.get("level"));
-            if (isValidArg(level)) {
-              String timestamp = asString(params.get("timestamp"));
-              if (isValidArg(timestamp)) {
-                String provider = asString(params.get("provider")); // can be null or non empty
-                if (isValidText(provider)) {
-                  String prefix = asString(params.get("prefix")); // can be null or non empty
-                  if (isValidText(prefix)) {
-                    Map<String, Object> msgData;
-                    Object msgObj = params.get("data");
-                    if (msgObj != null) {
-                      if (Map.class.isAssignableFrom(msgObj.getClass())) {
-
-                        msgData = (Map<String, Object>) msgObj;
-                      } else if (String.class.isAssignableFrom(msgObj.getClass())) {
-                        msgData = new HashMap<>();
-                        msgData.put("message", String.class.cast(msgObj));
-                      } else {
-                        LOG.warn("");
-                        msgData = Collections.emptyMap();
-                      }
-
-                      String message = validate(asString(msgData.get("message")));
-
-                      CallLog callLog = callLogs.getLog();
-                      StringBuilder msgLine = new StringBuilder();
-                      msgLine.append('[');
-                      if (provider != null) {
-                        msgLine.append(provider);
-                      }
-                      if (prefix != null) {
-                        if (msgLine.length() > 1) {
-                          msgLine.append('.');
-                        }
-                        msgLine.append(prefix);
-                      }
-                      if (msgLine.length() > 1) {
-                        msgLine.append("] ");
-                      } else {
-                        msgLine.deleteCharAt(0); // remove [
-                      }
-                      msgLine.append(currentUserId);
-                      msgLine.append('-');
-                      msgLine.append(clientId);
-                      msgLine.append(' ');
-                      msgLine.append(message);
-                      msgLine.append(" -- ");
-                      msgLine.append(timestamp);
-
-                      //
-                      LocalDateTime msgTimestamp;
-                      try {
-                        msgTimestamp = LocalDateTime.parse(timestamp, DateTimeFormatter.ISO_DATE_TIME);
-                      } catch (DateTimeParseException e) {
-                        LOG.warn("Error parsing log timestamp '" + timestamp + "'", e);
-                        msgTimestamp = null;
-                      }
-
-                      if (ERROR_LEVEL.equals(level)) {
-                        callLog.error(msgLine.toString(), msgTimestamp);
-                      } else if (WARN_LEVEL.equals(level)) {
-                        callLog.warn(msgLine.toString(), msgTimestamp);
-                      } else if (INFO_LEVEL.equals(level)) {
-                        callLog.info(msgLine.toString(), msgTimestamp);
-                      } else if (DEBUG_LEVEL.equals(level)) {
-                        callLog.debug(msgLine.toString(), msgTimestamp);
-                      } else if (TRACE_LEVEL.equals(level)) {
-                        callLog.trace(msgLine.toString(), msgTimestamp);
-                      } else {
-                        callLog.warn("Received not expected level: " + level);
-                        caller.failure(ErrorInfo.clientError("Not expected request parameters: level").asJSON());
-                      }
-
-                      // Finally send OK response (empty JSON object here)
-                      caller.result(LOG_OK);
+            CallLog callLog = callLogs.getLog();
+            LogRateLimiter rateLimiter = callLogs.getRateLimiter();
+            String client = currentUserId + "-" + clientId;
+            // The client ID comes from the request, thus budget of the records is per user and its CometD session
+            String budget = currentUserId + "@" + session.getId();
+            StringBuilder msgLine = new StringBuilder();
+            Object recordsObj = params.get("records");
+            if (recordsObj != null) {
+              Collection<Object> records;
+              if (recordsObj.getClass().isArray()) {
+                records = Arrays.asList((Object[]) recordsObj);
+              } else if (Collection.class.isAssignableFrom(recordsObj.getClass())) {
+                records = (Collection<Object>) recordsObj;
+              } else {
+                records = null;
+              }
+              if (records != null) {
+                if (records.size() <= LOG_RECORDS_MAX) {
+                  int rejected = 0;
+                  String error = null;
+                  for (Object record : records) {
+                    String recordError;
+                    if (record != null && Map.class.isAssignableFrom(record.getClass())) {
+                      recordError = logRecord(callLog, rateLimiter, budget, msgLine, client, (Map<String, Object>) record);
                     } else {
-                      caller.failure(ErrorInfo.clientError("Not found request parameters: data").asJSON());
+                      recordError = "Wrong request parameters: record";
+                    }
+                    if (recordError != null) {
+                      rejected++;
+                      error = recordError;
                     }
+                  }
+                  if (rejected == 0) {
+                    // Finally send OK response (empty JSON object here)
+                    caller.result(LOG_OK);
                   } else {
-                    caller.failure(ErrorInfo.clientError("Wrong request parameters: prefix").asJSON());
+                    if (callLog.isEnabled(CallLog.WARN_LEVEL) && rateLimiter.acquire(budget, CallLog.WARN_LEVEL)) {
+                      callLog.warn("Rejected " + rejected + " of " + records.size() + " log records from " + client
+                          + ". Last error: " + error);
+                    }
+                    caller.failure(ErrorInfo.clientError(error + " (rejected " + rejected + " of " + records.size() + " records)")
+                                            .asJSON());
                   }
                 } else {
-                  caller.failure(ErrorInfo.clientError("Wrong request parameters: provider").asJSON());
+                  caller.failure(ErrorInfo.clientError("Too many log records: " + records.size() + " (max " + LOG_RECORDS_MAX
+                      + ")").asJSON());
                 }
               } else {
-                caller.failure(ErrorInfo.clientError("Wrong request parameters: timestamp").asJSON());
+                caller.failure(ErrorInfo.clientError("Wrong request parameters: records").asJSON());
               }
             } else {
-              caller.failure(ErrorInfo.clientError("Wrong request parameters: level").asJSON());
+              String error = logRecord(callLog, rateLimiter, budget, msgLine, client, params);
+              if (error == null) {
+                // Finally send OK response (empty JSON object here)
+                caller.result(LOG_OK);
+              } else {
+                caller.failure(ErrorInfo.clientError(error).asJSON());
+              }
             }
           } else {
             caller.failure(ErrorInfo.clientError("Wrong request parameters: clientId").asJSON());
@@ -2189,6 +2903,95 @@ public class CometdWebConferencingService implements Startable {
         caller.failure(ErrorInfo.serverError("Error processing call request: " + e.getMessage()).asJSON());
       }
     }
+
+    /**
+     * Validate a log record from a client and add it to the call log. Records of levels not enabled in the
+     * call log, or suppressed by the rate limiter, will be validated but not formatted.
+     *
+     * @param callLog the call log
+     * @param rateLimiter the rate limiter of client logs
+     * @param budget the rate limiter budget name (user and CometD session ID)
+     * @param msgLine the string builder to reuse for the log line
+     * @param client the client name (user and client ID)
+     * @param record the record
+     * @return the error message if the record isn't valid, <code>null</code> otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private String logRecord(CallLog callLog,
+                             LogRateLimiter rateLimiter,
+                             String budget,
+                             StringBuilder msgLine,
+                             String client,
+                             Map<String, Object> record) {
+      // TODO validate all log params on max length in like validate() method
+      String levelName = asString(record.get("level"));
+      if (!isValidArg(levelName)) {
+        return "Wrong request parameters: level";
+      }
+      String level = CallLog.level(levelName);
+      if (level == null) {
+        return "Not expected request parameters: level";
+      }
+      String timestamp = asString(record.get("timestamp"));
+      if (!isValidArg(timestamp)) {
+        return "Wrong request parameters: timestamp";
+      }
+      String provider = asString(record.get("provider")); // can be null or non empty
+      if (!isValidText(provider)) {
+        return "Wrong request parameters: provider";
+      }
+      String prefix = asString(record.get("prefix")); // can be null or non empty
+      if (!isValidText(prefix)) {
+        return "Wrong request parameters: prefix";
+      }
+      Object msgObj = record.get("data");
+      if (msgObj == null) {
+        return "Not found request parameters: data";
+      }
+      if (callLog.isEnabled(level) && rateLimiter.acquire(budget, level)) {
+        String message;
+        if (Map.class.isAssignableFrom(msgObj.getClass())) {
+          message = asString(((Map<String, Object>) msgObj).get("message"));
+        } else if (String.class.isAssignableFrom(msgObj.getClass())) {
+          message = String.class.cast(msgObj);
+        } else {
+          message = null;
+        }
+        message = validate(message);
+
+        msgLine.setLength(0);
+        msgLine.append('[');
+        if (provider != null) {
+          msgLine.append(provider);
+        }
+        if (prefix != null) {
+          if (msgLine.length() > 1) {
+            msgLine.append('.');
+          }
+          msgLine.append(prefix);
+        }
+        if (msgLine.length() > 1) {
+          msgLine.append("] ");
+        } else {
+          msgLine.setLength(0); // remove [
+        }
+        msgLine.append(client);
+        msgLine.append(' ');
+        msgLine.append(message);
+        msgLine.append(" -- ");
+        msgLine.append(timestamp);
+
+        LocalDateTime msgTimestamp;
+        try {
+          msgTimestamp = LocalDateTime.parse(timestamp, DateTimeFormatter.ISO_DATE_TIME);
+        } catch (DateTimeParseException e) {
+          LOG.warn("Error parsing log timestamp '" + timestamp + "'", e);
+          msgTimestamp = null;
+        }
+        callLog.log(level, msgLine.toString(), msgTimestamp);
+      }
+      return null;
+    }
   }
 
   /**
@@ -2200,23 +3003,70 @@ public class CometdWebConferencingService implements Startable {
    * @param exoBayeux the exo bayeux
    * @param cacheService the cache service
    * @param callLogs the call logs
+   * @param eventBus the cluster event bus
+   * @param commands the remote call commands registry
+   * @param params the params
    */
   public CometdWebConferencingService(IdentityRegistry identityRegistry,
                                       OrganizationService organization,
                                       WebConferencingService webConferencing,
                                       EXoContinuationBayeux exoBayeux,
                                       CacheService cacheService,
-                                      CallLogService callLogs) {
+                                      CallLogService callLogs,
+                                      ClusterEventBus eventBus,
+                                      CallCommandRegistry commands,
+                                      InitParams params) {
     this.identityRegistry = identityRegistry;
     this.organization = organization;
     this.webConferencing = webConferencing;
     this.exoBayeux = exoBayeux;
     this.callLogs = callLogs;
+    this.eventBus = eventBus;
+    this.commands = commands;
     this.usersCache = ExoContainer.hasProfile("cluster") ? cacheService.getCacheInstance(USER_CACHE_NAME) : null;
     this.service = new CallService();
 
     // Thread executors
-    this.callHandlers = createThreadExecutor(CALL_THREAD_PREFIX, CALL_MAX_FACTOR, CALL_QUEUE_FACTOR);
+    PropertiesParam handlersParam = params != null ? params.getPropertiesParam(CALL_HANDLERS_PROPERTIES) : null;
+    String executorMode = handlersParam != null ? handlersParam.getProperty(CALL_HANDLERS_EXECUTOR) : null;
+    ExecutorService virtualExecutor = null;
+    if (executorMode != null && EXECUTOR_VIRTUAL.equalsIgnoreCase(executorMode.trim())) {
+      virtualExecutor = createVirtualThreadExecutor();
+    } else if (executorMode != null && executorMode.trim().length() > 0 && !EXECUTOR_POOL.equalsIgnoreCase(executorMode.trim())) {
+      LOG.warn("Unknown call handlers executor: " + executorMode + ". Will use " + EXECUTOR_POOL + ".");
+    }
+    if (virtualExecutor != null) {
+      int permits = Math.max(MIN_MAX_THREADS, Runtime.getRuntime().availableProcessors() * CALL_DB_PERMITS_FACTOR);
+      String permitsValue = handlersParam.getProperty(CALL_HANDLERS_DB_PERMITS);
+      if (permitsValue != null && permitsValue.trim().length() > 0) {
+        try {
+          int value = Integer.parseInt(permitsValue.trim());
+          if (value > 0) {
+            permits = value;
+          }
+        } catch (NumberFormatException e) {
+          LOG.warn("Wrong call handlers DB permits: " + permitsValue + ". Will use " + permits + ".");
+        }
+      }
+      this.callHandlers = virtualExecutor;
+      this.callWorkers = virtualExecutor;
+      this.dbPermits = new Semaphore(permits, true);
+      LOG.info("Call handlers will run on virtual threads with " + permits + " DB permits");
+    } else {
+      this.callHandlers = createThreadExecutor(CALL_THREAD_PREFIX, CALL_MAX_FACTOR, CALL_QUEUE_FACTOR);
+      this.callWorkers = createWorkersExecutor(CALL_WORKER_THREAD_PREFIX, maxThreads(CALL_MAX_FACTOR));
+      this.dbPermits = null;
+    }
+    int sessionQueueSize = SESSION_QUEUE_SIZE_DEFAULT;
+    String queueValue = handlersParam != null ? handlersParam.getProperty(CALL_HANDLERS_SESSION_QUEUE) : null;
+    if (queueValue != null && queueValue.trim().length() > 0) {
+      try {
+        sessionQueueSize = Math.max(1, Integer.parseInt(queueValue.trim()));
+      } catch (NumberFormatException e) {
+        LOG.warn("Wrong call handlers session queue size: " + queueValue + ". Will use " + sessionQueueSize + ".");
+      }
+    }
+    this.sessionCommands = new FairCommandExecutor(callWorkers, maxThreads(CALL_MAX_FACTOR), sessionQueueSize);
   }
 
   /**
@@ -2427,6 +3277,28 @@ public class CometdWebConferencingService implements Startable {
     return list;
   }
 
+  /**
+   * Append IDs as a JSON array to given builder.
+   *
+   * @param data the builder
+   * @param ids the ids
+   */
+  protected static void appendIds(StringBuilder data, Collection<String> ids) {
+    data.append('[');
+    boolean first = true;
+    for (String id : ids) {
+      if (first) {
+        first = false;
+      } else {
+        data.append(',');
+      }
+      data.append('"');
+      data.append(id);
+      data.append('"');
+    }
+    data.append(']');
+  }
+
   /**
    * Create a new thread executor service.
    *
@@ -2435,28 +3307,81 @@ public class CometdWebConferencingService implements Startable {
    * @param queueFactor - queue size per CPU core
    * @return the executor service
    */
-  protected ExecutorService createThreadExecutor(String threadNamePrefix, int maxFactor, int queueFactor) {
-    // Executor will queue all commands and run them in maximum set of threads. Minimum set of threads will be
-    // maintained online even idle, other inactive will be stopped in two minutes.
+  protected static ExecutorService createThreadExecutor(String threadNamePrefix, int maxFactor, int queueFactor) {
+    // Executor will run commands in maximum set of threads and queue them only when all threads busy. When the
+    // queue is full, the command runs in the caller thread. Clients remote calls don't go here, they are queued
+    // fairly per session and run by workers executor (see createWorkersExecutor()). Inactive threads will be
+    // stopped in two minutes.
     final int cpus = Runtime.getRuntime().availableProcessors();
-    int poolThreads = cpus / 4;
-    poolThreads = poolThreads < MIN_THREADS ? MIN_THREADS : poolThreads;
-    int maxThreads = Math.round(cpus * 1f * maxFactor);
-    maxThreads = maxThreads > 0 ? maxThreads : 1;
-    maxThreads = maxThreads < MIN_MAX_THREADS ? MIN_MAX_THREADS : maxThreads;
+    int maxThreads = maxThreads(maxFactor);
     int queueSize = cpus * queueFactor;
     queueSize = queueSize < queueFactor ? queueFactor : queueSize;
     if (LOG.isDebugEnabled()) {
-      LOG.debug("> Creating thread executor " + threadNamePrefix + "* for " + poolThreads + ".." + maxThreads
-          + " threads, queue size " + queueSize);
-    }
-    return new ThreadPoolExecutor(poolThreads,
-                                  maxThreads,
-                                  THREAD_IDLE_TIME,
-                                  TimeUnit.SECONDS,
-                                  new LinkedBlockingQueue<Runnable>(queueSize),
-                                  new CommandThreadFactory(threadNamePrefix),
-                                  new ThreadPoolExecutor.CallerRunsPolicy());
+      LOG.debug("> Creating thread executor " + threadNamePrefix + "* for " + maxThreads + " threads, queue size " + queueSize);
+    }
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads,
+                                                         maxThreads,
+                                                         THREAD_IDLE_TIME,
+                                                         TimeUnit.SECONDS,
+                                                         new LinkedBlockingQueue<Runnable>(queueSize),
+                                                         new CommandThreadFactory(threadNamePrefix),
+                                                         new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Create executor of workers of {@link FairCommandExecutor}. It has a thread for each worker, and its queue
+   * only absorbs a worker started while a previous one is finishing its thread. A worker it cannot run is
+   * rejected with {@link java.util.concurrent.RejectedExecutionException} (e.g. after shutdown), thus the command will be refused
+   * to the client instead of running in the CometD transport thread.
+   *
+   * @param threadNamePrefix the thread name prefix
+   * @param maxWorkers the max number of workers
+   * @return the executor service
+   */
+  protected static ExecutorService createWorkersExecutor(String threadNamePrefix, int maxWorkers) {
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("> Creating workers executor " + threadNamePrefix + "* for " + maxWorkers + " threads");
+    }
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(maxWorkers,
+                                                         maxWorkers,
+                                                         THREAD_IDLE_TIME,
+                                                         TimeUnit.SECONDS,
+                                                         new LinkedBlockingQueue<Runnable>(maxWorkers),
+                                                         new CommandThreadFactory(threadNamePrefix),
+                                                         new ThreadPoolExecutor.AbortPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Max number of threads for thread executors.
+   *
+   * @param maxFactor the max factor
+   * @return the max threads
+   */
+  protected static int maxThreads(int maxFactor) {
+    int maxThreads = Math.round(Runtime.getRuntime().availableProcessors() * 1f * maxFactor);
+    maxThreads = maxThreads > 0 ? maxThreads : 1;
+    return maxThreads < MIN_MAX_THREADS ? MIN_MAX_THREADS : maxThreads;
+  }
+
+  /**
+   * Create executor running each command on a new virtual thread. Virtual threads are available since Java 21
+   * and we create the executor via reflection to run also on previous versions.
+   *
+   * @return the executor service or <code>null</code> if virtual threads not supported by the JVM
+   */
+  protected static ExecutorService createVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (Exception | LinkageError e) {
+      LOG.warn("Virtual threads not supported by Java " + System.getProperty("java.version") + ", call handlers will use "
+          + EXECUTOR_POOL + " of threads: " + e);
+      return null;
+    }
   }
 
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.UserCallProxy;
+
+/**
+ * A batch of events sent from a node to another one (or to all other nodes) in {@link ClusterEventBus}.
+ */
+public class EventsBatch implements Externalizable {
+
+  /** The Constant ALL_NODES destination. */
+  public static final String  ALL_NODES = "*";
+
+  /** The origin node id. */
+  private String              origin;
+
+  /** The destination node id, or {@link #ALL_NODES}. */
+  private String              destination;
+
+  /** The events. */
+  private List<UserCallProxy> events;
+
+  /**
+   * Instantiates a new events batch (for serialization).
+   */
+  public EventsBatch() {
+    this.events = new ArrayList<>();
+  }
+
+  /**
+   * Instantiates a new events batch.
+   *
+   * @param origin the origin node id
+   * @param destination the destination node id
+   */
+  EventsBatch(String origin, String destination) {
+    this();
+    this.origin = origin;
+    this.destination = destination;
+  }
+
+  /**
+   * Gets the origin node id.
+   *
+   * @return the origin
+   */
+  public String getOrigin() {
+    return origin;
+  }
+
+  /**
+   * Gets the destination node id.
+   *
+   * @return the destination
+   */
+  public String getDestination() {
+    return destination;
+  }
+
+  /**
+   * Checks if it's a batch to given node.
+   *
+   * @param nodeId the node id
+   * @return true, if the batch should be delivered to the node
+   */
+  public boolean isFor(String nodeId) {
+    return !nodeId.equals(origin) && (ALL_NODES.equals(destination) || nodeId.equals(destination));
+  }
+
+  /**
+   * Gets the events.
+   *
+   * @return the events
+   */
+  public List<UserCallProxy> getEvents() {
+    return events;
+  }
+
+  /**
+   * Adds the event.
+   *
+   * @param event the event
+   */
+  void add(UserCallProxy event) {
+    events.add(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return super.toString() + "[" + origin + " > " + destination + ", " + events.size() + "]";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    EventsCodec.writeVersion(out);
+    EventsCodec.writeString(out, origin);
+    EventsCodec.writeString(out, destination);
+    EventsCodec.writeVarInt(out, events.size());
+    for (UserCallProxy event : events) {
+      event.writeData(out);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+    EventsCodec.readVersion(in);
+    this.origin = EventsCodec.readString(in);
+    this.destination = EventsCodec.readString(in);
+    int size = EventsCodec.readSize(in);
+    this.events = new ArrayList<>(Math.min(size, EventsCodec.MAX_LIST_CAPACITY));
+    for (int i = 0; i < size; i++) {
+      UserCallProxy event = new UserCallProxy();
+      event.readData(in);
+      events.add(event);
+    }
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.exoplatform.webconferencing.CallState;
+import org.exoplatform.webconferencing.GuestInfo;
+import org.exoplatform.webconferencing.UserState;
+import org.exoplatform.webconferencing.WebConferencingService;
+
+/**
+ * Compact binary encoding of call events exchanged between cluster nodes. Each encoded object starts with a
+ * format version byte, strings of the small closed vocabularies (event types, owner types, call states and
+ * well known provider types) are written as their index in the dictionary, other strings and all lengths
+ * are written with varints.<br>
+ * The dictionary is a part of the format: any change of it, including a new word appended to its end,
+ * requires a new {@link #FORMAT_VERSION}. Nodes running older code cannot decode codes of words they don't
+ * know, and the version check lets them reject such events explicitly.
+ */
+final class EventsCodec {
+
+  /** The format version. */
+  static final byte                       FORMAT_VERSION    = 1;
+
+  /** The code of null string. */
+  static final int                        NULL_CODE         = 0;
+
+  /** The code of a string written literally. */
+  static final int                        LITERAL_CODE      = 1;
+
+  /** The max length in bytes of a string written literally, the same as of <code>writeUTF()</code>. */
+  static final int                        MAX_STRING_LENGTH = 65535;
+
+  /** The max initial capacity of lists read, bigger lists will grow while actually read. */
+  static final int                        MAX_LIST_CAPACITY = 1024;
+
+  /** The strings dictionary. */
+  static final String[]                   DICTIONARY        = { CometdWebConferencingService.EventProxy.INIT,
+      CometdWebConferencingService.EventProxy.CLOSE, CometdWebConferencingService.EVENT_CALL_JOINED,
+      CometdWebConferencingService.EVENT_CALL_LEAVED, CometdWebConferencingService.EVENT_CALL_STATE,
+      CometdWebConferencingService.EVENT_CALL_PARTICIPANTS, WebConferencingService.OWNER_TYPE_USER,
+      WebConferencingService.OWNER_TYPE_SPACE, WebConferencingService.OWNER_TYPE_SPACEEVENT,
+      WebConferencingService.OWNER_TYPE_CHATROOM, GuestInfo.TYPE_NAME, CallState.STARTED, CallState.STOPPED,
+      CallState.PAUSED, UserState.JOINED, UserState.LEAVED, "webrtc", "jitsi" };
+
+  /** The dictionary codes by words. */
+  private static final Map<String, Integer> CODES;
+
+  static {
+    Map<String, Integer> codes = new HashMap<>();
+    for (int i = 0; i < DICTIONARY.length; i++) {
+      codes.put(DICTIONARY[i], LITERAL_CODE + 1 + i);
+    }
+    CODES = Collections.unmodifiableMap(codes);
+  }
+
+  /**
+   * Instantiates a new events codec.
+   */
+  private EventsCodec() {
+  }
+
+  /**
+   * Write format version.
+   *
+   * @param out the out
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  static void writeVersion(ObjectOutput out) throws IOException {
+    out.writeByte(FORMAT_VERSION);
+  }
+
+  /**
+   * Read format version and check it is supported.
+   *
+   * @param in the in
+   * @throws IOException if the version not supported
+   */
+  static void readVersion(ObjectInput in) throws IOException {
+    byte version = in.readByte();
+    if (version != FORMAT_VERSION) {
+      throw new InvalidObjectException("Unsupported events format version: " + version);
+    }
+  }
+
+  /**
+   * Write unsigned varint.
+   *
+   * @param out the out
+   * @param value the value, not negative
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  static void writeVarInt(ObjectOutput out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  /**
+   * Read unsigned varint.
+   *
+   * @param in the in
+   * @return the value
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  static int readVarInt(ObjectInput in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new InvalidObjectException("Malformed varint");
+  }
+
+  /**
+   * Read size (of a string or a list): an unsigned varint that cannot be negative.
+   *
+   * @param in the in
+   * @return the size
+   * @throws IOException if the size is negative or error reading it
+   */
+  static int readSize(ObjectInput in) throws IOException {
+    int size = readVarInt(in);
+    if (size < 0) {
+      throw new InvalidObjectException("Negative size: " + size);
+    }
+    return size;
+  }
+
+  /**
+   * Write string: its dictionary code or literally as UTF-8 bytes, up to {@link #MAX_STRING_LENGTH} bytes.
+   *
+   * @param out the out
+   * @param value the value, can be <code>null</code>
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  static void writeString(ObjectOutput out, String value) throws IOException {
+    if (value == null) {
+      writeVarInt(out, NULL_CODE);
+    } else {
+      Integer code = CODES.get(value);
+      if (code != null) {
+        writeVarInt(out, code);
+      } else {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+          throw new UTFDataFormatException("String too long: " + bytes.length + " bytes");
+        }
+        writeVarInt(out, LITERAL_CODE);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+      }
+    }
+  }
+
+  /**
+   * Read string.
+   *
+   * @param in the in
+   * @return the string, can be <code>null</code>
+   * @throws IOException if the string code or length is wrong or error reading it
+   */
+  static String readString(ObjectInput in) throws IOException {
+    int code = readVarInt(in);
+    if (code == NULL_CODE) {
+      return null;
+    } else if (code == LITERAL_CODE) {
+      int length = readSize(in);
+      if (length > MAX_STRING_LENGTH) {
+        throw new InvalidObjectException("String too long: " + length + " bytes");
+      }
+      byte[] bytes = new byte[length];
+      in.readFully(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    } else {
+      int index = code - LITERAL_CODE - 1;
+      if (index < DICTIONARY.length) {
+        return DICTIONARY[index];
+      }
+      throw new InvalidObjectException("Unknown dictionary code: " + code);
+    }
+  }
+
+  /**
+   * Write strings.
+   *
+   * @param out the out
+   * @param values the values
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  static void writeStrings(ObjectOutput out, List<String> values) throws IOException {
+    writeVarInt(out, values.size());
+    for (String value : values) {
+      writeString(out, value);
+    }
+  }
+
+  /**
+   * Read strings.
+   *
+   * @param in the in
+   * @return the list
+   * @throws IOException if the list size is wrong or error reading it
+   */
+  static List<String> readStrings(ObjectInput in) throws IOException {
+    int size = readSize(in);
+    List<String> values = new ArrayList<>(Math.min(size, MAX_LIST_CAPACITY));
+    for (int i = 0; i < size; i++) {
+      values.add(readString(in));
+    }
+    return values;
+  }
+}
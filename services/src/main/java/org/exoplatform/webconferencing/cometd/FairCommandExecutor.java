@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
+
+/**
+ * Executes commands of clients fairly: each client (e.g. CometD session) has its own bounded queue of
+ * commands, and workers take commands from the client queues in round-robin. A client sending too many
+ * commands cannot starve others, and when its queue is full the command is rejected immediately instead of
+ * blocking the caller.<br>
+ * Workers run on given executor, no more than given number of them at the same time. The executor should not
+ * run a worker in the caller thread when it is busy (like caller-runs policy does), but reject it with
+ * {@link RejectedExecutionException}: then the command is refused if no other worker will run it.
+ */
+public class FairCommandExecutor {
+
+  /** The Constant LOG. */
+  private static final Log                     LOG      = ExoLogger.getLogger(FairCommandExecutor.class);
+
+  /** The executor of workers. */
+  protected final Executor                     executor;
+
+  /** The max number of workers. */
+  protected final int                          maxWorkers;
+
+  /** The max size of a client queue. */
+  protected final int                          queueSize;
+
+  /** The client queues, a queue exists while it has commands. */
+  protected final Map<String, Deque<Runnable>> queues   = new HashMap<>();
+
+  /** The clients having commands, in order of their turn. */
+  protected final Deque<String>                ready    = new ArrayDeque<>();
+
+  /** The rejected commands count. */
+  protected final LongAdder                    rejected = new LongAdder();
+
+  /** The running workers number. */
+  protected int                                workers;
+
+  /**
+   * Instantiates a new fair command executor.
+   *
+   * @param executor the executor of workers
+   * @param maxWorkers the max number of workers
+   * @param queueSize the max size of a client queue
+   */
+  public FairCommandExecutor(Executor executor, int maxWorkers, int queueSize) {
+    this.executor = executor;
+    this.maxWorkers = maxWorkers;
+    this.queueSize = queueSize;
+  }
+
+  /**
+   * Submit the command of a client.
+   *
+   * @param clientId the client id
+   * @param command the command
+   * @return <code>true</code> if command accepted, <code>false</code> if the client queue is full or the
+   *         command cannot be executed
+   */
+  public boolean submit(String clientId, Runnable command) {
+    boolean startWorker = false;
+    synchronized (this) {
+      Deque<Runnable> queue = queues.get(clientId);
+      if (queue == null) {
+        queue = new ArrayDeque<>();
+        queues.put(clientId, queue);
+        ready.add(clientId);
+      } else if (queue.size() >= queueSize) {
+        rejected.increment();
+        return false;
+      }
+      queue.add(command);
+      if (workers < maxWorkers) {
+        workers++;
+        startWorker = true;
+      }
+    }
+    if (startWorker) {
+      try {
+        executor.execute(this::work);
+      } catch (RejectedExecutionException e) {
+        LOG.warn("Cannot start commands worker: " + e.getMessage());
+        synchronized (this) {
+          workers--;
+          if (workers == 0) {
+            // No worker will run the command, take it back
+            Deque<Runnable> queue = queues.get(clientId);
+            if (queue != null && queue.removeLastOccurrence(command)) {
+              if (queue.isEmpty()) {
+                queues.remove(clientId);
+                ready.remove(clientId);
+              }
+              rejected.increment();
+              return false;
+            }
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the number of commands waiting in client queues.
+   *
+   * @return the queued commands
+   */
+  public synchronized int getQueuedCount() {
+    int count = 0;
+    for (Deque<Runnable> queue : queues.values()) {
+      count += queue.size();
+    }
+    return count;
+  }
+
+  /**
+   * Gets the rejected commands count.
+   *
+   * @return the rejected count
+   */
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  /**
+   * Run commands of clients in turn until all queues empty.
+   */
+  protected void work() {
+    while (true) {
+      Runnable command;
+      synchronized (this) {
+        String clientId = ready.poll();
+        if (clientId == null) {
+          workers--;
+          return;
+        }
+        Deque<Runnable> queue = queues.get(clientId);
+        command = queue.poll();
+        if (queue.isEmpty()) {
+          queues.remove(clientId);
+        } else {
+          // Client goes to the end of the turn
+          ready.add(clientId);
+        }
+      }
+      try {
+        command.run();
+      } catch (Throwable e) {
+        LOG.error("Error running client command", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.exoplatform.container.xml.InitParams;
+
+/**
+ * In-JVM {@link ClusterEventBus}: batches are delivered to other bus instances of the same JVM. It is used
+ * when not running in cluster (where this node has no other nodes) and for tests of several nodes.
+ */
+public class LoopbackClusterEventBus extends BatchingClusterEventBus {
+
+  /** The started buses by their node ids. */
+  protected static final Map<String, LoopbackClusterEventBus> NODES = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new loopback cluster event bus.
+   *
+   * @param params the params
+   */
+  public LoopbackClusterEventBus(InitParams params) {
+    super(params);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void start() {
+    super.start();
+    NODES.put(nodeId, this);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void stop() {
+    NODES.remove(nodeId, this);
+    super.stop();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void transmit(EventsBatch batch) {
+    if (EventsBatch.ALL_NODES.equals(batch.getDestination())) {
+      for (LoopbackClusterEventBus node : NODES.values()) {
+        node.receive(batch);
+      }
+    } else {
+      LoopbackClusterEventBus node = NODES.get(batch.getDestination());
+      if (node != null) {
+        node.receive(batch);
+      }
+    }
+  }
+}
@@ -34,6 +34,7 @@ import jakarta.persistence.TypedQuery;
 import org.exoplatform.commons.api.persistence.ExoTransactional;
 import org.exoplatform.commons.persistence.impl.GenericDAOJPAImpl;
 import org.exoplatform.webconferencing.domain.CallEntity;
+import org.exoplatform.webconferencing.domain.UserCallState;
 
 /**
  * Created by The eXo Platform SAS.
@@ -98,6 +99,47 @@ public class CallDAO extends GenericDAOJPAImpl<CallEntity, String> {
     }
   }
   
+  /**
+   * Find ID of a group call by owner id. Only the call ID will be read from the storage.
+   *
+   * @param ownerId the owner id
+   * @return the call ID or <code>null</code> if no call found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public String findGroupCallIdByOwnerId(String ownerId) throws PersistenceException,
+                                                         IllegalStateException,
+                                                         IllegalArgumentException {
+    TypedQuery<String> query = getEntityManager().createNamedQuery("WebConfCall.findGroupCallIdByOwnerId", String.class)
+                                                 .setParameter("ownerId", ownerId)
+                                                 .setMaxResults(1);
+    List<String> ids = query.getResultList();
+    return ids.isEmpty() ? null : ids.get(0);
+  }
+
+  /**
+   * Find ID of a group call by owner type and id. If several calls found, the ID of last used one will be
+   * returned. Only the call ID will be read from the storage.
+   *
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @return the call ID or <code>null</code> if no call found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public String findGroupCallIdByOwnerTypeId(String ownerId, String ownerType) throws PersistenceException,
+                                                                               IllegalStateException,
+                                                                               IllegalArgumentException {
+    TypedQuery<String> query = getEntityManager().createNamedQuery("WebConfCall.findGroupCallIdByOwnerTypeId", String.class)
+                                                 .setParameter("ownerId", ownerId)
+                                                 .setParameter("ownerType", ownerType)
+                                                 .setMaxResults(1);
+    List<String> ids = query.getResultList();
+    return ids.isEmpty() ? null : ids.get(0);
+  }
+
   /**
    * Find group calls by owner type and id.
    *
@@ -144,6 +186,29 @@ public class CallDAO extends GenericDAOJPAImpl<CallEntity, String> {
     }
   }
 
+  /**
+   * Find user calls states. Only call ID, state, owner and settings will be read from the storage.
+   *
+   * @param userId the user id
+   * @return the list, it will be empty if no calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<UserCallState> findUserCallStates(String userId) throws PersistenceException,
+                                                               IllegalStateException,
+                                                               IllegalArgumentException {
+    TypedQuery<UserCallState> query = getEntityManager().createNamedQuery("WebConfCall.findUserCallStates",
+                                                                          UserCallState.class)
+                                                        .setParameter("userId", userId);
+
+    try {
+      return query.getResultList();
+    } catch (NoResultException e) {
+      return Collections.emptyList();
+    }
+  }
+
   /**
    * Delete all users calls older of {@value #USER_CALL_DAYS_LIVETIME} days.
    *
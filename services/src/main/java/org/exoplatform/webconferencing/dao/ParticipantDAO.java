@@ -18,9 +18,12 @@
  */
 package org.exoplatform.webconferencing.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
@@ -28,6 +31,8 @@ import jakarta.persistence.TypedQuery;
 
 import org.exoplatform.commons.api.persistence.ExoTransactional;
 import org.exoplatform.commons.persistence.impl.GenericDAOJPAImpl;
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
 import org.exoplatform.webconferencing.domain.ParticipantEntity;
 import org.exoplatform.webconferencing.domain.ParticipantId;
 
@@ -39,12 +44,43 @@ import org.exoplatform.webconferencing.domain.ParticipantId;
  */
 public class ParticipantDAO extends GenericDAOJPAImpl<ParticipantEntity, ParticipantId> {
 
+  /** The max number of IDs in a single IN clause of bulk queries (should be less of 1000 for Oracle). */
+  public static final int     IDS_BATCH_SIZE  = 500;
+
+  /**
+   * The JPA setting of JDBC batch size, Hibernate will batch inserts of {@link #createAll(List)} only when
+   * it is greater than one. In eXo it's set by <code>exo.jpa.hibernate.jdbc.batch_size</code> property.
+   */
+  public static final String  JDBC_BATCH_SIZE = "hibernate.jdbc.batch_size";
+
+  /** The Constant LOG. */
+  protected static final Log  LOG             = ExoLogger.getLogger(ParticipantDAO.class);
+
+  /** The JDBC batch size check done flag. */
+  private volatile boolean    batchSizeChecked;
+
   /**
    * Instantiates a new participant DAO.
    */
   public ParticipantDAO() {
   }
 
+  /**
+   * Creates all given participants in a transaction of the caller. Inserts will be sent to the database in
+   * JDBC batches if {@link #JDBC_BATCH_SIZE} configured, otherwise one by one - this will be logged once as
+   * a warning.
+   *
+   * @param entities the entities
+   */
+  @Override
+  public void createAll(List<ParticipantEntity> entities) {
+    checkBatchSize();
+    EntityManager em = getEntityManager();
+    for (ParticipantEntity entity : entities) {
+      em.persist(entity);
+    }
+  }
+
   /**
    * Find call participants.
    *
@@ -67,6 +103,52 @@ public class ParticipantDAO extends GenericDAOJPAImpl<ParticipantEntity, Partici
     }
   }
 
+  /**
+   * Find call participant IDs.
+   *
+   * @param callId the call id
+   * @return the list of IDs
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<String> findCallPartIds(String callId) throws PersistenceException,
+                                                     IllegalStateException,
+                                                     IllegalArgumentException {
+    TypedQuery<String> query = getEntityManager().createNamedQuery("WebConfCall.findCallPartIds", String.class)
+                                                 .setParameter("callId", callId);
+    try {
+      return query.getResultList();
+    } catch (NoResultException e) {
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Delete given participants of the call. Deletion is done by bulk queries, each one with up to
+   * {@link #IDS_BATCH_SIZE} IDs.
+   *
+   * @param callId the call id
+   * @param partIds the participant IDs
+   * @return the number of deleted participants
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int deleteCallParts(String callId, Collection<String> partIds) throws PersistenceException,
+                                                                        IllegalStateException,
+                                                                        IllegalArgumentException {
+    int deleted = 0;
+    List<String> ids = new ArrayList<>(partIds);
+    for (int i = 0; i < ids.size(); i += IDS_BATCH_SIZE) {
+      deleted += getEntityManager().createNamedQuery("WebConfCall.deleteCallPartsByIds")
+                                   .setParameter("callId", callId)
+                                   .setParameter("ids", ids.subList(i, Math.min(i + IDS_BATCH_SIZE, ids.size())))
+                                   .executeUpdate();
+    }
+    return deleted;
+  }
+
   /**
    * Delete call participants.
    *
@@ -96,6 +178,29 @@ public class ParticipantDAO extends GenericDAOJPAImpl<ParticipantEntity, Partici
     return query.executeUpdate();
   }
 
+  /**
+   * Check JDBC batch size of the persistence unit, warn once if the inserts will not be batched.
+   */
+  protected void checkBatchSize() {
+    if (!batchSizeChecked) {
+      batchSizeChecked = true;
+      Object value = getEntityManager().getEntityManagerFactory().getProperties().get(JDBC_BATCH_SIZE);
+      int batchSize;
+      try {
+        batchSize = value != null ? Integer.parseInt(value.toString().trim()) : 0;
+      } catch (NumberFormatException e) {
+        batchSize = 0;
+      }
+      if (batchSize <= 1) {
+        LOG.warn("JDBC batching not enabled (" + JDBC_BATCH_SIZE + "=" + value
+            + "), call participants will be inserted one by one. Set exo.jpa." + JDBC_BATCH_SIZE
+            + " property (e.g. to 50) to batch the inserts.");
+      } else if (LOG.isDebugEnabled()) {
+        LOG.debug("JDBC batch size for call participants inserts: " + batchSize);
+      }
+    }
+  }
+
   /**
    * Clear the storage.
    */
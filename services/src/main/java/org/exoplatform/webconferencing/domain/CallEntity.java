@@ -47,8 +47,16 @@ import org.exoplatform.webconferencing.WebConferencingService;
                 query = "SELECT c FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType != '" + OWNER_TYPE_SPACEEVENT + "' AND c.ownerId = :ownerId"),
     @NamedQuery(name = "WebConfCall.findGroupCallByOwnerTypeId",
                 query = "SELECT c FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType = :ownerType AND c.ownerId = :ownerId ORDER BY c.lastDate"), // TODO order by startDate
+    @NamedQuery(name = "WebConfCall.findGroupCallIdByOwnerId",
+                query = "SELECT c.id FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType != '" + OWNER_TYPE_SPACEEVENT + "' AND c.ownerId = :ownerId"),
+    @NamedQuery(name = "WebConfCall.findGroupCallIdByOwnerTypeId",
+                query = "SELECT c.id FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType = :ownerType AND c.ownerId = :ownerId ORDER BY c.lastDate DESC"),
     @NamedQuery(name = "WebConfCall.findUserGroupCalls",
                 query = "SELECT c FROM WebConfCall c, WebConfParticipant p WHERE c.id = p.callId AND p.id = :userId ORDER BY c.lastDate"),
+    @NamedQuery(name = "WebConfCall.findUserCallStates",
+                query = "SELECT NEW org.exoplatform.webconferencing.domain.UserCallState(c.id, c.state, c.ownerType, c.ownerId,"
+                    + " c.settings) FROM WebConfCall c, WebConfParticipant p"
+                    + " WHERE c.id = p.callId AND p.id = :userId ORDER BY c.lastDate"),
     @NamedQuery(name = "WebConfCall.deleteOwnerOlderCalls",
                 query = "DELETE FROM WebConfCall WHERE ownerType = :ownerType AND lastDate <= :expiredDate"),
     @NamedQuery(name = "WebConfCall.findGroupCallsByState",
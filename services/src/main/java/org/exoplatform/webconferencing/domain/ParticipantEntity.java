@@ -41,7 +41,10 @@ import org.exoplatform.commons.api.persistence.ExoEntity;
 @NamedQueries({
     @NamedQuery(name = "WebConfCall.findCallParts",
                 query = "SELECT p FROM WebConfParticipant p WHERE p.callId = :callId ORDER BY p.state, p.type"),
-    @NamedQuery(name = "WebConfCall.deleteCallParts", query = "DELETE FROM WebConfParticipant WHERE callId = :callId") })
+    @NamedQuery(name = "WebConfCall.findCallPartIds", query = "SELECT p.id FROM WebConfParticipant p WHERE p.callId = :callId"),
+    @NamedQuery(name = "WebConfCall.deleteCallParts", query = "DELETE FROM WebConfParticipant WHERE callId = :callId"),
+    @NamedQuery(name = "WebConfCall.deleteCallPartsByIds",
+                query = "DELETE FROM WebConfParticipant p WHERE p.callId = :callId AND p.id IN :ids") })
 public class ParticipantEntity {
 
   /** The id. */
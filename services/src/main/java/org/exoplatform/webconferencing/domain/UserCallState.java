@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.domain;
+
+import org.exoplatform.webconferencing.CallState;
+
+/**
+ * State of an user call read from the storage by a projection query, with the call owner and settings to
+ * let check the call can be read without loading its entity.
+ */
+public class UserCallState extends CallState {
+
+  /** The owner type. */
+  protected final String ownerType;
+
+  /** The owner id. */
+  protected final String ownerId;
+
+  /** The settings. */
+  protected final String settings;
+
+  /**
+   * Instantiates a new user call state.
+   *
+   * @param id the id
+   * @param state the state
+   * @param ownerType the owner type
+   * @param ownerId the owner id
+   * @param settings the settings
+   */
+  public UserCallState(String id, String state, String ownerType, String ownerId, String settings) {
+    super(id, state);
+    this.ownerType = ownerType;
+    this.ownerId = ownerId;
+    this.settings = settings;
+  }
+
+  /**
+   * Gets the owner type.
+   *
+   * @return the owner type
+   */
+  public String getOwnerType() {
+    return ownerType;
+  }
+
+  /**
+   * Gets the owner id.
+   *
+   * @return the owner id
+   */
+  public String getOwnerId() {
+    return ownerId;
+  }
+
+  /**
+   * Gets the settings.
+   *
+   * @return the settings
+   */
+  public String getSettings() {
+    return settings;
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.listeners;
+
+import org.exoplatform.commons.utils.CommonsUtils;
+import org.exoplatform.social.core.space.SpaceListenerPlugin;
+import org.exoplatform.social.core.space.model.Space;
+import org.exoplatform.social.core.space.spi.SpaceLifeCycleEvent;
+import org.exoplatform.webconferencing.WebConferencingService;
+
+/**
+ * Invalidates cached space members (and active calls of the space) in {@link WebConferencingService} when
+ * users join or leave a space, or the space itself created, renamed or removed.<br>
+ * Web Conferencing service is obtained lazily, as it depends on Space Service itself.
+ */
+public class SpaceMembersCacheListener extends SpaceListenerPlugin {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void joined(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void left(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceCreated(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceRemoved(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceRenamed(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * Invalidate cached members of the event space.
+   *
+   * @param event the event
+   */
+  protected void invalidate(SpaceLifeCycleEvent event) {
+    Space space = event.getSpace();
+    if (space != null) {
+      WebConferencingService webConferencing = CommonsUtils.getService(WebConferencingService.class);
+      if (webConferencing != null) {
+        webConferencing.invalidateSpaceMembers(space.getPrettyName());
+      }
+    }
+  }
+}
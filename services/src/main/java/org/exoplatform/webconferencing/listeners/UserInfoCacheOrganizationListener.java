@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.listeners;
+
+import org.exoplatform.commons.utils.CommonsUtils;
+import org.exoplatform.services.organization.User;
+import org.exoplatform.services.organization.UserEventListener;
+import org.exoplatform.webconferencing.WebConferencingService;
+
+/**
+ * Invalidates cached user info in {@link WebConferencingService} when an user saved, deleted, enabled or
+ * disabled in Organization Service.<br>
+ * Web Conferencing service is obtained lazily, as it depends on Organization Service itself.
+ */
+public class UserInfoCacheOrganizationListener extends UserEventListener {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void postSave(User user, boolean isNew) throws Exception {
+    invalidate(user);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void postDelete(User user) throws Exception {
+    invalidate(user);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void postSetEnabled(User user) throws Exception {
+    invalidate(user);
+  }
+
+  /**
+   * Invalidate cached user info.
+   *
+   * @param user the user
+   */
+  protected void invalidate(User user) {
+    WebConferencingService webConferencing = CommonsUtils.getService(WebConferencingService.class);
+    if (webConferencing != null) {
+      webConferencing.invalidateUserInfo(user.getUserName());
+    }
+  }
+}
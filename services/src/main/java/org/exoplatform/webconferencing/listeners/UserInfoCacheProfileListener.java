@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.listeners;
+
+import org.exoplatform.commons.utils.CommonsUtils;
+import org.exoplatform.social.core.identity.model.Identity;
+import org.exoplatform.social.core.identity.model.Profile;
+import org.exoplatform.social.core.identity.provider.OrganizationIdentityProvider;
+import org.exoplatform.social.core.profile.ProfileLifeCycleEvent;
+import org.exoplatform.social.core.profile.ProfileListenerPlugin;
+import org.exoplatform.webconferencing.WebConferencingService;
+
+/**
+ * Invalidates cached user info in {@link WebConferencingService} when the user Social profile (names,
+ * avatar or IM accounts) updated.<br>
+ * Web Conferencing service is obtained lazily, as it depends on Social Identity Manager itself.
+ */
+public class UserInfoCacheProfileListener extends ProfileListenerPlugin {
+
+  /**
+   * {@inheritDoc}
+   */
+  public void avatarUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void bannerUpdated(ProfileLifeCycleEvent event) {
+    // Banner isn't a part of user info
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void basicInfoUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void contactSectionUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void experienceSectionUpdated(ProfileLifeCycleEvent event) {
+    // Experience isn't a part of user info
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void headerSectionUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void createProfile(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void aboutMeUpdated(ProfileLifeCycleEvent event) {
+    // About me isn't a part of user info
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void technicalUpdated(ProfileLifeCycleEvent event) {
+    // Technical data isn't a part of user info
+  }
+
+  /**
+   * Invalidate cached info of the profile user.
+   *
+   * @param event the event
+   */
+  protected void invalidate(ProfileLifeCycleEvent event) {
+    Profile profile = event.getProfile();
+    Identity identity = profile != null ? profile.getIdentity() : null;
+    if (identity != null && OrganizationIdentityProvider.NAME.equals(identity.getProviderId())) {
+      WebConferencingService webConferencing = CommonsUtils.getService(WebConferencingService.class);
+      if (webConferencing != null) {
+        webConferencing.invalidateUserInfo(identity.getRemoteId());
+      }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Monotonic counter, lock-free. A counter can also read its value from given supplier.
+ */
+public class Counter {
+
+  /** The value. */
+  private final LongAdder    value = new LongAdder();
+
+  /** The supplier of the value, if <code>null</code> the counter keeps its own value. */
+  private final LongSupplier supplier;
+
+  /**
+   * Instantiates a new counter keeping its value.
+   */
+  public Counter() {
+    this(null);
+  }
+
+  /**
+   * Instantiates a new counter reading its value from the supplier.
+   *
+   * @param supplier the supplier
+   */
+  public Counter(LongSupplier supplier) {
+    this.supplier = supplier;
+  }
+
+  /**
+   * Increment the counter.
+   */
+  public void inc() {
+    value.increment();
+  }
+
+  /**
+   * Add to the counter.
+   *
+   * @param amount the amount, not negative
+   */
+  public void add(long amount) {
+    value.add(amount);
+  }
+
+  /**
+   * Gets the counter value.
+   *
+   * @return the value
+   */
+  public long get() {
+    return supplier != null ? supplier.getAsLong() : value.sum();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Gauge of a value that goes up and down, lock-free. A gauge also tracks the peak of its value since the last
+ * reset of the peak. A gauge can read its value from given supplier instead (then it has no peak).
+ */
+public class Gauge {
+
+  /** The value. */
+  private final LongAdder       value = new LongAdder();
+
+  /** The peak value. */
+  private final LongAccumulator peak  = new LongAccumulator(Math::max, 0);
+
+  /** The supplier of the value, if <code>null</code> the gauge keeps its own value. */
+  private final LongSupplier    supplier;
+
+  /**
+   * Instantiates a new gauge keeping its value.
+   */
+  public Gauge() {
+    this(null);
+  }
+
+  /**
+   * Instantiates a new gauge reading its value from the supplier.
+   *
+   * @param supplier the supplier
+   */
+  public Gauge(LongSupplier supplier) {
+    this.supplier = supplier;
+  }
+
+  /**
+   * Increment the gauge.
+   */
+  public void inc() {
+    value.increment();
+    peak.accumulate(value.sum());
+  }
+
+  /**
+   * Decrement the gauge.
+   */
+  public void dec() {
+    value.decrement();
+  }
+
+  /**
+   * Add to the gauge.
+   *
+   * @param amount the amount, can be negative
+   */
+  public void add(long amount) {
+    value.add(amount);
+    if (amount > 0) {
+      peak.accumulate(value.sum());
+    }
+  }
+
+  /**
+   * Gets the gauge value.
+   *
+   * @return the value
+   */
+  public long get() {
+    return supplier != null ? supplier.getAsLong() : value.sum();
+  }
+
+  /**
+   * Gets the peak value since the last reset.
+   *
+   * @return the peak
+   */
+  public long getPeak() {
+    return supplier != null ? supplier.getAsLong() : peak.get();
+  }
+
+  /**
+   * Reset the peak to the current value.
+   */
+  public void resetPeak() {
+    peak.reset();
+    peak.accumulate(value.sum());
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies in microseconds with log-linear buckets (in HDR histogram manner): each power
+ * of two range is split on {@value #SUB_BUCKETS} sub-buckets, thus a recorded value is kept with precision about
+ * 12% in constant memory, and recording costs a few atomic increments.
+ */
+public class LatencyHistogram {
+
+  /** The sub-buckets bits. */
+  static final int                SUB_BITS    = 3;
+
+  /** The sub-buckets per power of two. */
+  static final int                SUB_BUCKETS = 1 << SUB_BITS;
+
+  /** The buckets count: values below 2 * {@link #SUB_BUCKETS} are exact, then all powers of two up to 2^63. */
+  static final int                BUCKETS     = 2 * SUB_BUCKETS + (63 - SUB_BITS) * SUB_BUCKETS;
+
+  /** The counts of values by bucket. */
+  private final AtomicLongArray   counts      = new AtomicLongArray(BUCKETS);
+
+  /** The total count. */
+  private final LongAdder         count       = new LongAdder();
+
+  /** The sum of values. */
+  private final LongAdder         sum         = new LongAdder();
+
+  /** The max value. */
+  private final LongAccumulator   max         = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Record a value.
+   *
+   * @param micros the value in microseconds, negative values will be recorded as zero
+   */
+  public void record(long micros) {
+    long value = micros > 0 ? micros : 0;
+    counts.incrementAndGet(bucket(value));
+    count.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Gets the count of recorded values.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the mean value.
+   *
+   * @return the mean in microseconds
+   */
+  public long getMean() {
+    long c = count.sum();
+    return c > 0 ? sum.sum() / c : 0;
+  }
+
+  /**
+   * Gets the sum of values.
+   *
+   * @return the sum in microseconds
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * Gets the max value.
+   *
+   * @return the max in microseconds
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Gets the value at given percentile (upper bound of its bucket, but not above the max).
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the value in microseconds
+   */
+  public long getPercentile(double percentile) {
+    long total = 0;
+    long[] snapshot = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total > 0) {
+      long rank = (long) Math.ceil(total * Math.min(100d, Math.max(0d, percentile)) / 100d);
+      rank = rank > 0 ? rank : 1;
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += snapshot[i];
+        if (seen >= rank) {
+          return Math.min(upperBound(i), getMax());
+        }
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Reset all recorded values.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    count.reset();
+    sum.reset();
+    max.reset();
+  }
+
+  /**
+   * Find a bucket of given value.
+   *
+   * @param value the value, not negative
+   * @return the bucket index
+   */
+  static int bucket(long value) {
+    if (value < 2 * SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value); // >= SUB_BITS + 1
+    int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+    return 2 * SUB_BUCKETS + (exponent - SUB_BITS - 1) * SUB_BUCKETS + sub;
+  }
+
+  /**
+   * Get max value of given bucket.
+   *
+   * @param bucket the bucket index
+   * @return the upper bound value
+   */
+  static long upperBound(int bucket) {
+    if (bucket < 2 * SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = (bucket - 2 * SUB_BUCKETS) / SUB_BUCKETS + SUB_BITS + 1;
+    int sub = (bucket - 2 * SUB_BUCKETS) % SUB_BUCKETS;
+    long step = 1L << (exponent - SUB_BITS);
+    long lower = (1L << exponent) + sub * step;
+    return lower + step - 1;
+  }
+}
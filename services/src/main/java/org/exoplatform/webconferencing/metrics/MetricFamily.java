@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A family of metrics of the same name and type, each member of the family identified by values of its labels
+ * (e.g. operation, provider and owner type). Members created on first use.
+ *
+ * @param <M> the metric type
+ */
+public class MetricFamily<M> {
+
+  /**
+   * The metric types.
+   */
+  public enum Type {
+
+    /** The counter. */
+    COUNTER,
+
+    /** The gauge. */
+    GAUGE,
+
+    /** The summary of latencies. */
+    SUMMARY;
+
+    /**
+     * Name in Prometheus text format.
+     *
+     * @return the name
+     */
+    public String prometheusName() {
+      return name().toLowerCase();
+    }
+  }
+
+  /** The name. */
+  private final String               name;
+
+  /** The help. */
+  private final String               help;
+
+  /** The type. */
+  private final Type                 type;
+
+  /** The label names. */
+  private final String[]             labelNames;
+
+  /** The metrics factory. */
+  private final Supplier<M>          factory;
+
+  /** If peaks of the metrics should be reported. */
+  private final boolean              peaks;
+
+  /** The metrics by label values. */
+  private final Map<List<String>, M> metrics = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new metric family.
+   *
+   * @param name the name
+   * @param help the help
+   * @param type the type
+   * @param factory the metrics factory
+   * @param peaks if peaks of the metrics should be reported
+   * @param labelNames the label names
+   */
+  MetricFamily(String name, String help, Type type, Supplier<M> factory, boolean peaks, String... labelNames) {
+    this.name = name;
+    this.help = help;
+    this.type = type;
+    this.factory = factory;
+    this.peaks = peaks;
+    this.labelNames = labelNames;
+  }
+
+  /**
+   * Gets the metric of given label values, it will be created if not yet exists. A <code>null</code> value will
+   * be used as empty string.
+   *
+   * @param labelValues the label values, in order of the family label names
+   * @return the metric
+   */
+  public M labels(String... labelValues) {
+    if (labelValues.length != labelNames.length) {
+      throw new IllegalArgumentException("Metric " + name + " requires " + labelNames.length + " labels but given "
+          + labelValues.length);
+    }
+    String[] values = labelValues;
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == null) {
+        if (values == labelValues) {
+          values = labelValues.clone();
+        }
+        values[i] = "";
+      }
+    }
+    List<String> key = Arrays.asList(values);
+    M metric = metrics.get(key);
+    if (metric == null) {
+      metric = metrics.computeIfAbsent(key, k -> factory.get());
+    }
+    return metric;
+  }
+
+  /**
+   * Gets the name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the help.
+   *
+   * @return the help
+   */
+  public String getHelp() {
+    return help;
+  }
+
+  /**
+   * Gets the type.
+   *
+   * @return the type
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Checks if peaks of the metrics should be reported.
+   *
+   * @return true, if peaks reported
+   */
+  public boolean isPeaks() {
+    return peaks;
+  }
+
+  /**
+   * Gets the label names.
+   *
+   * @return the label names
+   */
+  public String[] getLabelNames() {
+    return labelNames.clone();
+  }
+
+  /**
+   * Gets the metrics by their label values.
+   *
+   * @return the metrics
+   */
+  public Map<List<String>, M> getMetrics() {
+    return Collections.unmodifiableMap(metrics);
+  }
+}
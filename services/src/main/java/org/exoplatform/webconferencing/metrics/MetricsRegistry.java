@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.exoplatform.webconferencing.metrics.MetricFamily.Type;
+
+/**
+ * In-process registry of Web Conferencing metrics: counters, gauges and latency summaries, grouped in families by
+ * name and labels. Recording a metric is lock-free and doesn't build strings, the registry formats all metrics
+ * in Prometheus text format only when they are read.
+ */
+public class MetricsRegistry {
+
+  /** The Prometheus text format content type. */
+  public static final String                   PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  /** The quantiles of summaries. */
+  protected static final double[]              QUANTILES               = { 0.5, 0.9, 0.99 };
+
+  /** The metric families by name. */
+  protected final Map<String, MetricFamily<?>> families                = new ConcurrentHashMap<>();
+
+  /**
+   * Get or create a family of counters.
+   *
+   * @param name the name
+   * @param help the help
+   * @param labelNames the label names
+   * @return the counters family
+   */
+  public MetricFamily<Counter> counter(String name, String help, String... labelNames) {
+    return family(name, help, Type.COUNTER, false, labelNames, () -> new Counter());
+  }
+
+  /**
+   * Get or create a counter without labels reading its value from given supplier.
+   *
+   * @param name the name
+   * @param help the help
+   * @param supplier the value supplier
+   * @return the counter
+   */
+  public Counter counter(String name, String help, LongSupplier supplier) {
+    return family(name, help, Type.COUNTER, false, new String[0], () -> new Counter(supplier)).labels();
+  }
+
+  /**
+   * Get or create a family of gauges.
+   *
+   * @param name the name
+   * @param help the help
+   * @param labelNames the label names
+   * @return the gauges family
+   */
+  public MetricFamily<Gauge> gauge(String name, String help, String... labelNames) {
+    return family(name, help, Type.GAUGE, false, labelNames, () -> new Gauge());
+  }
+
+  /**
+   * Get or create a family of gauges reporting also their peaks (as <code>name_peak</code> gauges).
+   *
+   * @param name the name
+   * @param help the help
+   * @param labelNames the label names
+   * @return the gauges family
+   */
+  public MetricFamily<Gauge> peakGauge(String name, String help, String... labelNames) {
+    return family(name, help, Type.GAUGE, true, labelNames, () -> new Gauge());
+  }
+
+  /**
+   * Get or create a gauge without labels reading its value from given supplier.
+   *
+   * @param name the name
+   * @param help the help
+   * @param supplier the value supplier
+   * @return the gauge
+   */
+  public Gauge gauge(String name, String help, LongSupplier supplier) {
+    return family(name, help, Type.GAUGE, false, new String[0], () -> new Gauge(supplier)).labels();
+  }
+
+  /**
+   * Get or create a family of latency summaries (recorded in microseconds, reported in seconds).
+   *
+   * @param name the name
+   * @param help the help
+   * @param labelNames the label names
+   * @return the summaries family
+   */
+  public MetricFamily<LatencyHistogram> summary(String name, String help, String... labelNames) {
+    return family(name, help, Type.SUMMARY, false, labelNames, () -> new LatencyHistogram());
+  }
+
+  /**
+   * Reset peaks of all gauges to their current values.
+   */
+  public void resetPeaks() {
+    for (MetricFamily<?> family : families.values()) {
+      for (Object metric : family.getMetrics().values()) {
+        if (metric instanceof Gauge) {
+          ((Gauge) metric).resetPeak();
+        }
+      }
+    }
+  }
+
+  /**
+   * Remove a family of metrics.
+   *
+   * @param name the name
+   */
+  public void remove(String name) {
+    families.remove(name);
+  }
+
+  /**
+   * Gets the family.
+   *
+   * @param <M> the metric type
+   * @param name the name
+   * @param help the help
+   * @param type the type
+   * @param peaks if peaks should be reported
+   * @param labelNames the label names
+   * @param factory the factory
+   * @return the family
+   */
+  @SuppressWarnings("unchecked")
+  protected <M> MetricFamily<M> family(String name,
+                                       String help,
+                                       Type type,
+                                       boolean peaks,
+                                       String[] labelNames,
+                                       Supplier<M> factory) {
+    MetricFamily<?> family = families.computeIfAbsent(name, n -> new MetricFamily<>(n, help, type, factory, peaks, labelNames));
+    if (family.getType() != type || family.getLabelNames().length != labelNames.length) {
+      throw new IllegalArgumentException("Metric " + name + " already registered as " + family.getType().prometheusName()
+          + " with " + family.getLabelNames().length + " labels");
+    }
+    return (MetricFamily<M>) family;
+  }
+
+  /**
+   * Write all metrics in Prometheus text format.
+   *
+   * @return the text
+   */
+  public String asPrometheus() {
+    StringBuilder str = new StringBuilder();
+    for (MetricFamily<?> family : new TreeMap<>(families).values()) {
+      str.append("# HELP ").append(family.getName()).append(' ').append(escapeHelp(family.getHelp())).append('\n');
+      str.append("# TYPE ").append(family.getName()).append(' ').append(family.getType().prometheusName()).append('\n');
+      String[] labelNames = family.getLabelNames();
+      for (Map.Entry<List<String>, ?> e : family.getMetrics().entrySet()) {
+        List<String> labelValues = e.getKey();
+        Object metric = e.getValue();
+        if (metric instanceof Counter) {
+          appendSample(str, family.getName(), labelNames, labelValues, null, Long.toString(((Counter) metric).get()));
+        } else if (metric instanceof Gauge) {
+          appendSample(str, family.getName(), labelNames, labelValues, null, Long.toString(((Gauge) metric).get()));
+        } else if (metric instanceof LatencyHistogram) {
+          LatencyHistogram histogram = (LatencyHistogram) metric;
+          for (double q : QUANTILES) {
+            appendSample(str,
+                         family.getName(),
+                         labelNames,
+                         labelValues,
+                         Double.toString(q),
+                         seconds(histogram.getPercentile(q * 100)));
+          }
+          appendSample(str, family.getName() + "_sum", labelNames, labelValues, null, seconds(histogram.getSum()));
+          appendSample(str, family.getName() + "_count", labelNames, labelValues, null, Long.toString(histogram.getCount()));
+        }
+      }
+      if (family.isPeaks()) {
+        String peakName = family.getName() + "_peak";
+        str.append("# HELP ").append(peakName).append(" Peak since reset: ").append(escapeHelp(family.getHelp())).append('\n');
+        str.append("# TYPE ").append(peakName).append(' ').append(Type.GAUGE.prometheusName()).append('\n');
+        for (Map.Entry<List<String>, ?> e : family.getMetrics().entrySet()) {
+          if (e.getValue() instanceof Gauge) {
+            appendSample(str, peakName, labelNames, e.getKey(), null, Long.toString(((Gauge) e.getValue()).getPeak()));
+          }
+        }
+      }
+    }
+    return str.toString();
+  }
+
+  /**
+   * Append a sample line.
+   *
+   * @param str the builder
+   * @param name the sample name
+   * @param labelNames the label names
+   * @param labelValues the label values
+   * @param quantile the quantile or <code>null</code>
+   * @param value the value
+   */
+  private void appendSample(StringBuilder str,
+                            String name,
+                            String[] labelNames,
+                            List<String> labelValues,
+                            String quantile,
+                            String value) {
+    str.append(name);
+    if (labelNames.length > 0 || quantile != null) {
+      str.append('{');
+      for (int i = 0; i < labelNames.length; i++) {
+        if (i > 0) {
+          str.append(',');
+        }
+        str.append(labelNames[i]).append("=\"").append(escapeLabel(labelValues.get(i))).append('"');
+      }
+      if (quantile != null) {
+        if (labelNames.length > 0) {
+          str.append(',');
+        }
+        str.append("quantile=\"").append(quantile).append('"');
+      }
+      str.append('}');
+    }
+    str.append(' ').append(value).append('\n');
+  }
+
+  /**
+   * Convert microseconds to seconds text.
+   *
+   * @param micros the microseconds
+   * @return the seconds
+   */
+  private String seconds(long micros) {
+    return Double.toString(micros / 1000000d);
+  }
+
+  /**
+   * Escape label value.
+   *
+   * @param value the value
+   * @return the escaped value
+   */
+  private String escapeLabel(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  /**
+   * Escape help text.
+   *
+   * @param help the help
+   * @return the escaped help
+   */
+  private String escapeHelp(String help) {
+    return help.replace("\\", "\\\\").replace("\n", "\\n");
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.rest;
+
+import javax.annotation.security.RolesAllowed;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.exoplatform.services.rest.resource.ResourceContainer;
+import org.exoplatform.webconferencing.client.ErrorInfo;
+import org.exoplatform.webconferencing.cometd.CallCommandRegistry;
+import org.exoplatform.webconferencing.metrics.MetricsRegistry;
+
+/**
+ * REST service exposing runtime statistics of Web Conferencing to administrators.
+ */
+@Path("/webconferencing/statistics")
+@Tag(name = "/webconferencing/statistics", description = "Runtime statistics of web conferencing")
+@Produces(MediaType.APPLICATION_JSON)
+public class RESTStatisticsService implements ResourceContainer {
+
+  /** The commands registry. */
+  protected final CallCommandRegistry commands;
+
+  /** The metrics registry. */
+  protected final MetricsRegistry     metrics;
+
+  /** The cache control. */
+  private final CacheControl          cacheControl;
+
+  /**
+   * Instantiates a new REST service for statistics.
+   *
+   * @param commands the remote call commands registry
+   * @param metrics the metrics registry
+   */
+  public RESTStatisticsService(CallCommandRegistry commands, MetricsRegistry metrics) {
+    this.commands = commands;
+    this.metrics = metrics;
+    this.cacheControl = new CacheControl();
+    cacheControl.setNoCache(true);
+    cacheControl.setNoStore(true);
+  }
+
+  /**
+   * Gets the metrics in Prometheus text format.
+   *
+   * @return the response
+   */
+  @GET
+  @RolesAllowed("administrators")
+  @Path("/metrics")
+  @Produces(MetricsRegistry.PROMETHEUS_CONTENT_TYPE)
+  @Operation(
+          summary = "Read metrics in Prometheus text format",
+          method = "GET",
+          description = "Use this method to scrape call operations metrics (counts, durations and recordings size by operation, provider and owner type) in Prometheus text format. This operation only available to Administrator user.")
+  @ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Request fulfilled. Metrics text returned.") })
+  public Response getMetrics() {
+    return Response.ok().cacheControl(cacheControl).entity(metrics.asPrometheus()).build();
+  }
+
+  /**
+   * Reset peaks of the gauges (active calls, joined participants) to their current values.
+   *
+   * @return the response
+   */
+  @POST
+  @RolesAllowed("administrators")
+  @Path("/metrics/peaks/reset")
+  @Operation(
+          summary = "Reset peaks of the gauges",
+          method = "POST",
+          description = "Use this method to reset peaks of the gauges (active calls, joined participants) to their current values. This operation only available to Administrator user.")
+  @ApiResponses(value = { @ApiResponse(responseCode = "204", description = "Request fulfilled. Peaks reset.") })
+  public Response resetPeaks() {
+    metrics.resetPeaks();
+    return Response.noContent().cacheControl(cacheControl).build();
+  }
+
+  /**
+   * Gets the statistics of all remote call commands.
+   *
+   * @return the response
+   */
+  @GET
+  @RolesAllowed("administrators")
+  @Path("/commands")
+  @Operation(
+          summary = "Read statistics of remote call commands",
+          method = "GET",
+          description = "Use this method to read queue wait and execution times (in microseconds), success and failure counts and payload sizes of remote call commands. This operation only available to Administrator user.")
+  @ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Request fulfilled. Statistics object returned.") })
+  public Response getCommandsStatistics() {
+    return Response.ok().cacheControl(cacheControl).entity(commands.getStatistics()).build();
+  }
+
+  /**
+   * Gets the statistics of a remote call command.
+   *
+   * @param name the command name
+   * @return the response
+   */
+  @GET
+  @RolesAllowed("administrators")
+  @Path("/commands/{name}")
+  @Operation(
+          summary = "Read statistics of a remote call command",
+          method = "GET",
+          description = "Use this method to read queue wait and execution times (in microseconds), success and failure counts and payload sizes of a remote call command. This operation only available to Administrator user.")
+  @ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Request fulfilled. Statistics object returned."),
+    @ApiResponse(responseCode = "404", description = "Command not found. Error code: " + ErrorInfo.CODE_NOT_FOUND_ERROR) })
+  public Response getCommandStatistics(@Parameter(description = "Command name, ex: 'get'", required = true) @PathParam("name") String name) {
+    String stats = commands.getCommandStatistics(name);
+    if (stats != null) {
+      return Response.ok().cacheControl(cacheControl).entity(stats).build();
+    } else {
+      return Response.status(Status.NOT_FOUND)
+                     .cacheControl(cacheControl)
+                     .entity(ErrorInfo.notFoundError("Command not found"))
+                     .build();
+    }
+  }
+}
@@ -397,7 +397,7 @@ public class RESTWebConferencingService implements ResourceContainer {
         try {
           GroupInfo space = webConferencing.getSpaceInfo(spaceName);
           if (space != null) {
-            if (space.getMembers().containsKey(currentUserName)) {
+            if (space.isMember(currentUserName)) {
               return Response.ok().cacheControl(cacheControl).entity(space).build();
             } else {
               return Response.status(Status.FORBIDDEN)
@@ -481,7 +481,7 @@ public class RESTWebConferencingService implements ResourceContainer {
                                                                     participants.trim().split(";"),
                                                                     spaces.trim().split(";"));
                 if (space != null) {
-                  if (space.getMembers().containsKey(currentUserName)) {
+                  if (space.isMember(currentUserName)) {
                     return Response.ok().cacheControl(cacheControl).entity(space).build();
                   } else {
                     return Response.status(Status.FORBIDDEN)
@@ -577,7 +577,7 @@ public class RESTWebConferencingService implements ResourceContainer {
             try {
               GroupInfo room = webConferencing.getRoomInfo(roomId, roomTitle, roomMembers.trim().split(";"));
               if (room != null) {
-                if (room.getMembers().containsKey(currentUserName)) {
+                if (room.isMember(currentUserName)) {
                   return Response.ok().cacheControl(cacheControl).entity(room).build();
                 } else {
                   return Response.status(Status.FORBIDDEN)
@@ -19,14 +19,16 @@
 package org.exoplatform.webconferencing.support;
 
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.exoplatform.services.log.ExoLogger;
 import org.exoplatform.services.log.Log;
@@ -34,6 +36,9 @@ import org.exoplatform.services.log.Log;
 /**
  * Diagnostic logging support for user calls. This class gathers all logs related to the call, from
  * preparation of UI to processing a conversation.<br>
+ * Messages are buffered in a ring of fixed capacity: when the ring is full a new message overwrites the oldest
+ * one not yet flushed (it is counted as dropped). A single flusher thread writes buffered messages to the server
+ * log in batches in timestamp order.<br>
  * 
  * Created by The eXo Platform SAS
  * 
@@ -80,7 +85,10 @@ public class CallLog {
   public static final int    MESSAGES_BUFFER_EXPIRATION_MILLIS = 60000;
 
   /** How long to wait between checks in flush thread. */
-  public static final int    MESSAGES_BUFFER_WAIT_MILLIS       = 20000;
+  public static final int    MESSAGES_BUFFER_WAIT_MILLIS       = 1000;
+
+  /** Default capacity of the messages ring. */
+  public static final int    MESSAGES_RING_CAPACITY            = 4096;
 
   /**
    * Validate a message by cutting it if it is longer of {@value #MESSAGE_CRITICAL_LENGTH} bytes.
@@ -113,28 +121,37 @@ public class CallLog {
     return msg;
   }
 
-  abstract class Message implements Comparable<Message> {
+  /**
+   * A log message buffered in the ring.
+   */
+  static final class Message implements Comparable<Message> {
 
+    /** The timestamp. */
     private final LocalDateTime timestamp;
 
-    /**
-     * Instantiates a new message with current time as timestamp.
-     */
-    Message() {
-      timestamp = LocalDateTime.now();
-    }
+    /** The sequence number in the ring, to keep order of messages of the same timestamp. */
+    private final long          seq;
+
+    /** The level. */
+    private final String        level;
+
+    /** The text. */
+    private final String        text;
 
     /**
      * Instantiates a new message with given timestamp, if <code>null</code> given then current time will be
      * used.
      *
+     * @param level the level
+     * @param text the text
      * @param timestamp the timestamp
+     * @param seq the sequence number
      */
-    Message(LocalDateTime timestamp) {
-      if (timestamp == null) {
-        timestamp = LocalDateTime.now();
-      }
-      this.timestamp = timestamp;
+    Message(String level, String text, LocalDateTime timestamp, long seq) {
+      this.level = level;
+      this.text = text;
+      this.timestamp = timestamp != null ? timestamp : LocalDateTime.now();
+      this.seq = seq;
     }
 
     /**
@@ -142,7 +159,8 @@ public class CallLog {
      */
     @Override
     public int compareTo(Message o) {
-      return this.getTimestamp().compareTo(o.getTimestamp());
+      int res = this.timestamp.compareTo(o.timestamp);
+      return res != 0 ? res : Long.compare(this.seq, o.seq);
     }
 
     /**
@@ -156,31 +174,68 @@ public class CallLog {
 
     /**
      * Write message to the log.
+     *
+     * @param callLog the call log
      */
-    abstract void log();
+    void log(CallLog callLog) {
+      String msg = callLog.validateFinal(text);
+      if (level == ERROR_LEVEL) {
+        LOG.error(msg);
+      } else if (level == WARN_LEVEL) {
+        LOG.warn(msg);
+      } else if (level == INFO_LEVEL) {
+        LOG.info(msg);
+      } else if (level == DEBUG_LEVEL) {
+        LOG.debug(msg);
+      } else {
+        LOG.trace(msg);
+      }
+    }
   }
 
+  /** The messages ring. */
+  private final AtomicReferenceArray<Message> ring;
+
+  /** The ring index mask (capacity is a power of two). */
+  private final int                           mask;
+
+  /** The sequence of the next message written to the ring. */
+  private final AtomicLong                    written    = new AtomicLong();
+
+  /** The sequence of messages written before the last flush. */
+  private volatile long                       taken;
+
+  /** The time of the last flush. */
+  private volatile long                       lastFlush  = System.currentTimeMillis();
+
+  /** The dropped messages count. */
+  private final LongAdder                     dropped    = new LongAdder();
+
+  /** The flushed messages count. */
+  private final LongAdder                     flushed    = new LongAdder();
+
+  /** The flusher. */
+  private ScheduledExecutorService            flusher;
+
+  /** The tasks run by the flusher before each flush check. */
+  private final List<Runnable>                flushTasks = new CopyOnWriteArrayList<>();
+
   /**
-   * The log messages buffer.
+   * Instantiates a new call log (for internal use) with default capacity.
    */
-  private final Queue<Message> messages = new ConcurrentLinkedQueue<>();
-
-  /** The flusher for messages queue. */
-  private Map<Boolean, Thread> flusher  = new ConcurrentHashMap<>(1);
+  CallLog() {
+    this(MESSAGES_RING_CAPACITY);
+  }
 
   /**
    * Instantiates a new call log (for internal use).
+   *
+   * @param capacity the messages ring capacity, it will be rounded up to a power of two
    */
-  CallLog() {
-    try {
-      Runtime.getRuntime().addShutdownHook(new Thread() {
-        public void run() {
-          flushAll();
-        }
-      });
-    } catch (Throwable e) {
-      LOG.warn("Failed to register shutdown hook " + e.getMessage());
-    }
+  CallLog(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity, MESSAGES_BUFFER_MAX_SIZE) - 1) << 1;
+    this.ring = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
   }
 
   /**
@@ -190,16 +245,7 @@ public class CallLog {
    */
   public void info(String msg) {
     if (LOG.isInfoEnabled()) {
-      messages.add(new Message() {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.info(validateFinal(msg));
-        }
-      });
-      flush();
+      add(INFO_LEVEL, msg, null);
     }
   }
 
@@ -211,16 +257,7 @@ public class CallLog {
    */
   public void info(String msg, LocalDateTime timestamp) {
     if (LOG.isInfoEnabled()) {
-      messages.add(new Message(timestamp) {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.info(validateFinal(msg));
-        }
-      });
-      flush();
+      add(INFO_LEVEL, msg, timestamp);
     }
   }
 
@@ -231,16 +268,7 @@ public class CallLog {
    */
   public void warn(String msg) {
     if (LOG.isWarnEnabled()) {
-      messages.add(new Message() {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.warn(validateFinal(msg));
-        }
-      });
-      flush();
+      add(WARN_LEVEL, msg, null);
     }
   }
 
@@ -252,16 +280,7 @@ public class CallLog {
    */
   public void warn(String msg, LocalDateTime timestamp) {
     if (LOG.isWarnEnabled()) {
-      messages.add(new Message(timestamp) {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.warn(validateFinal(msg));
-        }
-      });
-      flush();
+      add(WARN_LEVEL, msg, timestamp);
     }
   }
 
@@ -272,16 +291,7 @@ public class CallLog {
    */
   public void error(String msg) {
     if (LOG.isErrorEnabled()) {
-      messages.add(new Message() {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.error(validateFinal(msg));
-        }
-      });
-      flush();
+      add(ERROR_LEVEL, msg, null);
     }
   }
 
@@ -293,16 +303,7 @@ public class CallLog {
    */
   public void error(String msg, LocalDateTime timestamp) {
     if (LOG.isErrorEnabled()) {
-      messages.add(new Message(timestamp) {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.error(validateFinal(msg));
-        }
-      });
-      flush();
+      add(ERROR_LEVEL, msg, timestamp);
     }
   }
 
@@ -313,16 +314,7 @@ public class CallLog {
    */
   public void debug(String msg) {
     if (LOG.isDebugEnabled()) {
-      messages.add(new Message() {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.debug(validateFinal(msg));
-        }
-      });
-      flush();
+      add(DEBUG_LEVEL, msg, null);
     }
   }
 
@@ -334,16 +326,7 @@ public class CallLog {
    */
   public void debug(String msg, LocalDateTime timestamp) {
     if (LOG.isDebugEnabled()) {
-      messages.add(new Message(timestamp) {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.debug(validateFinal(msg));
-        }
-      });
-      flush();
+      add(DEBUG_LEVEL, msg, timestamp);
     }
   }
 
@@ -354,16 +337,7 @@ public class CallLog {
    */
   public void trace(String msg) {
     if (LOG.isTraceEnabled()) {
-      messages.add(new Message() {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.trace(validateFinal(msg));
-        }
-      });
-      flush();
+      add(TRACE_LEVEL, msg, null);
     }
   }
 
@@ -375,17 +349,91 @@ public class CallLog {
    */
   public void trace(String msg, LocalDateTime timestamp) {
     if (LOG.isTraceEnabled()) {
-      messages.add(new Message(timestamp) {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        void log() {
-          LOG.trace(validateFinal(msg));
-        }
-      });
-      flush();
+      add(TRACE_LEVEL, msg, timestamp);
+    }
+  }
+
+  /**
+   * Find a level constant by its name.
+   *
+   * @param name the level name
+   * @return the level constant or <code>null</code> if it's not a known level
+   */
+  public static String level(String name) {
+    if (ERROR_LEVEL.equals(name)) {
+      return ERROR_LEVEL;
+    } else if (WARN_LEVEL.equals(name)) {
+      return WARN_LEVEL;
+    } else if (INFO_LEVEL.equals(name)) {
+      return INFO_LEVEL;
+    } else if (DEBUG_LEVEL.equals(name)) {
+      return DEBUG_LEVEL;
+    } else if (TRACE_LEVEL.equals(name)) {
+      return TRACE_LEVEL;
     }
+    return null;
+  }
+
+  /**
+   * Checks if messages of given level will be written to the server log. Use it to avoid preparing
+   * messages that will not be logged.
+   *
+   * @param level the level constant, see {@link #level(String)}
+   * @return true, if the level is enabled
+   */
+  public boolean isEnabled(String level) {
+    if (level == ERROR_LEVEL) {
+      return LOG.isErrorEnabled();
+    } else if (level == WARN_LEVEL) {
+      return LOG.isWarnEnabled();
+    } else if (level == INFO_LEVEL) {
+      return LOG.isInfoEnabled();
+    } else if (level == DEBUG_LEVEL) {
+      return LOG.isDebugEnabled();
+    } else if (level == TRACE_LEVEL) {
+      return LOG.isTraceEnabled();
+    }
+    return false;
+  }
+
+  /**
+   * Message of given level with timestamp.
+   *
+   * @param level the level constant, see {@link #level(String)}
+   * @param msg the msg
+   * @param timestamp the timestamp, if <code>null</code> then current time will be used
+   */
+  public void log(String level, String msg, LocalDateTime timestamp) {
+    if (isEnabled(level)) {
+      add(level, msg, timestamp);
+    }
+  }
+
+  /**
+   * Gets the count of messages dropped because the ring was full.
+   *
+   * @return the dropped count
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * Gets the count of messages flushed to the server log.
+   *
+   * @return the flushed count
+   */
+  public long getFlushedCount() {
+    return flushed.sum();
+  }
+
+  /**
+   * Gets the capacity of the messages ring.
+   *
+   * @return the capacity
+   */
+  public int getCapacity() {
+    return ring.length();
   }
 
   // ********** Internals **********
@@ -404,92 +452,117 @@ public class CallLog {
   }
 
   /**
-   * Flush all messages from the buffer (but first sort them in timestamp order). It's thread-safe operation.
+   * Add a message to the ring. If the ring is full, the message overwrites the oldest one not flushed.
+   *
+   * @param level the level
+   * @param msg the message
+   * @param timestamp the timestamp, can be <code>null</code>
    */
-  private void flushAll() {
-    // Flush buffer to real log: we take available messages only
-    int buffLen = messages.size();
-    if (buffLen > 0) {
-      List<Message> buff = new ArrayList<>(buffLen);
-      do {
-        Message m = messages.poll(); // this removes the message from the queue
+  private void add(String level, String msg, LocalDateTime timestamp) {
+    long seq = written.getAndIncrement();
+    if (ring.getAndSet((int) seq & mask, new Message(level, msg, timestamp, seq)) != null) {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * Flush all messages from the buffer (but first sort them in timestamp order). It should be invoked by
+   * a single thread at a time (the flusher or the service stop).
+   */
+  synchronized void flushAll() {
+    taken = written.get();
+    lastFlush = System.currentTimeMillis();
+    // Take all messages from the ring, the writers may add new ones meanwhile - they will go to the next batch
+    List<Message> batch = new ArrayList<>();
+    for (int i = 0; i < ring.length(); i++) {
+      if (ring.get(i) != null) {
+        Message m = ring.getAndSet(i, null);
         if (m != null) {
-          buff.add(m);
-          buffLen--;
-        } else {
-          break;
+          batch.add(m);
         }
-      } while (buffLen > 0);
+      }
+    }
+    if (batch.size() > 0) {
       // sort messages (rely on Comparable of Message) and log them
-      buff.stream().sorted().forEach(m -> {
-        m.log();
-      });
+      Collections.sort(batch);
+      for (Message m : batch) {
+        m.log(this);
+      }
+      flushed.add(batch.size());
     }
   }
 
   /**
    * Check if need wait for messages buffer, or can flush it to server log.
    *
-   * @return true, if successful
+   * @return true, if should wait
    */
   private boolean waitForMessages() {
-    if (messages.size() > MESSAGES_BUFFER_MAX_SIZE) {
+    long pending = written.get() - taken;
+    if (pending > MESSAGES_BUFFER_MAX_SIZE) {
       // If have more than MESSAGES_BUFFER_MAX_SIZE messages, then can flush
       return false;
     }
-    Message m = messages.peek();
-    if (m != null && m.getTimestamp()
-                      .isBefore(LocalDateTime.now(ZoneOffset.UTC).minus(MESSAGES_BUFFER_EXPIRATION_MILLIS, ChronoUnit.MILLIS))) {
-      // If first message in the queue is older of MESSAGES_BUFFER_EXPIRATION_MILLIS, then can flush
-      return false;
-    }
-    // Otherwise wait
-    return true;
+    // If messages wait longer of MESSAGES_BUFFER_EXPIRATION_MILLIS, then can flush, otherwise wait
+    return pending == 0 || System.currentTimeMillis() - lastFlush < MESSAGES_BUFFER_EXPIRATION_MILLIS;
   }
 
   /**
-   * Create new flush thread.
+   * Add a task that will be run by the flusher thread periodically (each {@value #MESSAGES_BUFFER_WAIT_MILLIS}
+   * ms) before flushing messages, and once on stop. Tasks may add messages to this log.
    *
-   * @return the thread
+   * @param task the task
    */
-  private Thread newFlushThread() {
-    Thread t = new Thread(CallLog.class.getName() + "-flusher") {
-      /**
-       * {@inheritDoc}
-       */
-      @Override
-      public void run() {
-        do {
-          try {
-            Thread.sleep(MESSAGES_BUFFER_WAIT_MILLIS);
-          } catch (InterruptedException e) {
-            LOG.warn("Error sleeping in flusher thread: " + e.getMessage());
-          }
-        } while (waitForMessages());
+  void addFlushTask(Runnable task) {
+    flushTasks.add(task);
+  }
+
+  /**
+   * Run the flush tasks.
+   */
+  private void runFlushTasks() {
+    for (Runnable task : flushTasks) {
+      try {
+        task.run();
+      } catch (Throwable e) {
+        LOG.error("Error running log flush task", e);
+      }
+    }
+  }
+
+  /**
+   * Start the flusher thread.
+   */
+  synchronized void start() {
+    if (flusher == null) {
+      flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, CallLog.class.getName() + "-flusher");
+        t.setDaemon(true);
+        return t;
+      });
+      flusher.scheduleWithFixedDelay(() -> {
+        runFlushTasks();
         try {
-          flusher.remove(Boolean.TRUE, this);
-          flushAll();
+          if (!waitForMessages()) {
+            flushAll();
+          }
         } catch (Throwable e) {
           LOG.error("Error flushing messages to log", e);
         }
-      }
-    };
-    t.setDaemon(false);
-    t.start();
-    return t;
+      }, MESSAGES_BUFFER_WAIT_MILLIS, MESSAGES_BUFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
   }
 
   /**
-   * Flush available log messages to server log (messages will be sorted timestamp order).
-   *
+   * Stop the flusher thread and flush all buffered messages.
    */
-  private void flush() {
-    flusher.compute(Boolean.TRUE, (k, t) -> {
-      if (t == null || !t.isAlive()) {
-        return newFlushThread();
-      }
-      return t;
-    });
+  synchronized void stop() {
+    if (flusher != null) {
+      flusher.shutdownNow();
+      flusher = null;
+    }
+    runFlushTasks();
+    flushAll();
   }
 
 }
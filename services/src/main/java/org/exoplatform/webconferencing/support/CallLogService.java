@@ -18,21 +18,65 @@
  */
 package org.exoplatform.webconferencing.support;
 
+import org.picocontainer.Startable;
+
+import org.exoplatform.container.xml.InitParams;
+import org.exoplatform.container.xml.ValueParam;
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
+import org.exoplatform.webconferencing.metrics.MetricsRegistry;
+
 /**
  * Created by The eXo Platform SAS.
  *
  * @author <a href="mailto:pnedonosko@exoplatform.com">Peter Nedonosko</a>
  * @version $Id: CallLogService.java 00000 Dec 20, 2017 pnedonosko $
  */
-public class CallLogService {
+public class CallLogService implements Startable {
+
+  /** The Constant LOG. */
+  protected static final Log   LOG             = ExoLogger.getLogger(CallLogService.class);
+
+  /** The Constant BUFFER_CAPACITY parameter name. */
+  public static final String   BUFFER_CAPACITY = "buffer-capacity";
+
+  /** The Constant RATE_LIMIT parameter name. */
+  public static final String   RATE_LIMIT      = "rate-limit";
+
+  /** The Constant RATE_BURST parameter name. */
+  public static final String   RATE_BURST      = "rate-burst";
+
+  /** The Constant RATE_WINDOW parameter name. */
+  public static final String   RATE_WINDOW     = "rate-window";
 
   /** The log. */
-  private final CallLog log = new CallLog();
+  private final CallLog        log;
+
+  /** The rate limiter of client logs. */
+  private final LogRateLimiter rateLimiter;
 
   /**
    * Instantiates a new call log service.
+   *
+   * @param metrics the metrics registry
+   * @param params the params
    */
-  public CallLogService() {
+  public CallLogService(MetricsRegistry metrics, InitParams params) {
+    this.log = new CallLog(intParam(params, BUFFER_CAPACITY, CallLog.MESSAGES_RING_CAPACITY));
+    this.rateLimiter = new LogRateLimiter(log,
+                                          intParam(params, RATE_LIMIT, 10),
+                                          intParam(params, RATE_BURST, 200),
+                                          intParam(params, RATE_WINDOW, 60000));
+    this.log.addFlushTask(rateLimiter::sweep);
+    metrics.counter("webconferencing_client_logs_flushed_total",
+                    "Client log messages written to the server log",
+                    log::getFlushedCount);
+    metrics.counter("webconferencing_client_logs_dropped_total",
+                    "Client log messages dropped due to full buffer",
+                    log::getDroppedCount);
+    metrics.counter("webconferencing_client_logs_suppressed_total",
+                    "Client log messages suppressed due to exceeded rate limit",
+                    rateLimiter::getSuppressedCount);
   }
 
   /**
@@ -44,4 +88,49 @@ public class CallLogService {
     return log;
   }
 
+  /**
+   * Gets the rate limiter of client logs.
+   *
+   * @return the rate limiter
+   */
+  public LogRateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void start() {
+    log.start();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void stop() {
+    log.stop();
+  }
+
+  /**
+   * Read integer value parameter.
+   *
+   * @param params the params
+   * @param name the name
+   * @param defaultValue the default value
+   * @return the value
+   */
+  private static int intParam(InitParams params, String name, int defaultValue) {
+    ValueParam param = params != null ? params.getValueParam(name) : null;
+    if (param != null && param.getValue() != null && param.getValue().trim().length() > 0) {
+      try {
+        return Integer.parseInt(param.getValue().trim());
+      } catch (NumberFormatException e) {
+        LOG.warn("Wrong value of " + name + ": " + param.getValue() + ". Will use " + defaultValue + ".");
+      }
+    }
+    return defaultValue;
+  }
+
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.support;
+
+import static org.exoplatform.webconferencing.support.CallLog.DEBUG_LEVEL;
+import static org.exoplatform.webconferencing.support.CallLog.ERROR_LEVEL;
+import static org.exoplatform.webconferencing.support.CallLog.INFO_LEVEL;
+import static org.exoplatform.webconferencing.support.CallLog.TRACE_LEVEL;
+import static org.exoplatform.webconferencing.support.CallLog.WARN_LEVEL;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits rate of log records coming from clients to the {@link CallLog}. Each client has a token bucket
+ * per log level, thus a flood of trace records will not consume a budget of errors. When a client goes over
+ * the budget of a level, its trace and debug records are sampled: the more records over the budget in
+ * current window, the less of them will be accepted (1st, 2nd, 4th, 8th and so on). Records of other levels
+ * over the budget are suppressed. At the end of a window, a summary line with counts of suppressed records
+ * will be logged for each client that had them. Windows are rolled by {@link #sweep()}, it should be invoked
+ * periodically (e.g. by the {@link CallLog} flusher).
+ */
+public class LogRateLimiter {
+
+  /** The levels in order of their index in client budgets. */
+  private static final String[] LEVELS = new String[] { ERROR_LEVEL, WARN_LEVEL, INFO_LEVEL, DEBUG_LEVEL, TRACE_LEVEL };
+
+  /**
+   * Budget of log records of a client.
+   */
+  class ClientBudget {
+
+    /** The client name. */
+    private final String   name;
+
+    /** The tokens per level. */
+    private final double[] tokens     = new double[LEVELS.length];
+
+    /** The records over the budget in current window, per level. */
+    private final int[]    overflow   = new int[LEVELS.length];
+
+    /** The suppressed records in current window, per level. */
+    private final int[]    suppressed = new int[LEVELS.length];
+
+    /** The last refill time (nanos). */
+    private long           lastRefill;
+
+    /** The current window start time (nanos). */
+    private long           windowStart;
+
+    /** The last record time (nanos). */
+    private long           lastUsed;
+
+    /** The evicted flag, an evicted budget should not be used. */
+    private boolean        evicted;
+
+    /**
+     * Instantiates a new client budget with full buckets.
+     *
+     * @param name the name
+     * @param now the current time in nanos
+     */
+    ClientBudget(String name, long now) {
+      this.name = name;
+      this.lastRefill = this.windowStart = this.lastUsed = now;
+      for (int i = 0; i < tokens.length; i++) {
+        tokens[i] = burst;
+      }
+    }
+
+    /**
+     * Take a token to log a record of given level.
+     *
+     * @param level the level index
+     * @param now the current time in nanos
+     * @return true, if the record can be logged
+     */
+    synchronized boolean acquire(int level, long now) {
+      roll(now);
+      lastUsed = now;
+      double refilled = (now - lastRefill) * ratePerNano;
+      if (refilled > 0) {
+        for (int i = 0; i < tokens.length; i++) {
+          tokens[i] = Math.min(burst, tokens[i] + refilled);
+        }
+        lastRefill = now;
+      }
+      if (tokens[level] >= 1) {
+        tokens[level]--;
+        return true;
+      }
+      int over = ++overflow[level];
+      if (LEVELS[level] == DEBUG_LEVEL || LEVELS[level] == TRACE_LEVEL) {
+        if ((over & (over - 1)) == 0) {
+          // sample: when over the budget is a power of two
+          return true;
+        }
+      }
+      suppressed[level]++;
+      suppressedTotal.increment();
+      return false;
+    }
+
+    /**
+     * Start a new window if current one ended, log a summary of suppressed records if any.
+     *
+     * @param now the current time in nanos
+     * @return true, if the client was idle during whole last window (and can be evicted)
+     */
+    synchronized boolean roll(long now) {
+      if (now - windowStart >= windowNanos) {
+        int total = 0;
+        StringBuilder levels = new StringBuilder();
+        for (int i = 0; i < LEVELS.length; i++) {
+          if (suppressed[i] > 0) {
+            total += suppressed[i];
+            if (levels.length() > 0) {
+              levels.append(", ");
+            }
+            levels.append(LEVELS[i]).append(": ").append(suppressed[i]);
+          }
+          suppressed[i] = overflow[i] = 0;
+        }
+        if (total > 0) {
+          log.warn(new StringBuilder(name).append(" exceeded log rate: suppressed ")
+                                          .append(total)
+                                          .append(" records in last ")
+                                          .append(TimeUnit.NANOSECONDS.toSeconds(now - windowStart))
+                                          .append(" sec (")
+                                          .append(levels)
+                                          .append(')')
+                                          .toString());
+        }
+        windowStart = now;
+        return now - lastUsed >= windowNanos;
+      }
+      return false;
+    }
+  }
+
+  /** The call log. */
+  private final CallLog                                 log;
+
+  /** The records per second of each level. */
+  private final int                                     rate;
+
+  /** The rate per nanosecond. */
+  private final double                                  ratePerNano;
+
+  /** The bucket size: how many records a client can log at once. */
+  private final int                                     burst;
+
+  /** The window length in nanos. */
+  private final long                                    windowNanos;
+
+  /** The budgets of clients. */
+  private final ConcurrentHashMap<String, ClientBudget> clients         = new ConcurrentHashMap<>();
+
+  /** The suppressed records total. */
+  private final LongAdder                               suppressedTotal = new LongAdder();
+
+  /**
+   * Instantiates a new log rate limiter.
+   *
+   * @param log the call log
+   * @param rate the records per second of each level per client, zero or negative to disable limiting
+   * @param burst the number of records a client can log at once
+   * @param windowMillis the window length in milliseconds for summary of suppressed records
+   */
+  public LogRateLimiter(CallLog log, int rate, int burst, long windowMillis) {
+    this.log = log;
+    this.rate = rate;
+    this.ratePerNano = rate / (double) TimeUnit.SECONDS.toNanos(1);
+    this.burst = Math.max(burst, 1);
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(windowMillis, 1000));
+  }
+
+  /**
+   * Checks if a log record of given client and level can be logged.
+   *
+   * @param client the client name (e.g. user and its CometD session ID, not an ID the client sends itself)
+   * @param level the level constant, see {@link CallLog#level(String)}
+   * @return true, if the record can be logged, false if it's suppressed
+   */
+  public boolean acquire(String client, String level) {
+    if (rate <= 0) {
+      return true;
+    }
+    long now = System.nanoTime();
+    int levelIndex = levelIndex(level);
+    while (true) {
+      ClientBudget budget = clients.computeIfAbsent(client, name -> new ClientBudget(name, now));
+      synchronized (budget) {
+        if (!budget.evicted) {
+          return budget.acquire(levelIndex, now);
+        }
+      }
+      // else, the budget was evicted as idle meanwhile, a new one will be created
+    }
+  }
+
+  /**
+   * Gets the count of suppressed records.
+   *
+   * @return the suppressed count
+   */
+  public long getSuppressedCount() {
+    return suppressedTotal.sum();
+  }
+
+  /**
+   * Roll ended windows of all clients: log summaries of suppressed records and remove clients idle during
+   * the whole window.
+   */
+  void sweep() {
+    long now = System.nanoTime();
+    for (ClientBudget budget : clients.values()) {
+      synchronized (budget) {
+        if (budget.roll(now)) {
+          budget.evicted = true;
+          clients.remove(budget.name, budget);
+        }
+      }
+    }
+  }
+
+  /**
+   * Level index in client budgets.
+   *
+   * @param level the level
+   * @return the index
+   */
+  private static int levelIndex(String level) {
+    for (int i = 0; i < LEVELS.length - 1; i++) {
+      if (LEVELS[i] == level) {
+        return i;
+      }
+    }
+    return LEVELS.length - 1;
+  }
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.persistence.PersistenceException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.exoplatform.container.xml.InitParams;
+import org.exoplatform.container.xml.PropertiesParam;
+import org.exoplatform.services.cache.CacheService;
+import org.exoplatform.services.cache.ExoCache;
+import org.exoplatform.services.listener.ListenerService;
+import org.exoplatform.social.core.space.model.Space;
+import org.exoplatform.web.security.codec.CodecInitializer;
+import org.exoplatform.webconferencing.metrics.MetricsRegistry;
+
+/**
+ * Tests of call state transitions serialized by the call locks: concurrent joins and leaves of a group call
+ * against a storage kept in memory.
+ */
+public class CallLockTest {
+
+  /** The participants number. */
+  private static final int    PARTICIPANTS = 500;
+
+  /** The threads number. */
+  private static final int    THREADS      = 50;
+
+  /** The call id. */
+  private static final String CALL_ID      = "g/chat_room/room1";
+
+  /** The service. */
+  private TestService         service;
+
+  /** The executor. */
+  private ExecutorService     executor;
+
+  /**
+   * Web Conferencing service with the storage kept in memory and without notification of users.
+   */
+  static class TestService extends WebConferencingService {
+
+    /** The saved calls. */
+    final Map<String, CallInfo> calls      = new ConcurrentHashMap<>();
+
+    /** The participant updates count. */
+    final AtomicInteger         updates    = new AtomicInteger();
+
+    /** The call stops count. */
+    final AtomicInteger         stops      = new AtomicInteger();
+
+    /** The updates running in the storage now. */
+    final AtomicInteger         running    = new AtomicInteger();
+
+    /** The max of updates running in the storage at the same time. */
+    final AtomicInteger         maxRunning = new AtomicInteger();
+
+    /**
+     * Instantiates a new test service.
+     *
+     * @param initParams the init params
+     */
+    TestService(InitParams initParams) {
+      super(null,
+            null,
+            mock(ListenerService.class),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            initParams,
+            null,
+            mock(CodecInitializer.class),
+            cacheService(),
+            new MetricsRegistry());
+    }
+
+    /**
+     * Mock of the cache service.
+     *
+     * @return the cache service
+     */
+    static CacheService cacheService() {
+      CacheService cacheService = mock(CacheService.class);
+      doReturn(mock(ExoCache.class)).when(cacheService).getCacheInstance(anyString());
+      return cacheService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected CallInfo findCallById(String id, boolean withParticipants) {
+      return calls.get(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void txUpdateParticipant(String callId, UserInfo participant) throws PersistenceException {
+      int now = running.incrementAndGet();
+      maxRunning.accumulateAndGet(now, Math::max);
+      try {
+        // Let other requests to interleave if they can
+        Thread.yield();
+        updates.incrementAndGet();
+        updateActiveParticipant(callId, participant);
+      } finally {
+        running.decrementAndGet();
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void txStopCall(CallInfo call, boolean remove) throws PersistenceException {
+      stops.incrementAndGet();
+      call.setState(CallState.STOPPED);
+      call.setInviteId(null);
+      unregisterActiveCall(call.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void fireUserCallJoined(String callId,
+                                      String providerType,
+                                      String ownerId,
+                                      String ownerType,
+                                      String partId,
+                                      String userId) {
+      // Not notified in tests
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void fireUserCallLeaved(String callId,
+                                      String providerType,
+                                      String ownerId,
+                                      String ownerType,
+                                      String partId,
+                                      String userId) {
+      // Not notified in tests
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void fireUserCallStateChanged(String userId,
+                                            String callId,
+                                            String providerType,
+                                            String callState,
+                                            String ownerId,
+                                            String ownerType) {
+      // Not notified in tests
+    }
+  }
+
+  /**
+   * Sets the up.
+   */
+  @Before
+  public void setUp() {
+    InitParams initParams = new InitParams();
+    PropertiesParam jwtParam = new PropertiesParam();
+    jwtParam.setName("jwt-configuration");
+    jwtParam.setProperty("secret-key", "test");
+    initParams.addParameter(jwtParam);
+    service = new TestService(initParams);
+    executor = Executors.newFixedThreadPool(THREADS);
+
+    service.calls.put(CALL_ID, newCall(CALL_ID, service.new RoomInfo("room1", "Room 1"), PARTICIPANTS));
+  }
+
+  /**
+   * Create a started group call, as the storage reads it, with all members as leaved participants.
+   *
+   * @param id the call id
+   * @param owner the owner
+   * @param members the members number
+   * @return the call info
+   */
+  private CallInfo newCall(String id, GroupInfo owner, int members) {
+    CallInfo call = new CallInfo(id, owner.getTitle(), owner, "jitsi");
+    for (int i = 0; i < members; i++) {
+      UserInfo user = new UserInfo("user" + i, "User", String.valueOf(i));
+      user.setState(UserState.LEAVED);
+      owner.addMember(user);
+      call.addParticipant(user);
+    }
+    call.setState(CallState.STARTED);
+    return call;
+  }
+
+  /**
+   * Tear down.
+   */
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Test the same lock returned for a call and calls share a limited set of locks.
+   */
+  @Test
+  public void testCallLockStriping() {
+    assertSame(service.callLock(CALL_ID), service.callLock(new String(CALL_ID)));
+    Set<Lock> locks = new HashSet<>();
+    for (int i = 0; i < WebConferencingService.CALL_LOCK_STRIPES * 10; i++) {
+      Lock lock = service.callLock("g/space/space" + i);
+      assertNotNull(lock);
+      locks.add(lock);
+    }
+    assertTrue(locks.size() <= WebConferencingService.CALL_LOCK_STRIPES);
+    // Any call ID has a lock, including ones with a negative hash code
+    assertNotNull(service.callLock("polygenelubricants"));
+  }
+
+  /**
+   * Test concurrent joins of all the participants: each join saved and counted once.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testConcurrentJoins() throws Exception {
+    runAll(partId -> service.joinCall(CALL_ID, partId, partId + "-client"));
+
+    CallInfo call = service.getCall(CALL_ID);
+    assertEquals(CallState.STARTED, call.getState());
+    assertEquals(PARTICIPANTS, call.getJoinedCount());
+    assertEquals(0, call.getLeavedCount());
+    assertEquals(PARTICIPANTS, service.updates.get());
+    assertEquals(1, service.maxRunning.get());
+  }
+
+  /**
+   * Test concurrent leaves of all the joined participants: the call stopped once, after the last leave.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testConcurrentLeavesStopCallOnce() throws Exception {
+    runAll(partId -> service.joinCall(CALL_ID, partId, partId + "-client"));
+    service.updates.set(0);
+
+    runAll(partId -> service.leaveCall(CALL_ID, partId, partId + "-client"));
+
+    assertEquals(1, service.stops.get());
+    // All leaves saved before the stop, the later ones would find the call stopped
+    assertEquals(PARTICIPANTS, service.updates.get());
+    CallInfo call = service.getCall(CALL_ID);
+    assertEquals(CallState.STOPPED, call.getState());
+    assertEquals(0, call.getJoinedCount());
+    assertEquals(1, service.maxRunning.get());
+  }
+
+  /**
+   * Test call events broadcast to the listener service after the call lock released.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testEventsBroadcastOutsideLock() throws Exception {
+    ReentrantLock lock = (ReentrantLock) service.callLock(CALL_ID);
+    List<Boolean> locked = new ArrayList<>();
+    doAnswer(invocation -> locked.add(lock.isHeldByCurrentThread())).when(service.listenerService)
+                                                                     .broadcast(anyString(), any(), any());
+
+    service.joinCall(CALL_ID, "user0", "user0-client");
+    // The last joined leaves and stops the call
+    service.leaveCall(CALL_ID, "user0", "user0-client");
+
+    assertEquals(Arrays.asList(false, false, false), locked);
+  }
+
+  /**
+   * Test a call returned to a client is a snapshot, not the instance shared by the requests.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testJoinReturnsSnapshot() throws Exception {
+    CallInfo joined = service.joinCall(CALL_ID, "user0", "user0-client");
+    service.joinCall(CALL_ID, "user1", "user1-client");
+
+    assertEquals(1, joined.getJoinedCount());
+    assertEquals(2, service.getCall(CALL_ID).getJoinedCount());
+  }
+
+  /**
+   * Test a user became a group member after the call was read still can join it.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testJoinNewGroupMember() throws Exception {
+    service.joinCall(CALL_ID, "user0", "user0-client");
+    // The user joined the group: the storage reads the call with him as participant
+    CallInfo actual = newCall(CALL_ID, service.new RoomInfo("room1", "Room 1"), PARTICIPANTS + 1);
+    actual.setParticipantState(actual.getParticipant("user0"), UserState.JOINED, "user0-client");
+    service.calls.put(CALL_ID, actual);
+
+    String newMember = "user" + PARTICIPANTS;
+    service.joinCall(CALL_ID, newMember, newMember + "-client");
+
+    CallInfo call = service.getCall(CALL_ID);
+    assertEquals(UserState.JOINED, call.getParticipant(newMember).getState());
+    assertEquals(2, call.getJoinedCount());
+  }
+
+  /**
+   * Test a space membership change evicts active calls of the space.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testSpaceMembershipEvictsActiveCall() throws Exception {
+    Space space = mock(Space.class);
+    when(space.getPrettyName()).thenReturn("team");
+    when(space.getDisplayName()).thenReturn("Team");
+    String spaceCallId = "g/space/team";
+    service.calls.put(spaceCallId, newCall(spaceCallId, service.new SpaceInfo(space), 3));
+    service.joinCall(spaceCallId, "user0", "user0-client");
+    // A user joined the space
+    CallInfo actual = newCall(spaceCallId, service.new SpaceInfo(space), 4);
+    actual.setParticipantState(actual.getParticipant("user0"), UserState.JOINED, "user0-client");
+    service.calls.put(spaceCallId, actual);
+    assertNull(service.getCall(spaceCallId).getParticipant("user3"));
+
+    service.invalidateSpaceMembers("team");
+
+    CallInfo call = service.getCall(spaceCallId);
+    assertNotNull(call.getParticipant("user3"));
+    assertEquals(1, call.getJoinedCount());
+    // Other active calls stay registered
+    service.joinCall(CALL_ID, "user0", "user0-client");
+    service.invalidateSpaceMembers("team");
+    assertNotNull(service.activeCall(CALL_ID));
+  }
+
+  /**
+   * Run the action concurrently for each participant of the call.
+   *
+   * @param action the action
+   * @throws Exception the exception
+   */
+  private void runAll(PartAction action) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Object>> results = new ArrayList<>();
+    for (int i = 0; i < PARTICIPANTS; i++) {
+      String partId = "user" + i;
+      Callable<Object> task = () -> {
+        start.await();
+        return action.run(partId);
+      };
+      results.add(executor.submit(task));
+    }
+    start.countDown();
+    for (Future<Object> result : results) {
+      // Rethrows a failure of the action
+      result.get(30, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Call action of a participant.
+   */
+  @FunctionalInterface
+  private interface PartAction {
+
+    /**
+     * Run the action.
+     *
+     * @param partId the participant id
+     * @return the result
+     * @throws Exception the exception
+     */
+    Object run(String partId) throws Exception;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of group members added lazily: only requested members are resolved and members that cannot be
+ * resolved aren't members.
+ */
+public class GroupInfoTest {
+
+  /** The member IDs asked from the resolver. */
+  private final List<String> resolved = new CopyOnWriteArrayList<>();
+
+  /** The group. */
+  private GroupInfo          group;
+
+  /**
+   * Creates a group of three members, the last one cannot be resolved.
+   */
+  @Before
+  public void setUp() {
+    resolved.clear();
+    group = new GroupInfo("team", "Team") {
+      @Override
+      public String getType() {
+        return "test_group";
+      }
+    };
+    group.setMemberResolver(this::resolve);
+    group.addMemberId("john");
+    group.addMemberId("mary");
+    group.addMemberId("deleted");
+  }
+
+  /**
+   * Unresolvable member isn't a member, and only the checked member is resolved.
+   */
+  @Test
+  public void testIsMember() {
+    assertTrue(group.isMember("john"));
+    assertEquals(Arrays.asList("john"), resolved);
+    assertFalse(group.isMember("deleted"));
+    assertFalse(group.isMember("unknown"));
+    assertEquals(Arrays.asList("john", "deleted"), resolved);
+    assertEquals(Arrays.asList("john", "mary"), group.getMemberIds());
+  }
+
+  /**
+   * Members are resolved only by given IDs, not members are skipped.
+   */
+  @Test
+  public void testGetMembersByIds() {
+    Map<String, UserInfo> members = group.getMembers(Arrays.asList("mary", "unknown", "deleted"));
+    assertEquals(Arrays.asList("mary"), List.copyOf(members.keySet()));
+    assertEquals(Arrays.asList("mary", "deleted"), resolved);
+    assertEquals(Arrays.asList("john", "mary"), List.copyOf(group.getMembers().keySet()));
+  }
+
+  /**
+   * Resolve members except of "deleted".
+   *
+   * @param ids the member IDs
+   * @return the found members
+   */
+  private Map<String, UserInfo> resolve(Collection<String> ids) {
+    Map<String, UserInfo> users = new HashMap<>();
+    for (String id : ids) {
+      resolved.add(id);
+      if (!"deleted".equals(id)) {
+        users.put(id, new UserInfo(id, id, id));
+      }
+    }
+    return users;
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test comparing call handlers executor modes of {@link CometdWebConferencingService}: the
+ * <code>pool</code> of worker threads rejecting what they cannot run and the <code>virtual</code> threads
+ * with DB permits. Executors are created by the service factory methods, and commands of client sessions are
+ * submitted via {@link FairCommandExecutor} from a few threads playing the CometD transport. Each command blocks for a
+ * while, as the storage and organization work does, under a DB permit in virtual mode.<br>
+ * It reports for each mode: the throughput, latency of commands from submit to the end, the time transport
+ * threads spent in submit, the commands run by transport threads (should be none) and the rejected ones. Run
+ * it from the services module (virtual mode requires Java 21, on older JVMs only the pool mode is measured):
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=org.exoplatform.webconferencing.cometd.CallHandlersLoadBenchmark \
+ *   -Dexec.args="[clients] [commands per client] [command millis] [transport threads]"
+ * </pre>
+ */
+public class CallHandlersLoadBenchmark {
+
+  /** The transport thread name prefix. */
+  private static final String TRANSPORT_THREAD_PREFIX = "transport-";
+
+  /** The number of client sessions. */
+  private final int           clients;
+
+  /** The commands sent by each client. */
+  private final int           commandsPerClient;
+
+  /** The time a command blocks in milliseconds. */
+  private final long          commandMillis;
+
+  /** The number of transport threads. */
+  private final int           transports;
+
+  /**
+   * Result of a run.
+   */
+  static class Result {
+
+    /** The commands latencies in nanoseconds. */
+    final long[]        latencies;
+
+    /** The accepted commands count. */
+    final AtomicInteger accepted   = new AtomicInteger();
+
+    /** The commands run by transport threads. */
+    final LongAdder     callerRuns = new LongAdder();
+
+    /** The time transport threads spent in submit in nanoseconds. */
+    final LongAdder     submitTime = new LongAdder();
+
+    /** The rejected commands count. */
+    long                rejected;
+
+    /** The run duration in nanoseconds. */
+    long                duration;
+
+    /**
+     * Instantiates a new result.
+     *
+     * @param commands the commands number
+     */
+    Result(int commands) {
+      this.latencies = new long[commands];
+    }
+
+    /**
+     * Latency percentile in milliseconds.
+     *
+     * @param sorted the sorted latencies
+     * @param percentile the percentile
+     * @return the latency
+     */
+    static double percentile(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+      return sorted[Math.max(0, index)] / 1000000d;
+    }
+
+    /**
+     * Format the result.
+     *
+     * @param mode the mode
+     * @return the string
+     */
+    String format(String mode) {
+      long[] sorted = Arrays.stream(latencies).filter(l -> l > 0).sorted().toArray();
+      double seconds = duration / 1000000000d;
+      return String.format("%-8s %10.0f %9.1f %9.1f %9.1f %12.1f %11d %9d",
+                           mode,
+                           sorted.length / seconds,
+                           percentile(sorted, 50),
+                           percentile(sorted, 99),
+                           percentile(sorted, 100),
+                           submitTime.sum() / 1000000d,
+                           callerRuns.sum(),
+                           rejected);
+    }
+  }
+
+  /**
+   * Instantiates a new call handlers load benchmark.
+   *
+   * @param clients the clients
+   * @param commandsPerClient the commands per client
+   * @param commandMillis the command millis
+   * @param transports the transports
+   */
+  CallHandlersLoadBenchmark(int clients, int commandsPerClient, long commandMillis, int transports) {
+    this.clients = clients;
+    this.commandsPerClient = commandsPerClient;
+    this.commandMillis = commandMillis;
+    this.transports = transports;
+  }
+
+  /**
+   * Run the load on given executor.
+   *
+   * @param executor the executor
+   * @param dbPermits the DB permits or <code>null</code>
+   * @return the result
+   * @throws InterruptedException if interrupted
+   */
+  Result run(ExecutorService executor, Semaphore dbPermits) throws InterruptedException {
+    final int commands = clients * commandsPerClient;
+    final FairCommandExecutor sessionCommands = new FairCommandExecutor(executor,
+                                                                        CometdWebConferencingService.maxThreads(CometdWebConferencingService.CALL_MAX_FACTOR),
+                                                                        CometdWebConferencingService.SESSION_QUEUE_SIZE_DEFAULT);
+    final Result result = new Result(commands);
+    final CountDownLatch done = new CountDownLatch(commands);
+    final CountDownLatch start = new CountDownLatch(1);
+    List<Thread> transportThreads = new ArrayList<>();
+    for (int t = 0; t < transports; t++) {
+      final int transport = t;
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        // Each transport thread serves its share of the clients, a command of each client in turn
+        for (int c = 0; c < commandsPerClient; c++) {
+          for (int client = transport; client < clients; client += transports) {
+            final int index = c * clients + client;
+            final long submitted = System.nanoTime();
+            Runnable command = () -> {
+              if (Thread.currentThread().getName().startsWith(TRANSPORT_THREAD_PREFIX)) {
+                result.callerRuns.increment();
+              }
+              try {
+                if (dbPermits != null) {
+                  dbPermits.acquire();
+                }
+                try {
+                  // The storage work
+                  Thread.sleep(commandMillis);
+                } finally {
+                  if (dbPermits != null) {
+                    dbPermits.release();
+                  }
+                }
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              result.latencies[index] = System.nanoTime() - submitted;
+              done.countDown();
+            };
+            if (sessionCommands.submit("client" + client, command)) {
+              result.accepted.incrementAndGet();
+            } else {
+              done.countDown();
+            }
+            result.submitTime.add(System.nanoTime() - submitted);
+          }
+        }
+      }, TRANSPORT_THREAD_PREFIX + t);
+      transportThreads.add(thread);
+      thread.start();
+    }
+    long runStart = System.nanoTime();
+    start.countDown();
+    for (Thread thread : transportThreads) {
+      thread.join();
+    }
+    done.await();
+    result.duration = System.nanoTime() - runStart;
+    result.rejected = sessionCommands.getRejectedCount();
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    return result;
+  }
+
+  /**
+   * Create the workers executor of session commands in <code>pool</code> mode, as the service does.
+   *
+   * @return the executor service
+   */
+  static ExecutorService createWorkersExecutor() {
+    return CometdWebConferencingService.createWorkersExecutor(CometdWebConferencingService.CALL_WORKER_THREAD_PREFIX,
+                                                              CometdWebConferencingService.maxThreads(CometdWebConferencingService.CALL_MAX_FACTOR));
+  }
+
+  /**
+   * Run the load test in both modes.
+   *
+   * @param args the arguments: clients, commands per client, command millis and transport threads
+   * @throws InterruptedException if interrupted
+   */
+  public static void main(String[] args) throws InterruptedException {
+    int clients = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    int commandsPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    long commandMillis = args.length > 2 ? Long.parseLong(args[2]) : 5;
+    int transports = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+    CallHandlersLoadBenchmark benchmark = new CallHandlersLoadBenchmark(clients, commandsPerClient, commandMillis, transports);
+    int cpus = Runtime.getRuntime().availableProcessors();
+    int permits = Math.max(CometdWebConferencingService.MIN_MAX_THREADS, cpus * CometdWebConferencingService.CALL_DB_PERMITS_FACTOR);
+    System.out.println(clients + " clients, " + commandsPerClient + " commands each, " + commandMillis + "ms per command, "
+        + transports + " transport threads, " + cpus + " CPUs, " + permits + " DB permits");
+    System.out.println(String.format("%-8s %10s %9s %9s %9s %12s %11s %9s",
+                                     "mode",
+                                     "cmd/s",
+                                     "p50 ms",
+                                     "p99 ms",
+                                     "max ms",
+                                     "submit ms",
+                                     "caller runs",
+                                     "rejected"));
+    // Warm up the pool mode, then measure
+    benchmark.run(createWorkersExecutor(), null);
+    System.out.println(benchmark.run(createWorkersExecutor(), null).format(CometdWebConferencingService.EXECUTOR_POOL));
+    ExecutorService virtualExecutor = CometdWebConferencingService.createVirtualThreadExecutor();
+    if (virtualExecutor != null) {
+      benchmark.run(virtualExecutor, new Semaphore(permits, true));
+      System.out.println(benchmark.run(CometdWebConferencingService.createVirtualThreadExecutor(), new Semaphore(permits, true))
+                                  .format(CometdWebConferencingService.EXECUTOR_VIRTUAL));
+    } else {
+      System.out.println("Virtual threads not supported by Java " + System.getProperty("java.version"));
+    }
+  }
+}
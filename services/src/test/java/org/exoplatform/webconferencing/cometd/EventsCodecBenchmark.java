@@ -0,0 +1,510 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.exoplatform.webconferencing.CallState;
+import org.exoplatform.webconferencing.WebConferencingService;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.CallParticipantEvent;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.CallParticipantsEvent;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.CallStateEvent;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.EventProxy;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.UserCallProxy;
+
+/**
+ * Compares serialization throughput and size of user call events in the {@link EventsCodec} format and in
+ * the previous format, where every field was written by <code>writeUTF()</code> and the event state by
+ * <code>writeObject()</code>. The previous format is reproduced by the legacy classes of this benchmark, their
+ * class names are shorter of the original ones, thus the legacy sizes are a bit smaller than they were.<br>
+ * Sizes in bytes per event of both formats are printed before the run. Run it from the services module:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=org.exoplatform.webconferencing.cometd.EventsCodecBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventsCodecBenchmark {
+
+  /** The events of the benchmark. */
+  static final String[]       EVENTS = { "joined", "state", "participants" };
+
+  /** The event. */
+  @Param({ "joined", "state", "participants" })
+  private String              event;
+
+  /** The event in the compact format. */
+  private UserCallProxy       proxy;
+
+  /** The event in the legacy format. */
+  private LegacyUserCallProxy legacyProxy;
+
+  /** The encoded event in the compact format. */
+  private byte[]              bytes;
+
+  /** The encoded event in the legacy format. */
+  private byte[]              legacyBytes;
+
+  /**
+   * Base of events in the legacy format.
+   */
+  public static class LegacyEventProxy implements Externalizable {
+
+    /** The type. */
+    protected String type;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      out.writeUTF(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      this.type = in.readUTF();
+    }
+  }
+
+  /**
+   * Call event in the legacy format.
+   */
+  public static class LegacyCallEventProxy extends LegacyEventProxy {
+
+    /** The call id. */
+    protected String callId;
+
+    /** The provider type. */
+    protected String providerType;
+
+    /** The owner id. */
+    protected String ownerId;
+
+    /** The owner type. */
+    protected String ownerType;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      super.writeExternal(out);
+      out.writeUTF(callId);
+      out.writeUTF(providerType);
+      out.writeUTF(ownerId);
+      out.writeUTF(ownerType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      super.readExternal(in);
+      this.callId = in.readUTF();
+      this.providerType = in.readUTF();
+      this.ownerId = in.readUTF();
+      this.ownerType = in.readUTF();
+    }
+  }
+
+  /**
+   * Participant event in the legacy format.
+   */
+  public static class LegacyCallParticipantEvent extends LegacyCallEventProxy {
+
+    /** The part id. */
+    private String partId;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      super.writeExternal(out);
+      out.writeUTF(partId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      super.readExternal(in);
+      this.partId = in.readUTF();
+    }
+  }
+
+  /**
+   * Participants event in the legacy format.
+   */
+  public static class LegacyCallParticipantsEvent extends LegacyCallEventProxy {
+
+    /** The joined. */
+    private List<String> joined;
+
+    /** The leaved. */
+    private List<String> leaved;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      super.writeExternal(out);
+      writeIds(out, joined);
+      writeIds(out, leaved);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      super.readExternal(in);
+      this.joined = readIds(in);
+      this.leaved = readIds(in);
+    }
+
+    /**
+     * Write IDs.
+     *
+     * @param out the out
+     * @param ids the ids
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeIds(ObjectOutput out, List<String> ids) throws IOException {
+      out.writeInt(ids.size());
+      for (String id : ids) {
+        out.writeUTF(id);
+      }
+    }
+
+    /**
+     * Read IDs.
+     *
+     * @param in the in
+     * @return the list
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static List<String> readIds(ObjectInput in) throws IOException {
+      int size = in.readInt();
+      List<String> ids = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        ids.add(in.readUTF());
+      }
+      return ids;
+    }
+  }
+
+  /**
+   * Call state event in the legacy format.
+   */
+  public static class LegacyCallStateEvent extends LegacyCallEventProxy {
+
+    /** The state. */
+    private String state;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      super.writeExternal(out);
+      out.writeUTF(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      super.readExternal(in);
+      this.state = in.readUTF();
+    }
+  }
+
+  /**
+   * User call proxy in the legacy format.
+   */
+  public static class LegacyUserCallProxy implements Externalizable {
+
+    /** The user id. */
+    private String           userId;
+
+    /** The client id. */
+    private String           clientId;
+
+    /** The node id. */
+    private String           nodeId;
+
+    /** The state. */
+    private LegacyEventProxy state;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      out.writeUTF(userId);
+      out.writeUTF(clientId);
+      out.writeUTF(nodeId);
+      out.writeObject(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+      this.userId = in.readUTF();
+      this.clientId = in.readUTF();
+      this.nodeId = in.readUTF();
+      this.state = (LegacyEventProxy) in.readObject();
+    }
+  }
+
+  /**
+   * Prepare the events.
+   *
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    proxy = newProxy(event);
+    legacyProxy = newLegacyProxy(event);
+    bytes = encode(proxy);
+    legacyBytes = encode(legacyProxy);
+  }
+
+  /**
+   * Encode in the compact format.
+   *
+   * @return the bytes
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Benchmark
+  public byte[] encodeCompact() throws IOException {
+    return encode(proxy);
+  }
+
+  /**
+   * Encode in the legacy format.
+   *
+   * @return the bytes
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Benchmark
+  public byte[] encodeLegacy() throws IOException {
+    return encode(legacyProxy);
+  }
+
+  /**
+   * Decode from the compact format.
+   *
+   * @return the object
+   * @throws IOException Signals that an I/O exception has occurred.
+   * @throws ClassNotFoundException if class not found
+   */
+  @Benchmark
+  public Object decodeCompact() throws IOException, ClassNotFoundException {
+    return decode(bytes);
+  }
+
+  /**
+   * Decode from the legacy format.
+   *
+   * @return the object
+   * @throws IOException Signals that an I/O exception has occurred.
+   * @throws ClassNotFoundException if class not found
+   */
+  @Benchmark
+  public Object decodeLegacy() throws IOException, ClassNotFoundException {
+    return decode(legacyBytes);
+  }
+
+  /**
+   * Create an event in the compact format.
+   *
+   * @param event the event
+   * @return the user call proxy
+   */
+  static UserCallProxy newProxy(String event) {
+    EventProxy state;
+    switch (event) {
+    case "joined":
+      state = new CallParticipantEvent(CometdWebConferencingService.EVENT_CALL_JOINED,
+                                       "g/space/engineering_team",
+                                       "jitsi",
+                                       "engineering_team",
+                                       WebConferencingService.OWNER_TYPE_SPACE,
+                                       "john.smith");
+      break;
+    case "state":
+      state = new CallStateEvent("g/space/engineering_team",
+                                 "jitsi",
+                                 "engineering_team",
+                                 WebConferencingService.OWNER_TYPE_SPACE,
+                                 CallState.STARTED);
+      break;
+    default:
+      state = new CallParticipantsEvent("g/space/engineering_team",
+                                        "jitsi",
+                                        "engineering_team",
+                                        WebConferencingService.OWNER_TYPE_SPACE,
+                                        partIds("joined.user", 20),
+                                        partIds("leaved.user", 5));
+      break;
+    }
+    return new UserCallProxy("mary.williams", "mary.williams-1f3a9c7d", "node1", state);
+  }
+
+  /**
+   * Create an event in the legacy format.
+   *
+   * @param event the event
+   * @return the legacy user call proxy
+   */
+  static LegacyUserCallProxy newLegacyProxy(String event) {
+    LegacyCallEventProxy state;
+    switch (event) {
+    case "joined":
+      LegacyCallParticipantEvent partEvent = new LegacyCallParticipantEvent();
+      partEvent.type = CometdWebConferencingService.EVENT_CALL_JOINED;
+      partEvent.partId = "john.smith";
+      state = partEvent;
+      break;
+    case "state":
+      LegacyCallStateEvent stateEvent = new LegacyCallStateEvent();
+      stateEvent.type = CometdWebConferencingService.EVENT_CALL_STATE;
+      stateEvent.state = CallState.STARTED;
+      state = stateEvent;
+      break;
+    default:
+      LegacyCallParticipantsEvent partsEvent = new LegacyCallParticipantsEvent();
+      partsEvent.type = CometdWebConferencingService.EVENT_CALL_PARTICIPANTS;
+      partsEvent.joined = partIds("joined.user", 20);
+      partsEvent.leaved = partIds("leaved.user", 5);
+      state = partsEvent;
+      break;
+    }
+    state.callId = "g/space/engineering_team";
+    state.providerType = "jitsi";
+    state.ownerId = "engineering_team";
+    state.ownerType = WebConferencingService.OWNER_TYPE_SPACE;
+    LegacyUserCallProxy proxy = new LegacyUserCallProxy();
+    proxy.userId = "mary.williams";
+    proxy.clientId = "mary.williams-1f3a9c7d";
+    proxy.nodeId = "node1";
+    proxy.state = state;
+    return proxy;
+  }
+
+  /**
+   * Generate participant IDs.
+   *
+   * @param prefix the prefix
+   * @param count the count
+   * @return the list
+   */
+  static List<String> partIds(String prefix, int count) {
+    List<String> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(prefix + i);
+    }
+    return ids;
+  }
+
+  /**
+   * Encode the object with Java serialization.
+   *
+   * @param obj the object
+   * @return the bytes
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  static byte[] encode(Object obj) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(obj);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Decode the object with Java serialization.
+   *
+   * @param bytes the bytes
+   * @return the object
+   * @throws IOException Signals that an I/O exception has occurred.
+   * @throws ClassNotFoundException if class not found
+   */
+  static Object decode(byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    }
+  }
+
+  /**
+   * Print sizes of the events and run the benchmark.
+   *
+   * @param args the arguments
+   * @throws IOException Signals that an I/O exception has occurred.
+   * @throws RunnerException if benchmark failed
+   */
+  public static void main(String[] args) throws IOException, RunnerException {
+    for (String event : EVENTS) {
+      System.out.println("Bytes per '" + event + "' event: compact " + encode(newProxy(event)).length + ", legacy "
+          + encode(newLegacyProxy(event)).length);
+    }
+    new Runner(new OptionsBuilder().include(EventsCodecBenchmark.class.getSimpleName()).build()).run();
+  }
+}
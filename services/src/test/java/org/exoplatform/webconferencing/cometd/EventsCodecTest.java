@@ -0,0 +1,361 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.cometd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UTFDataFormatException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.exoplatform.webconferencing.CallState;
+import org.exoplatform.webconferencing.WebConferencingService;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.CallParticipantEvent;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.CallParticipantsEvent;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.CallStateEvent;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.EventProxy;
+import org.exoplatform.webconferencing.cometd.CometdWebConferencingService.UserCallProxy;
+
+/**
+ * Round-trip tests of call events in the {@link EventsCodec} format, and of its checks of malformed input.
+ */
+public class EventsCodecTest {
+
+  /** A string not in the dictionary, it will be written literally. */
+  private static final String LITERAL = "g/space/équipe_de_développement_会議";
+
+  /**
+   * Initial and closing events of an user call channel.
+   *
+   * @throws Exception if failed
+   */
+  @Test
+  public void testInitAndCloseEvents() throws Exception {
+    for (String type : Arrays.asList(EventProxy.INIT, EventProxy.CLOSE)) {
+      UserCallProxy proxy = roundTrip(new UserCallProxy("john", "client1", "node1", new EventProxy(type)),
+                                      new UserCallProxy());
+      assertUser(proxy, "john", "client1", "node1");
+      assertSame(EventProxy.class, proxy.getState().getClass());
+      assertEquals(type, proxy.getState().getType());
+    }
+  }
+
+  /**
+   * Joined and leaved participant events, with literal and dictionary strings.
+   *
+   * @throws Exception if failed
+   */
+  @Test
+  public void testParticipantEvents() throws Exception {
+    for (String type : Arrays.asList(CometdWebConferencingService.EVENT_CALL_JOINED,
+                                     CometdWebConferencingService.EVENT_CALL_LEAVED)) {
+      CallParticipantEvent event = new CallParticipantEvent(type,
+                                                            LITERAL,
+                                                            "webrtc",
+                                                            "équipe",
+                                                            WebConferencingService.OWNER_TYPE_SPACE,
+                                                            "mary");
+      UserCallProxy proxy = roundTrip(new UserCallProxy("mary", "client2", "node2", event), new UserCallProxy());
+      assertUser(proxy, "mary", "client2", "node2");
+      CallParticipantEvent read = (CallParticipantEvent) proxy.getState();
+      assertEquals(type, read.getType());
+      assertCall(read, LITERAL, "webrtc", "équipe", WebConferencingService.OWNER_TYPE_SPACE);
+      assertEquals("mary", read.getPartId());
+    }
+  }
+
+  /**
+   * Participants event with empty list and null element.
+   *
+   * @throws Exception if failed
+   */
+  @Test
+  public void testParticipantsEvent() throws Exception {
+    CallParticipantsEvent event = new CallParticipantsEvent("g/chat_room/room1",
+                                                            "a_custom_provider",
+                                                            "room1",
+                                                            WebConferencingService.OWNER_TYPE_CHATROOM,
+                                                            Arrays.asList("john", null, LITERAL),
+                                                            Collections.emptyList());
+    UserCallProxy proxy = roundTrip(new UserCallProxy("john", "client1", "node1", event), new UserCallProxy());
+    CallParticipantsEvent read = (CallParticipantsEvent) proxy.getState();
+    assertEquals(CometdWebConferencingService.EVENT_CALL_PARTICIPANTS, read.getType());
+    assertCall(read, "g/chat_room/room1", "a_custom_provider", "room1", WebConferencingService.OWNER_TYPE_CHATROOM);
+    assertEquals(Arrays.asList("john", null, LITERAL), read.getJoined());
+    assertEquals(Collections.emptyList(), read.getLeaved());
+  }
+
+  /**
+   * Call state events of all states.
+   *
+   * @throws Exception if failed
+   */
+  @Test
+  public void testStateEvents() throws Exception {
+    for (String state : Arrays.asList(CallState.STARTED, CallState.STOPPED, CallState.PAUSED)) {
+      CallStateEvent event = new CallStateEvent("p/john@mary", "jitsi", "john", WebConferencingService.OWNER_TYPE_USER, state);
+      UserCallProxy proxy = roundTrip(new UserCallProxy("john", "client1", "node1", event), new UserCallProxy());
+      CallStateEvent read = (CallStateEvent) proxy.getState();
+      assertEquals(CometdWebConferencingService.EVENT_CALL_STATE, read.getType());
+      assertCall(read, "p/john@mary", "jitsi", "john", WebConferencingService.OWNER_TYPE_USER);
+      assertEquals(state, read.getState());
+    }
+  }
+
+  /**
+   * Events with null fields.
+   *
+   * @throws Exception if failed
+   */
+  @Test
+  public void testNullFields() throws Exception {
+    CallStateEvent event = new CallStateEvent(null, null, null, null, null);
+    UserCallProxy proxy = roundTrip(new UserCallProxy("john", null, null, event), new UserCallProxy());
+    assertUser(proxy, "john", null, null);
+    CallStateEvent read = (CallStateEvent) proxy.getState();
+    assertCall(read, null, null, null, null);
+    assertNull(read.getState());
+
+    CallParticipantEvent partEvent = new CallParticipantEvent(CometdWebConferencingService.EVENT_CALL_JOINED,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null);
+    CallParticipantEvent readPart = roundTrip(partEvent, new CallParticipantEvent());
+    assertEquals(CometdWebConferencingService.EVENT_CALL_JOINED, readPart.getType());
+    assertCall(readPart, null, null, null, null);
+    assertNull(readPart.getPartId());
+  }
+
+  /**
+   * Batch of events.
+   *
+   * @throws Exception if failed
+   */
+  @Test
+  public void testEventsBatch() throws Exception {
+    EventsBatch batch = new EventsBatch("node1", EventsBatch.ALL_NODES);
+    batch.add(new UserCallProxy("john", "client1", "node1", new EventProxy(EventProxy.INIT)));
+    CallStateEvent event = new CallStateEvent(LITERAL,
+                                              "webrtc",
+                                              "équipe",
+                                              WebConferencingService.OWNER_TYPE_SPACE,
+                                              CallState.STARTED);
+    batch.add(new UserCallProxy("mary", "client2", "node1", event));
+    EventsBatch read = roundTrip(batch, new EventsBatch());
+    assertEquals("node1", read.getOrigin());
+    assertEquals(EventsBatch.ALL_NODES, read.getDestination());
+    assertEquals(2, read.getEvents().size());
+    assertUser(read.getEvents().get(0), "john", "client1", "node1");
+    assertEquals(EventProxy.INIT, read.getEvents().get(0).getState().getType());
+    assertUser(read.getEvents().get(1), "mary", "client2", "node1");
+    CallStateEvent state = (CallStateEvent) read.getEvents().get(1).getState();
+    assertCall(state, LITERAL, "webrtc", "équipe", WebConferencingService.OWNER_TYPE_SPACE);
+    assertEquals(CallState.STARTED, state.getState());
+  }
+
+  /**
+   * Strings of the dictionary, literal, empty and of max length.
+   *
+   * @throws Exception if failed
+   */
+  @Test
+  public void testStrings() throws Exception {
+    char[] max = new char[EventsCodec.MAX_STRING_LENGTH];
+    Arrays.fill(max, 'a');
+    String maxString = new String(max);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      for (String word : EventsCodec.DICTIONARY) {
+        EventsCodec.writeString(out, word);
+      }
+      EventsCodec.writeString(out, "");
+      EventsCodec.writeString(out, LITERAL);
+      EventsCodec.writeString(out, maxString);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      for (String word : EventsCodec.DICTIONARY) {
+        assertSame(word, EventsCodec.readString(in));
+      }
+      assertEquals("", EventsCodec.readString(in));
+      assertEquals(LITERAL, EventsCodec.readString(in));
+      assertEquals(maxString, EventsCodec.readString(in));
+    }
+  }
+
+  /**
+   * String too long to write.
+   *
+   * @throws Exception if failed
+   */
+  @Test(expected = UTFDataFormatException.class)
+  public void testWriteTooLongString() throws Exception {
+    char[] chars = new char[EventsCodec.MAX_STRING_LENGTH + 1];
+    Arrays.fill(chars, 'a');
+    try (ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+      EventsCodec.writeString(out, new String(chars));
+    }
+  }
+
+  /**
+   * Negative string length.
+   *
+   * @throws Exception if failed
+   */
+  @Test(expected = InvalidObjectException.class)
+  public void testNegativeStringLength() throws Exception {
+    readString(EventsCodec.LITERAL_CODE, -1);
+  }
+
+  /**
+   * String length bigger of the max.
+   *
+   * @throws Exception if failed
+   */
+  @Test(expected = InvalidObjectException.class)
+  public void testOversizedStringLength() throws Exception {
+    readString(EventsCodec.LITERAL_CODE, EventsCodec.MAX_STRING_LENGTH + 1);
+  }
+
+  /**
+   * Code not in the dictionary.
+   *
+   * @throws Exception if failed
+   */
+  @Test(expected = InvalidObjectException.class)
+  public void testUnknownCode() throws Exception {
+    readString(EventsCodec.LITERAL_CODE + EventsCodec.DICTIONARY.length + 1);
+  }
+
+  /**
+   * Negative list size.
+   *
+   * @throws Exception if failed
+   */
+  @Test(expected = InvalidObjectException.class)
+  public void testNegativeListSize() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      EventsCodec.writeVarInt(out, Integer.MIN_VALUE);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      EventsCodec.readStrings(in);
+    }
+  }
+
+  /**
+   * Unsupported format version.
+   *
+   * @throws Exception if failed
+   */
+  @Test(expected = InvalidObjectException.class)
+  public void testUnsupportedVersion() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeByte(EventsCodec.FORMAT_VERSION + 1);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      new UserCallProxy().readExternal(in);
+    }
+  }
+
+  /**
+   * Write the object and read it to given instance.
+   *
+   * @param <T> the object type
+   * @param obj the object
+   * @param target the instance to read
+   * @return the read instance
+   * @throws IOException Signals that an I/O exception has occurred.
+   * @throws ClassNotFoundException if class not found
+   */
+  private <T extends Externalizable> T roundTrip(Externalizable obj, T target) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      obj.writeExternal(out);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      target.readExternal(in);
+    }
+    return target;
+  }
+
+  /**
+   * Read a string from given varints.
+   *
+   * @param varints the varints
+   * @return the string
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private String readString(int... varints) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      for (int v : varints) {
+        EventsCodec.writeVarInt(out, v);
+      }
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return EventsCodec.readString(in);
+    }
+  }
+
+  /**
+   * Assert the user call proxy fields.
+   *
+   * @param proxy the proxy
+   * @param userId the user id
+   * @param clientId the client id
+   * @param nodeId the node id
+   */
+  private void assertUser(UserCallProxy proxy, String userId, String clientId, String nodeId) {
+    assertEquals(userId, proxy.getUserId());
+    assertEquals(clientId, proxy.getClientId());
+    assertEquals(nodeId, proxy.getNodeId());
+  }
+
+  /**
+   * Assert the call event fields.
+   *
+   * @param event the event
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   */
+  private void assertCall(CometdWebConferencingService.CallEventProxy event,
+                          String callId,
+                          String providerType,
+                          String ownerId,
+                          String ownerType) {
+    assertEquals(callId, event.getCallId());
+    assertEquals(providerType, event.getProviderType());
+    assertEquals(ownerId, event.getOwnerId());
+    assertEquals(ownerType, event.getOwnerType());
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2026 eXo Platform SAS.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.exoplatform.webconferencing.dao;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.exoplatform.webconferencing.domain.ParticipantEntity;
+import org.exoplatform.webconferencing.domain.ParticipantId;
+
+/**
+ * Compares group call members sync with participants in the storage: per-row (a find and then a create or
+ * delete for each changed member) and bulk (a single read of saved IDs, then bulk deletes and batched
+ * inserts), as done by
+ * {@link org.exoplatform.webconferencing.WebConferencingService#txSyncMembersAndParticipants}.<br>
+ * Both go through {@link ParticipantDAO} and Hibernate on the participants entity in an in-memory H2
+ * database, each sync flushed in a transaction rolled back after it. The bulk sync is measured with and
+ * without {@link ParticipantDAO#JDBC_BATCH_SIZE}, to show what the inserts cost when the batching is not
+ * configured. There is no network between the service and H2, thus the difference with a real database
+ * server will be bigger.<br>
+ * Per-row sync persists and removes entities via the entity manager directly, as
+ * <code>GenericDAOJPAImpl.create()</code> and <code>delete()</code> do, to not depend on transactional
+ * aspect of eXo container.<br>
+ * Run it from the services module:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=org.exoplatform.webconferencing.dao.ParticipantsSyncBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParticipantsSyncBenchmark {
+
+  /** The call id. */
+  private static final String  CALL_ID = "g/space/benchmark";
+
+  /** The number of the group members. */
+  @Param({ "1000", "5000" })
+  private int                  members;
+
+  /** The percent of members changed since the last sync: left the group and new ones. */
+  @Param({ "10", "100" })
+  private int                  changedPercent;
+
+  /** The JDBC batch size, 1 means no batching. */
+  @Param({ "1", "50" })
+  private int                  batchSize;
+
+  /** The entity manager factory. */
+  private EntityManagerFactory emf;
+
+  /** The entity manager. */
+  private EntityManager        em;
+
+  /** The participants DAO. */
+  private ParticipantDAO       dao;
+
+  /** The saved participants not members anymore. */
+  private List<String>         leftMembers;
+
+  /** The new members not yet saved as participants. */
+  private List<String>         newMembers;
+
+  /**
+   * Creates the schema and saves the call participants.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    emf = new Configuration().addAnnotatedClass(ParticipantEntity.class)
+                             .setProperty("hibernate.connection.url",
+                                          "jdbc:h2:mem:wbc_" + members + "_" + changedPercent + "_" + batchSize
+                                              + ";DB_CLOSE_DELAY=-1")
+                             .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                             .setProperty(ParticipantDAO.JDBC_BATCH_SIZE, String.valueOf(batchSize))
+                             .buildSessionFactory();
+    em = emf.createEntityManager();
+    dao = new ParticipantDAO() {
+      @Override
+      public EntityManager getEntityManager() {
+        return em;
+      }
+    };
+    int changed = members * changedPercent / 100;
+    leftMembers = new ArrayList<>();
+    newMembers = new ArrayList<>();
+    List<ParticipantEntity> parts = new ArrayList<>();
+    for (int i = 0; i < members; i++) {
+      String id = "user" + i;
+      parts.add(participant(id));
+      if (i < changed) {
+        leftMembers.add(id);
+      }
+    }
+    em.getTransaction().begin();
+    dao.createAll(parts);
+    em.getTransaction().commit();
+    em.clear();
+    for (int i = members; i < members + changed; i++) {
+      newMembers.add("user" + i);
+    }
+  }
+
+  /**
+   * Closes the database.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    em.close();
+    emf.close();
+  }
+
+  /**
+   * Begins a transaction of the sync.
+   */
+  @Setup(Level.Invocation)
+  public void begin() {
+    em.getTransaction().begin();
+  }
+
+  /**
+   * Reverts the sync changes.
+   */
+  @TearDown(Level.Invocation)
+  public void rollback() {
+    em.getTransaction().rollback();
+    em.clear();
+  }
+
+  /**
+   * Sync with a find and then a delete or a create for each changed member.
+   *
+   * @return the number of changed rows
+   */
+  @Benchmark
+  public int syncPerRow() {
+    int changed = 0;
+    for (String id : leftMembers) {
+      ParticipantEntity part = dao.find(new ParticipantId(id, CALL_ID));
+      if (part != null) {
+        em.remove(part);
+        changed++;
+      }
+    }
+    for (String id : newMembers) {
+      if (dao.find(new ParticipantId(id, CALL_ID)) == null) {
+        em.persist(participant(id));
+        changed++;
+      }
+    }
+    em.flush();
+    return changed;
+  }
+
+  /**
+   * Sync with a single read of saved IDs, then bulk deletes and batched inserts.
+   *
+   * @return the number of changed rows
+   */
+  @Benchmark
+  public int syncBulk() {
+    Set<String> savedIds = new HashSet<>(dao.findCallPartIds(CALL_ID));
+    int changed = 0;
+    List<String> deleteIds = new ArrayList<>();
+    for (String id : leftMembers) {
+      if (savedIds.remove(id)) {
+        deleteIds.add(id);
+      }
+    }
+    if (deleteIds.size() > 0) {
+      changed += dao.deleteCallParts(CALL_ID, deleteIds);
+    }
+    List<ParticipantEntity> createParts = new ArrayList<>();
+    for (String id : newMembers) {
+      if (savedIds.add(id)) {
+        createParts.add(participant(id));
+      }
+    }
+    if (createParts.size() > 0) {
+      dao.createAll(createParts);
+      changed += createParts.size();
+    }
+    em.flush();
+    return changed;
+  }
+
+  /**
+   * Create participant entity of the call.
+   *
+   * @param id the participant id
+   * @return the participant entity
+   */
+  private ParticipantEntity participant(String id) {
+    ParticipantEntity part = new ParticipantEntity();
+    part.setId(id);
+    part.setCallId(CALL_ID);
+    part.setType("user");
+    part.setState("leaved");
+    return part;
+  }
+
+  /**
+   * Run the benchmark.
+   *
+   * @param args the arguments
+   * @throws RunnerException if benchmark failed
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ParticipantsSyncBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -512,6 +512,10 @@
 								if (currentUserId == update.part.id) {
 									unlockCallButton(callId);
 								}
+							} else if (update.eventType == "call_participants") {
+								// Several other participants joined and/or leaved the call during a short time, 
+								// changes of the user itself come in call_joined and call_leaved events.
+								log.debug("User call participants changed: " + update.callId + " joined: " + update.joined + " leaved: " + update.leaved);
 							} else {
 								log.debug("Unexpected user update: " + JSON.stringify(update));
 							}
@@ -72,6 +72,34 @@
 		return $.extend(params, cCometD.eXoSecret, cometdContext);
 	};
 	
+	// Remote calls rejected by the server as busy will be repeated after a pause, but not more than this times
+	var CALLS_BUSY_ATTEMPTS = 3;
+	
+	/**
+	 * Invoke a remote call on calls channel. If the server is busy with requests of this client it will answer 
+	 * with BUSY_ERROR and a time to retry after, then the call will be repeated.
+	 */
+	var callsRemoteCall = function(callProps, callback, attempt) {
+		attempt = attempt ? attempt : 1;
+		cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+			if (!response.successful && attempt < CALLS_BUSY_ATTEMPTS) {
+				var result = tryParseJson(response);
+				if (result && result.code == "BUSY_ERROR") {
+					var retryAfter = result.retryAfter ? result.retryAfter : 1000;
+					log.debug("Server busy, will retry call " + callProps.command + " in " + retryAfter + "ms, attempt: " + attempt);
+					setTimeout(function() {
+						callsRemoteCall(callProps, callback, attempt + 1);
+					}, retryAfter);
+					return;
+				}
+			}
+			callback(response);
+		});
+	};
+	
+	// Maximum log records sent in a single remote call (server accepts up to 500)
+	var LOG_RECORDS_MAX = 100;
+	
 	/**
 	 * Spools buffered logs to CometD channel.
 	 */
@@ -84,15 +112,16 @@
 				if (cometd) {
 					var bucket = buff; 
 					buff = [];
-					// spool in CometD batch
+					// spool whole bucket as records of remote calls (in CometD batch if it's bigger than a call can carry)
 					try {
 						cometd.batch(function() {
-							for (var i=0; i<bucket.length; i++) {
-								var msg = bucket[i];
-								cometd.remoteCall("/webconferencing/logs", msg, function(response) {
-									var result = tryParseJson(response);
+							for (var i=0; i<bucket.length; i+=LOG_RECORDS_MAX) {
+								var records = bucket.slice(i, i + LOG_RECORDS_MAX);
+								cometd.remoteCall("/webconferencing/logs", cometdParams({
+									records : records
+								}), function(response) {
 									if (!response.successful) {
-										log.trace("ERROR: Failed to send log message to remote spooler", cometdError(response));
+										log.trace("ERROR: Failed to send log messages to remote spooler", cometdError(response));
 									}
 								});
 							}
@@ -179,13 +208,14 @@
 				} else {
 					data = message;
 				}
-				var msg = cometdParams({
+				// user and client params will be added to whole bucket of records by the spooler
+				var msg = {
 					data : data,
 					level : level,
 					prefix : prefix,
 					provider : providerType,
 					timestamp : date
-				});
+				};
 				logSpooler.add(msg);
 			} // else, remote spooler not set			
 		};
@@ -754,6 +784,7 @@
 		var contextInitializer = $.Deferred();
 
 		var currentUser, currentSpaceId, currentRoomTitle;
+		var callChannelEvents = false;
 
 		// Providers
 		var providers = []; // loaded providers
@@ -1128,6 +1159,7 @@
 					} else {
 						currentRoomTitle = null;
 					}
+					callChannelEvents = context.callChannelEvents ? true : false;
 
 					// init CometD connectivity
 					if (context.cometdPath) {
@@ -1209,6 +1241,14 @@
 			return currentRoomTitle;
 		};
 
+		/**
+		 * If true, other participants joined and leaved a call will be published in the call channel (see onCallUpdate())
+		 * instead of user channel (see onUserUpdate()). Own user changes and call state updates will come to user channel in any case.
+		 */
+		this.isCallChannelEvents = function() {
+			return callChannelEvents;
+		};
+
 		this.getBaseUrl = function() {
 			return pageBaseUrl();
 		};
@@ -1343,7 +1383,7 @@
 					command : "get",
 					id : id
 				});
-				cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+				callsRemoteCall(callProps, function(response) {
 					var result = tryParseJson(response);
 					if (response.successful) {
 					  process.resolve(result);
@@ -1408,7 +1448,7 @@
           name : name,
           command : "get_org_identities"
         });
-        cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+        callsRemoteCall(callProps, function(response) {
           var result = tryParseJson(response);
           if (response.successful) {
             process.resolve(result);
@@ -1435,7 +1475,7 @@
           id : id,
           inviteId : inviteId
         });
-        cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+        callsRemoteCall(callProps, function(response) {
           var result = tryParseJson(response);
           if (response.successful) {
             process.resolve(result);
@@ -1463,7 +1503,7 @@
           id : id,
           invites : invites
         });
-        cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+        callsRemoteCall(callProps, function(response) {
           var result = tryParseJson(response);
           if (response.successful) {
             process.resolve(result);
@@ -1489,7 +1529,7 @@
           id : id,
           guestId : guestId
         });
-        cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+        callsRemoteCall(callProps, function(response) {
           var result = tryParseJson(response);
           if (response.successful) {
             process.resolve(result);
@@ -1515,7 +1555,7 @@
           id : id,
           participants : participants
         });
-        cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+        callsRemoteCall(callProps, function(response) {
           var result = tryParseJson(response);
           if (response.successful) {
             process.resolve(result);
@@ -1553,7 +1593,7 @@
               state : state
             });
           }
-          cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+          callsRemoteCall(callProps, function(response) {
             var result = tryParseJson(response);
             if (response.successful) {
               self.getProvider(result.providerType)
@@ -1600,7 +1640,7 @@
 					command : "delete",
 					id : id
 				});
-				cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+				callsRemoteCall(callProps, function(response) {
 					var result = tryParseJson(response);
 					if (response.successful) {
 					  process.resolve(result);
@@ -1637,7 +1677,7 @@
             start : start,
             id : id
           }));
-          cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+          callsRemoteCall(callProps, function(response) {
             var result = tryParseJson(response);
             if (response.successful) {
               if (callUrl && !result.url) {
@@ -1719,7 +1759,7 @@
 					id : currentUser.id,
 					command : "get_calls_state"
 				});
-				cometd.remoteCall("/webconferencing/calls", callProps, function(response) {
+				callsRemoteCall(callProps, function(response) {
 					var result = tryParseJson(response);
 					if (response.successful) {
 					  process.resolve(result);